@@ -0,0 +1,98 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.benchmarks.Sources.consume;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.CartesianProduct.cartesianProduct;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartesianProductBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Sides {
+
+        @Param({"ArrayList", "LinkedList"})
+        public String list;
+
+        @Param({"100"})
+        public int side;
+
+        public List<Integer> left;
+        public List<Integer> right;
+
+        @Setup
+        public void setUp() {
+            left = list.equals("ArrayList") ? new ArrayList<>(side) : new LinkedList<>();
+            right = list.equals("ArrayList") ? new ArrayList<>(side) : new LinkedList<>();
+            for (int i = 0; i < side; i++) {
+                left.add(i);
+                right.add(-i);
+            }
+        }
+    }
+
+    @Benchmark
+    public void lambda(Sides sides, Blackhole bh) {
+        consume(bh, cartesianProduct(sides.left, sides.right));
+    }
+
+    @Benchmark
+    public void stream(Sides sides, Blackhole bh) {
+        sides.left.stream().flatMap(a -> sides.right.stream().map(b -> tuple(a, b))).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void loop(Sides sides, Blackhole bh) {
+        for (Integer a : sides.left)
+            for (Integer b : sides.right)
+                bh.consume(tuple(a, b));
+    }
+
+    @Benchmark
+    public void lambdaInfinite(Sides sides, Sources.Infinite source, Blackhole bh) {
+        consume(bh, take(source.elements, cartesianProduct(iterate(x -> x + 1, 0), sides.right)));
+    }
+
+    @Benchmark
+    public void streamInfinite(Sides sides, Sources.Infinite source, Blackhole bh) {
+        Stream.iterate(0, x -> x + 1)
+                .flatMap(a -> sides.right.stream().map(b -> tuple(a, b)))
+                .limit(source.elements)
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void loopInfinite(Sides sides, Sources.Infinite source, Blackhole bh) {
+        int emitted = 0;
+        for (int a = 0; emitted < source.elements; a++)
+            for (Integer b : sides.right) {
+                if (emitted++ == source.elements)
+                    return;
+                bh.consume(tuple(a, b));
+            }
+    }
+}
@@ -0,0 +1,124 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import com.jnape.palatable.lambda.adt.choice.Choice2;
+import com.jnape.palatable.lambda.adt.choice.Choice3;
+import com.jnape.palatable.lambda.adt.choice.Choice4;
+import com.jnape.palatable.lambda.adt.choice.Choice5;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <code>match</code> over arrays of <code>ChoiceN</code>s whose variants cycle through every possible case, so the
+ * dispatch in each benchmark sees as many receiver types as its arity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChoiceBenchmark {
+
+    private static final int ELEMENTS = 1020;
+
+    private Choice2<Integer, Integer>[]                            choice2s;
+    private Choice3<Integer, Integer, Integer>[]                   choice3s;
+    private Choice4<Integer, Integer, Integer, Integer>[]          choice4s;
+    private Choice5<Integer, Integer, Integer, Integer, Integer>[] choice5s;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        choice2s = new Choice2[ELEMENTS];
+        choice3s = new Choice3[ELEMENTS];
+        choice4s = new Choice4[ELEMENTS];
+        choice5s = new Choice5[ELEMENTS];
+        for (int i = 0; i < ELEMENTS; i++) {
+            choice2s[i] = i % 2 == 0 ? Choice2.a(i) : Choice2.b(i);
+            choice3s[i] = choice3(i);
+            choice4s[i] = choice4(i);
+            choice5s[i] = choice5(i);
+        }
+    }
+
+    @Benchmark
+    public int matchChoice2() {
+        int sum = 0;
+        for (Choice2<Integer, Integer> choice : choice2s)
+            sum += choice.match(a -> a, b -> -b);
+        return sum;
+    }
+
+    @Benchmark
+    public int matchChoice3() {
+        int sum = 0;
+        for (Choice3<Integer, Integer, Integer> choice : choice3s)
+            sum += choice.match(a -> a, b -> -b, c -> c * 2);
+        return sum;
+    }
+
+    @Benchmark
+    public int matchChoice4() {
+        int sum = 0;
+        for (Choice4<Integer, Integer, Integer, Integer> choice : choice4s)
+            sum += choice.match(a -> a, b -> -b, c -> c * 2, d -> d * 3);
+        return sum;
+    }
+
+    @Benchmark
+    public int matchChoice5() {
+        int sum = 0;
+        for (Choice5<Integer, Integer, Integer, Integer, Integer> choice : choice5s)
+            sum += choice.match(a -> a, b -> -b, c -> c * 2, d -> d * 3, e -> e * 4);
+        return sum;
+    }
+
+    private static Choice3<Integer, Integer, Integer> choice3(int i) {
+        switch (i % 3) {
+            case 0:
+                return Choice3.a(i);
+            case 1:
+                return Choice3.b(i);
+            default:
+                return Choice3.c(i);
+        }
+    }
+
+    private static Choice4<Integer, Integer, Integer, Integer> choice4(int i) {
+        switch (i % 4) {
+            case 0:
+                return Choice4.a(i);
+            case 1:
+                return Choice4.b(i);
+            case 2:
+                return Choice4.c(i);
+            default:
+                return Choice4.d(i);
+        }
+    }
+
+    private static Choice5<Integer, Integer, Integer, Integer, Integer> choice5(int i) {
+        switch (i % 5) {
+            case 0:
+                return Choice5.a(i);
+            case 1:
+                return Choice5.b(i);
+            case 2:
+                return Choice5.c(i);
+            case 3:
+                return Choice5.d(i);
+            default:
+                return Choice5.e(i);
+        }
+    }
+}
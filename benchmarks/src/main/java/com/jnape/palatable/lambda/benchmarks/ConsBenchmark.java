@@ -0,0 +1,62 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.jnape.palatable.lambda.benchmarks.Sources.consume;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsBenchmark {
+
+    @Benchmark
+    public void lambda(Sources.Finite source, Blackhole bh) {
+        consume(bh, cons(-1, source.ints));
+    }
+
+    @Benchmark
+    public void stream(Sources.Finite source, Blackhole bh) {
+        Stream.concat(Stream.of(-1), source.ints.stream()).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void loop(Sources.Finite source, Blackhole bh) {
+        bh.consume(-1);
+        for (Integer x : source.ints)
+            bh.consume(x);
+    }
+
+    @Benchmark
+    public void lambdaInfinite(Sources.Infinite source, Blackhole bh) {
+        consume(bh, take(source.elements, cons(-1, iterate(x -> x + 1, 0))));
+    }
+
+    @Benchmark
+    public void streamInfinite(Sources.Infinite source, Blackhole bh) {
+        Stream.concat(Stream.of(-1), Stream.iterate(0, x -> x + 1)).limit(source.elements).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void loopInfinite(Sources.Infinite source, Blackhole bh) {
+        bh.consume(-1);
+        Iterator<Integer> naturals = iterate((Integer x) -> x + 1, 0).iterator();
+        for (int i = 1; i < source.elements; i++)
+            bh.consume(naturals.next());
+    }
+}
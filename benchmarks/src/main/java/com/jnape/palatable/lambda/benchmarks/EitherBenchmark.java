@@ -0,0 +1,67 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import com.jnape.palatable.lambda.adt.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.jnape.palatable.lambda.adt.Either.left;
+import static com.jnape.palatable.lambda.adt.Either.right;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EitherBenchmark {
+
+    private static final int ELEMENTS = 1024;
+
+    private Either<String, Integer>[] eithers;
+    private int                       value;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        eithers = new Either[ELEMENTS];
+        for (int i = 0; i < ELEMENTS; i++)
+            eithers[i] = i % 2 == 0 ? right(i) : left(String.valueOf(i));
+        value = 42;
+    }
+
+    @Benchmark
+    public Either<String, Integer> construct() {
+        return right(value);
+    }
+
+    @Benchmark
+    public int match() {
+        int sum = 0;
+        for (Either<String, Integer> either : eithers)
+            sum += either.match(String::length, x -> x);
+        return sum;
+    }
+
+    @Benchmark
+    public int fmapThenMatch() {
+        int sum = 0;
+        for (Either<String, Integer> either : eithers)
+            sum += either.fmap(x -> x + 1).match(String::length, x -> x);
+        return sum;
+    }
+
+    @Benchmark
+    public Either<String, Integer> rightFmap() {
+        return Either.<String, Integer>right(value).fmap(x -> x + 1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.jnape.palatable.lambda.benchmarks.Sources.consume;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+    @Benchmark
+    public void lambda(Sources.Finite source, Blackhole bh) {
+        consume(bh, filter(x -> x % 2 == 0, source.ints));
+    }
+
+    @Benchmark
+    public void stream(Sources.Finite source, Blackhole bh) {
+        source.ints.stream().filter(x -> x % 2 == 0).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void loop(Sources.Finite source, Blackhole bh) {
+        for (Integer x : source.ints)
+            if (x % 2 == 0)
+                bh.consume(x);
+    }
+
+    @Benchmark
+    public void lambdaInfinite(Sources.Infinite source, Blackhole bh) {
+        consume(bh, take(source.elements, filter(x -> x % 2 == 0, iterate(x -> x + 1, 0))));
+    }
+
+    @Benchmark
+    public void streamInfinite(Sources.Infinite source, Blackhole bh) {
+        Stream.iterate(0, x -> x + 1).filter(x -> x % 2 == 0).limit(source.elements).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void loopInfinite(Sources.Infinite source, Blackhole bh) {
+        Iterator<Integer> naturals = iterate((Integer x) -> x + 1, 0).iterator();
+        int taken = 0;
+        while (taken < source.elements) {
+            Integer x = naturals.next();
+            if (x % 2 == 0) {
+                bh.consume(x);
+                taken++;
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.DropWhile.dropWhile;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.TakeWhile.takeWhile;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class FilterChainBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private List<Integer> ints;
+
+    @Setup
+    public void setUp() {
+        ints = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            ints.add(i);
+    }
+
+    @Benchmark
+    public void filtersSeparatedByMaps(Blackhole bh) {
+        consume(bh, filter(x -> x % 3 != 0, map(x -> x + 1,
+                    filter(x -> x % 5 != 0, map(x -> x + 1,
+                    filter(x -> x % 7 != 0, map(x -> x + 1,
+                    filter(x -> x % 11 != 0, map(x -> x + 1,
+                    filter(x -> x % 13 != 0, ints))))))))));
+    }
+
+    @Benchmark
+    public void takeWhileAndDropWhileStages(Blackhole bh) {
+        consume(bh, takeWhile(x -> x < size - 1, dropWhile(x -> x < 1,
+                    takeWhile(x -> x < size - 2, dropWhile(x -> x < 2,
+                    filter(x -> x % 3 != 0, ints))))));
+    }
+
+    private static void consume(Blackhole bh, Iterable<Integer> ints) {
+        for (Integer i : ints)
+            bh.consume(i);
+    }
+}
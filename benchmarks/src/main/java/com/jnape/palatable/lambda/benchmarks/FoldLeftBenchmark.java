@@ -0,0 +1,63 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FoldLeftBenchmark {
+
+    @Benchmark
+    public long lambda(Sources.Finite source) {
+        return foldLeft((acc, x) -> acc + x, 0L, source.ints);
+    }
+
+    @Benchmark
+    public long stream(Sources.Finite source) {
+        return source.ints.stream().reduce(0L, (acc, x) -> acc + x, (acc1, acc2) -> acc1 + acc2);
+    }
+
+    @Benchmark
+    public long loop(Sources.Finite source) {
+        long acc = 0L;
+        for (Integer x : source.ints)
+            acc += x;
+        return acc;
+    }
+
+    @Benchmark
+    public long lambdaInfinite(Sources.Infinite source) {
+        return foldLeft((acc, x) -> acc + x, 0L, take(source.elements, iterate(x -> x + 1, 0)));
+    }
+
+    @Benchmark
+    public long streamInfinite(Sources.Infinite source) {
+        return Stream.iterate(0, x -> x + 1).limit(source.elements)
+                .reduce(0L, (acc, x) -> acc + x, (acc1, acc2) -> acc1 + acc2);
+    }
+
+    @Benchmark
+    public long loopInfinite(Sources.Infinite source) {
+        Iterator<Integer> naturals = iterate((Integer x) -> x + 1, 0).iterator();
+        long acc = 0L;
+        for (int i = 0; i < source.elements; i++)
+            acc += naturals.next();
+        return acc;
+    }
+}
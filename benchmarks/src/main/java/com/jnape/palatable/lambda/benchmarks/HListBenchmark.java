@@ -0,0 +1,105 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import com.jnape.palatable.lambda.adt.hlist.HList.HCons;
+import com.jnape.palatable.lambda.adt.hlist.Index;
+import com.jnape.palatable.lambda.adt.hlist.SingletonHList;
+import com.jnape.palatable.lambda.adt.hlist.Tuple5;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.cons;
+import static com.jnape.palatable.lambda.adt.hlist.HList.singletonHList;
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+
+/**
+ * Construction of <code>Tuple2</code> through <code>Tuple5</code>, which cons onto smaller tuples, and element access
+ * on tuples and on an eight-element <code>HList</code>, by accessor and by {@link Index}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HListBenchmark {
+
+    private int                                                 value;
+    private Tuple5<Integer, Integer, Integer, Integer, Integer> tuple5;
+
+    private HCons<Integer, HCons<Integer, HCons<Integer, HCons<Integer, HCons<Integer, HCons<Integer, HCons<Integer,
+            SingletonHList<Integer>>>>>>>> hList8;
+
+    private Index<Integer, HCons<Integer, ?>> first;
+
+    private Index<Integer, HCons<Integer, ? extends HCons<Integer, ? extends HCons<Integer, ? extends HCons<Integer,
+            ? extends HCons<Integer, ?>>>>>> fifth;
+
+    private Index<Integer, HCons<Integer, ? extends HCons<Integer, ? extends HCons<Integer, ? extends HCons<Integer,
+            ? extends HCons<Integer, ? extends HCons<Integer, ? extends HCons<Integer, ? extends HCons<Integer,
+            ?>>>>>>>>> eighth;
+
+    @Setup
+    public void setUp() {
+        value = 42;
+        tuple5 = tuple(1, 2, 3, 4, 5);
+        hList8 = cons(1, cons(2, cons(3, cons(4, cons(5, cons(6, cons(7, singletonHList(8))))))));
+        first = Index.index();
+        fifth = first.<Integer>after().<Integer>after().<Integer>after().after();
+        eighth = fifth.<Integer>after().<Integer>after().after();
+    }
+
+    @Benchmark
+    public Object constructTuple2() {
+        return tuple(value, value);
+    }
+
+    @Benchmark
+    public Object constructTuple3() {
+        return tuple(value, value, value);
+    }
+
+    @Benchmark
+    public Object constructTuple4() {
+        return tuple(value, value, value, value);
+    }
+
+    @Benchmark
+    public Object constructTuple5() {
+        return tuple(value, value, value, value, value);
+    }
+
+    @Benchmark
+    public Integer tuple5Accessor() {
+        return tuple5._5();
+    }
+
+    @Benchmark
+    public Integer tuple5Index() {
+        return fifth.get(tuple5);
+    }
+
+    @Benchmark
+    public Integer hList8IndexFirst() {
+        return first.get(hList8);
+    }
+
+    @Benchmark
+    public Integer hList8IndexFifth() {
+        return fifth.get(hList8);
+    }
+
+    @Benchmark
+    public Integer hList8IndexEighth() {
+        return eighth.get(hList8);
+    }
+}
@@ -0,0 +1,66 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import com.jnape.palatable.lambda.adt.hmap.HMap;
+import com.jnape.palatable.lambda.adt.hmap.TypeSafeKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.jnape.palatable.lambda.adt.hmap.HMap.emptyHMap;
+import static com.jnape.palatable.lambda.adt.hmap.TypeSafeKey.typeSafeKey;
+
+/**
+ * <code>put</code> and <code>get</code> on an <code>HMap</code> of <code>keys</code> entries. <code>put</code> copies
+ * the backing map, so its cost is expected to grow with <code>keys</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HMapBenchmark {
+
+    @Param({"1", "8", "64", "1024"})
+    private int keys;
+
+    private HMap                 hMap;
+    private TypeSafeKey<Integer> presentKey;
+    private TypeSafeKey<Integer> absentKey;
+
+    @Setup
+    public void setUp() {
+        hMap = emptyHMap();
+        presentKey = typeSafeKey();
+        absentKey = typeSafeKey();
+        hMap = hMap.put(presentKey, 0);
+        for (int i = 1; i < keys; i++)
+            hMap = hMap.put(typeSafeKey(), i);
+    }
+
+    @Benchmark
+    public HMap putNewKey() {
+        return hMap.put(absentKey, 42);
+    }
+
+    @Benchmark
+    public HMap putExistingKey() {
+        return hMap.put(presentKey, 42);
+    }
+
+    @Benchmark
+    public Optional<Integer> get() {
+        return hMap.get(presentKey);
+    }
+}
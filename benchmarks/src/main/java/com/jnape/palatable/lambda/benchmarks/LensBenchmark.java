@@ -0,0 +1,123 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import com.jnape.palatable.lambda.lens.Lens;
+import com.jnape.palatable.lambda.lens.lenses.HListLens;
+import com.jnape.palatable.lambda.lens.lenses.ListLens;
+import com.jnape.palatable.lambda.lens.lenses.MapLens;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.singletonHList;
+import static com.jnape.palatable.lambda.lens.Lens.simpleLens;
+import static com.jnape.palatable.lambda.lens.functions.Over.over;
+import static com.jnape.palatable.lambda.lens.functions.Set.set;
+import static com.jnape.palatable.lambda.lens.functions.View.view;
+
+/**
+ * <code>view</code>, <code>set</code>, and <code>over</code> through a lens composed <code>depth</code> times out of
+ * the same kind of lens, focusing on a value nested <code>depth</code> levels deep. Run with <code>-prof gc</code> to
+ * report allocation per operation alongside throughput. <code>MapLens</code> and <code>ListLens</code> update their
+ * structures in place, so <code>set</code> and <code>over</code> on those mutate the benchmark state, as they would
+ * in use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LensBenchmark {
+
+    @Param({"MapLens", "ListLens", "HListLens", "simpleLens"})
+    private String lens;
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+    private int depth;
+
+    private Lens.Simple<Object, Object> composed;
+    private Object                      root;
+
+    @Setup
+    public void setUp() {
+        Lens.Simple<Object, Object> level = level();
+        composed = level;
+        root = nest(0);
+        for (int i = 1; i < depth; i++) {
+            composed = composed.andThen(level);
+            root = nest(root);
+        }
+    }
+
+    @Benchmark
+    public Object viewFocus() {
+        return view(composed, root);
+    }
+
+    @Benchmark
+    public Object setFocus() {
+        return set(composed, 1, root);
+    }
+
+    @Benchmark
+    public Object overFocus() {
+        return over(composed, x -> (Integer) x + 1, root);
+    }
+
+    private Lens.Simple<Object, Object> level() {
+        switch (lens) {
+            case "MapLens":
+                return erased(MapLens.valueAt("key", null));
+            case "ListLens":
+                return erased(ListLens.elementAt(0, null));
+            case "HListLens":
+                return erased(HListLens.head());
+            default:
+                return simpleLens(box -> ((Box) box).contents, (box, contents) -> new Box(contents));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S, A> Lens.Simple<Object, Object> erased(Lens.Simple<S, A> lens) {
+        return (Lens.Simple<Object, Object>) (Lens.Simple<?, ?>) lens;
+    }
+
+    private Object nest(Object contents) {
+        switch (lens) {
+            case "MapLens":
+                Map<String, Object> map = new HashMap<>();
+                map.put("key", contents);
+                return map;
+            case "ListLens":
+                List<Object> list = new ArrayList<>();
+                list.add(contents);
+                return list;
+            case "HListLens":
+                return singletonHList(contents);
+            default:
+                return new Box(contents);
+        }
+    }
+
+    private static final class Box {
+        private final Object contents;
+
+        private Box(Object contents) {
+            this.contents = contents;
+        }
+    }
+}
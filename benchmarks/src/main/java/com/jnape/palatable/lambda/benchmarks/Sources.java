@@ -0,0 +1,52 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Benchmark states shared by the iterable builtin benchmarks. Benchmarks over {@link Finite} run once per backing
+ * list type; benchmarks over {@link Infinite} pull a fixed number of elements from an unbounded source.
+ */
+public final class Sources {
+
+    private Sources() {
+    }
+
+    @State(Scope.Benchmark)
+    public static class Finite {
+
+        @Param({"ArrayList", "LinkedList"})
+        public String list;
+
+        @Param({"10000"})
+        public int size;
+
+        public List<Integer> ints;
+
+        @Setup
+        public void setUp() {
+            ints = list.equals("ArrayList") ? new ArrayList<>(size) : new LinkedList<>();
+            for (int i = 0; i < size; i++)
+                ints.add(i);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Infinite {
+
+        @Param({"10000"})
+        public int elements;
+    }
+
+    public static void consume(Blackhole bh, Iterable<?> iterable) {
+        for (Object o : iterable)
+            bh.consume(o);
+    }
+}
@@ -0,0 +1,59 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.All.all;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TerminalOperationBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private List<Integer> ints;
+
+    @Setup
+    public void setUp() {
+        ints = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            ints.add(i);
+    }
+
+    @Benchmark
+    public long foldLeftOverFilteredMap() {
+        return foldLeft((acc, x) -> acc + x, 0L, filter(x -> x % 3 != 0, map(x -> x * 2, ints)));
+    }
+
+    @Benchmark
+    public boolean allOverFilteredMap() {
+        return all(x -> x >= 0, filter(x -> x % 3 != 0, map(x -> x * 2, ints)));
+    }
+
+    @Benchmark
+    public List<Integer> toCollectionOfFilteredMap() {
+        return toCollection(ArrayList::new, filter(x -> x % 3 != 0, map(x -> x * 2, ints)));
+    }
+}
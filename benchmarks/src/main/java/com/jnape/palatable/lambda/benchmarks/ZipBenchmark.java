@@ -0,0 +1,66 @@
+package com.jnape.palatable.lambda.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.benchmarks.Sources.consume;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Zip.zip;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZipBenchmark {
+
+    @Benchmark
+    public void lambda(Sources.Finite source, Blackhole bh) {
+        consume(bh, zip(source.ints, source.ints));
+    }
+
+    @Benchmark
+    public void stream(Sources.Finite source, Blackhole bh) {
+        Iterator<Integer> bs = source.ints.iterator();
+        source.ints.stream().map(a -> tuple(a, bs.next())).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void loop(Sources.Finite source, Blackhole bh) {
+        Iterator<Integer> as = source.ints.iterator();
+        Iterator<Integer> bs = source.ints.iterator();
+        while (as.hasNext() && bs.hasNext())
+            bh.consume(tuple(as.next(), bs.next()));
+    }
+
+    @Benchmark
+    public void lambdaInfinite(Sources.Infinite source, Blackhole bh) {
+        consume(bh, take(source.elements, zip(iterate(x -> x + 1, 0), iterate(x -> x - 1, 0))));
+    }
+
+    @Benchmark
+    public void streamInfinite(Sources.Infinite source, Blackhole bh) {
+        Iterator<Integer> bs = Stream.iterate(0, x -> x - 1).iterator();
+        Stream.iterate(0, x -> x + 1).map(a -> tuple(a, bs.next())).limit(source.elements).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void loopInfinite(Sources.Infinite source, Blackhole bh) {
+        Iterator<Integer> as = iterate((Integer x) -> x + 1, 0).iterator();
+        Iterator<Integer> bs = iterate((Integer x) -> x - 1, 0).iterator();
+        for (int i = 0; i < source.elements; i++)
+            bh.consume(tuple(as.next(), bs.next()));
+    }
+}
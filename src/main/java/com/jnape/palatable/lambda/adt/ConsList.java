@@ -0,0 +1,216 @@
+package com.jnape.palatable.lambda.adt;
+
+import com.jnape.palatable.lambda.functor.Functor;
+import com.jnape.palatable.lambda.iterators.ImmutableIterator;
+import com.jnape.palatable.lambda.iterators.SizedIterable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A persistent, immutable, singly-linked list. Consing onto a <code>ConsList</code> is constant time and shares the
+ * existing list as its tail, so a list built by repeated consing iterates in constant time per element, regardless of
+ * how it was built. <code>ConsList</code>s are <code>Functor</code>s over their elements.
+ *
+ * @param <A> the element type
+ * @see com.jnape.palatable.lambda.functions.builtin.fn2.Cons
+ */
+public abstract class ConsList<A> implements SizedIterable<A>, Functor<A> {
+
+    private ConsList() {
+    }
+
+    /**
+     * Cons an element onto the front of this list, sharing this list as the tail.
+     *
+     * @param a the new head element
+     * @return the updated list
+     */
+    public final ConsList<A> cons(A a) {
+        return new Node<>(a, this);
+    }
+
+    /**
+     * The first element of this list, if there is one.
+     *
+     * @return an {@link Optional} of the head element, or empty if this list is empty
+     */
+    public abstract Optional<A> head();
+
+    /**
+     * Every element of this list but the first. The tail of the empty list is the empty list.
+     *
+     * @return the tail of this list
+     */
+    public abstract ConsList<A> tail();
+
+    /**
+     * The number of elements in this list, computed in constant time.
+     *
+     * @return the size of this list
+     */
+    public abstract int size();
+
+    /**
+     * Returns true if this list has no elements; false otherwise.
+     *
+     * @return true if this list is empty
+     */
+    public final boolean isEmpty() {
+        return this == Nil.INSTANCE;
+    }
+
+    @Override
+    public final long sizeIfKnown() {
+        return size();
+    }
+
+    @Override
+    public final <B> ConsList<B> fmap(Function<? super A, ? extends B> fn) {
+        ConsList<B> reversed = nil();
+        for (A a : this)
+            reversed = reversed.cons(fn.apply(a));
+
+        ConsList<B> result = nil();
+        for (B b : reversed)
+            result = result.cons(b);
+        return result;
+    }
+
+    @Override
+    public final Iterator<A> iterator() {
+        return new ImmutableIterator<A>() {
+            private ConsList<A> next = ConsList.this;
+
+            @Override
+            public boolean hasNext() {
+                return next != Nil.INSTANCE;
+            }
+
+            @Override
+            public A next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                Node<A> node = (Node<A>) next;
+                next = node.tail;
+                return node.head;
+            }
+        };
+    }
+
+    @Override
+    public final boolean equals(Object other) {
+        if (!(other instanceof ConsList))
+            return false;
+
+        ConsList<?> these = this;
+        ConsList<?> those = (ConsList<?>) other;
+        if (these.size() != those.size())
+            return false;
+
+        while (these != those) {
+            Node<?> thisNode = (Node<?>) these;
+            Node<?> thatNode = (Node<?>) those;
+            if (!Objects.equals(thisNode.head, thatNode.head))
+                return false;
+            these = thisNode.tail;
+            those = thatNode.tail;
+        }
+        return true;
+    }
+
+    @Override
+    public final int hashCode() {
+        int hashCode = 1;
+        for (A a : this)
+            hashCode = 31 * hashCode + Objects.hashCode(a);
+        return hashCode;
+    }
+
+    @Override
+    public final String toString() {
+        StringBuilder body = new StringBuilder("ConsList{");
+        Iterator<A> iterator = iterator();
+        while (iterator.hasNext()) {
+            body.append(" ").append(iterator.next()).append(" ");
+            if (iterator.hasNext())
+                body.append("::");
+        }
+        return body.append("}").toString();
+    }
+
+    /**
+     * Static factory method for creating an empty list.
+     *
+     * @param <A> the element type
+     * @return the empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> ConsList<A> nil() {
+        return (ConsList<A>) Nil.INSTANCE;
+    }
+
+    /**
+     * Static factory method for creating a list of the given elements, in order.
+     *
+     * @param as  the elements
+     * @param <A> the element type
+     * @return the list
+     */
+    @SafeVarargs
+    public static <A> ConsList<A> consList(A... as) {
+        ConsList<A> list = nil();
+        for (int i = as.length - 1; i >= 0; i--)
+            list = list.cons(as[i]);
+        return list;
+    }
+
+    private static final class Nil<A> extends ConsList<A> {
+        private static final Nil INSTANCE = new Nil();
+
+        @Override
+        public Optional<A> head() {
+            return Optional.empty();
+        }
+
+        @Override
+        public ConsList<A> tail() {
+            return this;
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+    }
+
+    private static final class Node<A> extends ConsList<A> {
+        private final A           head;
+        private final ConsList<A> tail;
+        private final int         size;
+
+        private Node(A head, ConsList<A> tail) {
+            this.head = head;
+            this.tail = tail;
+            this.size = tail.size() + 1;
+        }
+
+        @Override
+        public Optional<A> head() {
+            return Optional.ofNullable(head);
+        }
+
+        @Override
+        public ConsList<A> tail() {
+            return tail;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -206,10 +206,7 @@ public abstract class Either<L, R> implements CoProduct2<L, R>, Functor<R>, Bifu
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public final <R2> Either<L, R2> biMapR(Function<? super R, ? extends R2> fn) {
-        return (Either<L, R2>) Bifunctor.super.biMapR(fn);
-    }
+    public abstract <R2> Either<L, R2> biMapR(Function<? super R, ? extends R2> fn);
 
     @Override
     public final <L2, R2> Either<L2, R2> biMap(Function<? super L, ? extends L2> leftFn,
@@ -312,6 +309,12 @@ public abstract class Either<L, R> implements CoProduct2<L, R>, Functor<R>, Bifu
             return leftFn.apply(l);
         }
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R2> Either<L, R2> biMapR(Function<? super R, ? extends R2> fn) {
+            return (Either<L, R2>) this;
+        }
+
         @Override
         public boolean equals(Object other) {
             return other instanceof Left && Objects.equals(l, ((Left) other).l);
@@ -342,6 +345,11 @@ public abstract class Either<L, R> implements CoProduct2<L, R>, Functor<R>, Bifu
             return rightFn.apply(r);
         }
 
+        @Override
+        public <R2> Either<L, R2> biMapR(Function<? super R, ? extends R2> fn) {
+            return new Right<>(fn.apply(r));
+        }
+
         @Override
         public boolean equals(Object other) {
             return other instanceof Right && Objects.equals(r, ((Right) other).r);
@@ -0,0 +1,21 @@
+package com.jnape.palatable.lambda.functions;
+
+import com.jnape.palatable.lambda.functions.specialized.Reducer;
+
+abstract class ForwardingReducer<R, A, B> implements Reducer<R, A> {
+    protected final Reducer<R, B> reducer;
+
+    ForwardingReducer(Reducer<R, B> reducer) {
+        this.reducer = reducer;
+    }
+
+    @Override
+    public boolean isDone(R r) {
+        return reducer.isDone(r);
+    }
+
+    @Override
+    public R complete(R r) {
+        return reducer.complete(r);
+    }
+}
@@ -0,0 +1,369 @@
+package com.jnape.palatable.lambda.functions;
+
+import com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection;
+import com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft;
+import com.jnape.palatable.lambda.functions.specialized.Reducer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A source-independent transformation from elements of type <code>A</code> to elements of type <code>B</code>,
+ * expressed as a transformation of {@link Reducer}s: given a <code>Reducer</code> accumulating <code>B</code>s, a
+ * <code>Transducer</code> produces a <code>Reducer</code> accumulating <code>A</code>s. Because it never sees where
+ * its elements come from, the same <code>Transducer</code> can drive a {@link FoldLeft left fold}, fill a
+ * <code>Collection</code>, or feed a {@link Sink push-based sink}, and a stack of composed <code>Transducer</code>s
+ * collapses into a single reducing function with no intermediate <code>Iterable</code>s or iterators.
+ * <p>
+ * Transducers like {@link Transducer#taking} and {@link Transducer#inGroupsOf} keep state, which is created afresh by
+ * each call to {@link Transducer#apply}; the resulting <code>Reducer</code> should only be used for a single
+ * accumulation.
+ *
+ * @param <A> the input element type
+ * @param <B> the output element type
+ */
+public interface Transducer<A, B> {
+
+    /**
+     * Transform a <code>Reducer</code> of <code>B</code>s into a <code>Reducer</code> of <code>A</code>s.
+     *
+     * @param reducer the Reducer of Bs
+     * @param <R>     the accumulation type
+     * @return the Reducer of As
+     */
+    <R> Reducer<R, A> apply(Reducer<R, B> reducer);
+
+    /**
+     * Left-to-right composition: the elements this <code>Transducer</code> produces are transformed by
+     * <code>after</code>.
+     *
+     * @param after the next Transducer
+     * @param <C>   the new output element type
+     * @return the composed Transducer
+     */
+    default <C> Transducer<A, C> andThen(Transducer<B, C> after) {
+        Transducer<A, B> before = this;
+        return new Transducer<A, C>() {
+            @Override
+            public <R> Reducer<R, A> apply(Reducer<R, C> reducer) {
+                return before.apply(after.apply(reducer));
+            }
+        };
+    }
+
+    /**
+     * Right-to-left composition: the elements produced by <code>before</code> are transformed by this
+     * <code>Transducer</code>.
+     *
+     * @param before the previous Transducer
+     * @param <Z>    the new input element type
+     * @return the composed Transducer
+     */
+    default <Z> Transducer<Z, B> compose(Transducer<Z, A> before) {
+        return before.andThen(this);
+    }
+
+    /**
+     * Left-fold <code>as</code> through this <code>Transducer</code> into <code>reducer</code>, starting from
+     * <code>r</code>, and {@link Reducer#complete complete} the result. The fold stops early once the transformed
+     * <code>Reducer</code> is done.
+     *
+     * @param reducer the Reducer of Bs
+     * @param r       the starting accumulation
+     * @param as      the Iterable of As
+     * @param <R>     the accumulation type
+     * @return the completed accumulation
+     */
+    default <R> R transduce(Reducer<R, B> reducer, R r, Iterable<A> as) {
+        Reducer<R, A> transformed = apply(reducer);
+        return transformed.complete(foldLeft(transformed, r, as));
+    }
+
+    /**
+     * Transduce <code>as</code> into a new <code>Collection</code>.
+     *
+     * @param cSupplier the Collection supplier
+     * @param as        the Iterable of As
+     * @param <C>       the Collection type
+     * @return the Collection of Bs
+     * @see ToCollection#toCollection(Transducer, Supplier, Iterable)
+     */
+    default <C extends Collection<B>> C into(Supplier<C> cSupplier, Iterable<A> as) {
+        return toCollection(this, cSupplier, as);
+    }
+
+    /**
+     * Create a {@link Sink} that pushes every <code>A</code> it accepts through this <code>Transducer</code> and hands
+     * the resulting <code>B</code>s to <code>consumer</code>.
+     *
+     * @param consumer the consumer of Bs
+     * @return the Sink
+     */
+    default Sink<A> sink(Consumer<? super B> consumer) {
+        return new Sink<>(apply((Reducer<Boolean, B>) (done, b) -> {
+            consumer.accept(b);
+            return false;
+        }));
+    }
+
+    /**
+     * The identity <code>Transducer</code>, which passes every element through unchanged.
+     *
+     * @param <A> the element type
+     * @return the identity Transducer
+     */
+    static <A> Transducer<A, A> identity() {
+        return new Transducer<A, A>() {
+            @Override
+            public <R> Reducer<R, A> apply(Reducer<R, A> reducer) {
+                return reducer;
+            }
+        };
+    }
+
+    /**
+     * A <code>Transducer</code> that maps every element with <code>fn</code>.
+     *
+     * @param fn  the mapping function
+     * @param <A> the input element type
+     * @param <B> the output element type
+     * @return the Transducer
+     * @see com.jnape.palatable.lambda.functions.builtin.fn2.Map
+     */
+    static <A, B> Transducer<A, B> mapping(Function<? super A, ? extends B> fn) {
+        return new Transducer<A, B>() {
+            @Override
+            public <R> Reducer<R, A> apply(Reducer<R, B> reducer) {
+                return new ForwardingReducer<R, A, B>(reducer) {
+                    @Override
+                    public R apply(R r, A a) {
+                        return reducer.apply(r, fn.apply(a));
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * A <code>Transducer</code> that passes on only the elements satisfying <code>predicate</code>.
+     *
+     * @param predicate the predicate
+     * @param <A>       the element type
+     * @return the Transducer
+     * @see com.jnape.palatable.lambda.functions.builtin.fn2.Filter
+     */
+    static <A> Transducer<A, A> filtering(Function<? super A, Boolean> predicate) {
+        return new Transducer<A, A>() {
+            @Override
+            public <R> Reducer<R, A> apply(Reducer<R, A> reducer) {
+                return new ForwardingReducer<R, A, A>(reducer) {
+                    @Override
+                    public R apply(R r, A a) {
+                        return predicate.apply(a) ? reducer.apply(r, a) : r;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * A <code>Transducer</code> that passes on only the first <code>n</code> elements, and is done after that.
+     *
+     * @param n   the number of elements to take
+     * @param <A> the element type
+     * @return the Transducer
+     * @see com.jnape.palatable.lambda.functions.builtin.fn2.Take
+     */
+    static <A> Transducer<A, A> taking(int n) {
+        return new Transducer<A, A>() {
+            @Override
+            public <R> Reducer<R, A> apply(Reducer<R, A> reducer) {
+                return new ForwardingReducer<R, A, A>(reducer) {
+                    private int remaining = n;
+
+                    @Override
+                    public R apply(R r, A a) {
+                        remaining--;
+                        return reducer.apply(r, a);
+                    }
+
+                    @Override
+                    public boolean isDone(R r) {
+                        return remaining <= 0 || reducer.isDone(r);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * A <code>Transducer</code> that discards the first <code>n</code> elements and passes on the rest.
+     *
+     * @param n   the number of elements to drop
+     * @param <A> the element type
+     * @return the Transducer
+     * @see com.jnape.palatable.lambda.functions.builtin.fn2.Drop
+     */
+    static <A> Transducer<A, A> dropping(int n) {
+        return new Transducer<A, A>() {
+            @Override
+            public <R> Reducer<R, A> apply(Reducer<R, A> reducer) {
+                return new ForwardingReducer<R, A, A>(reducer) {
+                    private int remaining = n;
+
+                    @Override
+                    public R apply(R r, A a) {
+                        if (remaining > 0) {
+                            remaining--;
+                            return r;
+                        }
+                        return reducer.apply(r, a);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * A <code>Transducer</code> that passes on <code>b</code> followed by every successive accumulation of
+     * <code>fn</code> over the elements, like a left fold that reports its intermediate results.
+     *
+     * @param fn  the accumulating function
+     * @param b   the starting accumulation
+     * @param <A> the input element type
+     * @param <B> the accumulation type
+     * @return the Transducer
+     * @see com.jnape.palatable.lambda.functions.builtin.fn3.ScanLeft
+     */
+    static <A, B> Transducer<A, B> scanning(BiFunction<? super B, ? super A, ? extends B> fn, B b) {
+        return new Transducer<A, B>() {
+            @Override
+            public <R> Reducer<R, A> apply(Reducer<R, B> reducer) {
+                return new ForwardingReducer<R, A, B>(reducer) {
+                    private B       acc     = b;
+                    private boolean started = false;
+
+                    @Override
+                    public R apply(R r, A a) {
+                        if (!started) {
+                            started = true;
+                            r = reducer.apply(r, acc);
+                            if (reducer.isDone(r))
+                                return r;
+                        }
+                        acc = fn.apply(acc, a);
+                        return reducer.apply(r, acc);
+                    }
+
+                    @Override
+                    public R complete(R r) {
+                        if (!started) {
+                            started = true;
+                            if (!reducer.isDone(r))
+                                r = reducer.apply(r, acc);
+                        }
+                        return reducer.complete(r);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * A <code>Transducer</code> that passes on the elements in consecutive groups of <code>k</code>. A final group of
+     * fewer than <code>k</code> elements is passed on when the accumulation is {@link Reducer#complete completed}.
+     * Groups are unmodifiable.
+     *
+     * @param k   the group size
+     * @param <A> the element type
+     * @return the Transducer
+     * @see com.jnape.palatable.lambda.functions.builtin.fn2.InGroupsOf
+     */
+    static <A> Transducer<A, Iterable<A>> inGroupsOf(int k) {
+        if (k <= 0)
+            throw new IllegalArgumentException("Group size must be positive: " + k);
+
+        return new Transducer<A, Iterable<A>>() {
+            @Override
+            public <R> Reducer<R, A> apply(Reducer<R, Iterable<A>> reducer) {
+                return new ForwardingReducer<R, A, Iterable<A>>(reducer) {
+                    private List<A> group = new ArrayList<>(k);
+
+                    @Override
+                    public R apply(R r, A a) {
+                        group.add(a);
+                        if (group.size() < k)
+                            return r;
+                        return reducer.apply(r, flush());
+                    }
+
+                    @Override
+                    public R complete(R r) {
+                        if (!group.isEmpty() && !reducer.isDone(r))
+                            r = reducer.apply(r, flush());
+                        return reducer.complete(r);
+                    }
+
+                    private List<A> flush() {
+                        List<A> full = unmodifiableList(group);
+                        group = new ArrayList<>(k);
+                        return full;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * A push-based consumer of elements produced by {@link Transducer#sink(Consumer)}. Elements are pushed in with
+     * {@link Sink#accept}; once {@link Sink#isDone} is true, further elements are ignored. {@link Sink#complete} must
+     * be called once the source is exhausted, so that anything held back, like a partial group, is flushed.
+     *
+     * @param <A> the element type
+     */
+    final class Sink<A> implements Consumer<A> {
+        private final Reducer<Boolean, A> reducer;
+        private       boolean             done;
+        private       boolean             completed;
+
+        private Sink(Reducer<Boolean, A> reducer) {
+            this.reducer = reducer;
+            done = reducer.isDone(false);
+        }
+
+        @Override
+        public void accept(A a) {
+            if (!done)
+                done = reducer.isDone(reducer.apply(false, a));
+        }
+
+        /**
+         * Whether this sink will accept no more elements.
+         *
+         * @return true if done; false otherwise
+         */
+        public boolean isDone() {
+            return done;
+        }
+
+        /**
+         * Signal that there are no more elements, flushing anything held back. Only the first call has any effect.
+         */
+        public void complete() {
+            if (completed)
+                return;
+            completed = true;
+            done = true;
+            reducer.complete(false);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.jnape.palatable.lambda.functions.builtin.fn1;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.builtin.fn2.CartesianProduct;
+import com.jnape.palatable.lambda.iterators.CartesianProductList;
+
+import java.util.List;
+
+/**
+ * Compute the n-ary cartesian product of a <code>List</code> of <code>List</code>s, returning a <code>List</code> of
+ * every combination that takes one element from each input, in order. Combinations are ordered lexicographically by
+ * position, with the last input varying fastest, such that
+ * <code>cartesianProductN(asList(asList(1, 2), asList(3, 4)))</code> is <code>[[1, 3], [1, 4], [2, 3], [2, 4]]</code>.
+ * The product of no inputs is a single empty combination.
+ * <p>
+ * Nothing is precomputed: the result is an unmodifiable <code>RandomAccess</code> view that decodes the
+ * <code>i</code>th combination from <code>i</code> as a mixed-radix number on demand, and each combination is itself a
+ * view, so random access, <code>size()</code>, and parallel splitting are all constant time. The inputs should
+ * therefore be <code>RandomAccess</code>, and must not change size while the view is in use. The total number of
+ * combinations must not exceed <code>Integer.MAX_VALUE</code>.
+ *
+ * @param <A> The element type
+ * @see CartesianProduct
+ */
+public final class CartesianProductN<A> implements Fn1<List<? extends List<? extends A>>, List<List<A>>> {
+
+    private static final CartesianProductN INSTANCE = new CartesianProductN();
+
+    private CartesianProductN() {
+    }
+
+    @Override
+    public List<List<A>> apply(List<? extends List<? extends A>> dimensions) {
+        return new CartesianProductList<>(dimensions);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> CartesianProductN<A> cartesianProductN() {
+        return INSTANCE;
+    }
+
+    public static <A> List<List<A>> cartesianProductN(List<? extends List<? extends A>> dimensions) {
+        return CartesianProductN.<A>cartesianProductN().apply(dimensions);
+    }
+}
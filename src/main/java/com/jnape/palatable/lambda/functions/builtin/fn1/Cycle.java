@@ -1,13 +1,18 @@
 package com.jnape.palatable.lambda.functions.builtin.fn1;
 
 import com.jnape.palatable.lambda.functions.Fn1;
-import com.jnape.palatable.lambda.iterators.CyclicIterator;
+import com.jnape.palatable.lambda.iterators.CyclingIterable;
 
 import static java.util.Arrays.asList;
 
 /**
  * Given an <code>Iterable</code>, return an infinite <code>Iterable</code> that repeatedly cycles its elements, in
  * order.
+ * <p>
+ * <code>Collection</code>s are simply re-iterated from the start each time they run out, rather than cached; any other
+ * <code>Iterable</code> is iterated once, with its elements cached for subsequent cycles. Cycling a non-empty source
+ * of known size is known to be infinite, so bounding it with {@link com.jnape.palatable.lambda.functions.builtin.fn2.Take}
+ * produces an <code>Iterable</code> of known size.
  *
  * @param <A> The Iterable element type
  */
@@ -20,7 +25,7 @@ public final class Cycle<A> implements Fn1<Iterable<A>, Iterable<A>> {
 
     @Override
     public Iterable<A> apply(Iterable<A> as) {
-        return () -> new CyclicIterator<>(as.iterator());
+        return new CyclingIterable<>(as);
     }
 
     @SuppressWarnings("unchecked")
@@ -3,7 +3,9 @@ package com.jnape.palatable.lambda.functions.builtin.fn1;
 import com.jnape.palatable.lambda.functions.Fn1;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
 
 /**
  * Retrieve the head element of an <code>Iterable</code>, wrapped in an <code>Optional</code>. If the
@@ -20,6 +22,11 @@ public final class Head<A> implements Fn1<Iterable<A>, Optional<A>> {
 
     @Override
     public Optional<A> apply(Iterable<A> as) {
+        if (as instanceof List && as instanceof RandomAccess) {
+            List<A> list = (List<A>) as;
+            return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
+        }
+
         Iterator<A> iterator = as.iterator();
         return iterator.hasNext()
                 ? Optional.of(iterator.next())
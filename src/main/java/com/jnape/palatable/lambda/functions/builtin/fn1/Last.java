@@ -2,11 +2,14 @@ package com.jnape.palatable.lambda.functions.builtin.fn1;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Optional;
 
 /**
  * Retrieve the last element of an <code>Iterable</code>, wrapped in an <code>Optional</code>. If the
- * <code>Iterable</code> is empty, the result is <code>Optional.empty()</code>.
+ * <code>Iterable</code> is empty, the result is <code>Optional.empty()</code>. <code>List</code>s are read from the end
+ * rather than iterated in full.
  *
  * @param <A> the Iterable element type
  */
@@ -19,6 +22,11 @@ public final class Last<A> implements Fn1<Iterable<A>, Optional<A>> {
 
     @Override
     public Optional<A> apply(Iterable<A> as) {
+        if (as instanceof List) {
+            ListIterator<A> fromEnd = ((List<A>) as).listIterator(((List<A>) as).size());
+            return fromEnd.hasPrevious() ? Optional.ofNullable(fromEnd.previous()) : Optional.empty();
+        }
+
         A last = null;
         for (A a : as) {
             last = a;
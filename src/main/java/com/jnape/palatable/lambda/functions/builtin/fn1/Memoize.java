@@ -0,0 +1,42 @@
+package com.jnape.palatable.lambda.functions.builtin.fn1;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.builtin.fn2.MemoizeUpTo;
+import com.jnape.palatable.lambda.iterators.MemoizingIterable;
+
+/**
+ * Given an <code>Iterable</code>, return an <code>Iterable</code> of the same elements that iterates the original at
+ * most once, no matter how many times it is itself iterated. Elements are pulled from the original lazily, only as far
+ * as the furthest consumer has advanced, and are remembered for every other consumer; this is useful for avoiding
+ * recomputation of an expensive lazy pipeline, like a <code>map</code> of a costly function, that is iterated more
+ * than once.
+ * <p>
+ * The memoized <code>Iterable</code> may be iterated by several threads concurrently: reading elements that have
+ * already been remembered does not block, and only one consumer at a time advances the original. Every element is
+ * retained for as long as the memoized <code>Iterable</code> is reachable; see {@link MemoizeUpTo} for a
+ * bounded-memory alternative.
+ *
+ * @param <A> The Iterable element type
+ * @see MemoizeUpTo
+ */
+public final class Memoize<A> implements Fn1<Iterable<A>, Iterable<A>> {
+
+    private static final Memoize INSTANCE = new Memoize();
+
+    private Memoize() {
+    }
+
+    @Override
+    public Iterable<A> apply(Iterable<A> as) {
+        return new MemoizingIterable<>(Integer.MAX_VALUE, as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> Memoize<A> memoize() {
+        return INSTANCE;
+    }
+
+    public static <A> Iterable<A> memoize(Iterable<A> as) {
+        return Memoize.<A>memoize().apply(as);
+    }
+}
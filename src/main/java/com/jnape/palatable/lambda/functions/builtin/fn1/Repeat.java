@@ -1,6 +1,7 @@
 package com.jnape.palatable.lambda.functions.builtin.fn1;
 
 import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.iterators.LambdaIterable;
 import com.jnape.palatable.lambda.iterators.RepetitiousIterator;
 
 /**
@@ -17,7 +18,7 @@ public final class Repeat<A> implements Fn1<A, Iterable<A>> {
 
     @Override
     public Iterable<A> apply(A a) {
-        return () -> new RepetitiousIterator<>(a);
+        return (LambdaIterable<A>) () -> new RepetitiousIterator<>(a);
     }
 
     @SuppressWarnings("unchecked")
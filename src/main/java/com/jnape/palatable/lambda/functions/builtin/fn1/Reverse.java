@@ -1,11 +1,12 @@
 package com.jnape.palatable.lambda.functions.builtin.fn1;
 
 import com.jnape.palatable.lambda.functions.Fn1;
-import com.jnape.palatable.lambda.iterators.ReversingIterator;
+import com.jnape.palatable.lambda.iterators.ReversingIterable;
 
 /**
  * Given an <code>Iterable</code>, return a reversed representation of that <code>Iterable</code>. Note that reversing
- * is deferred until the returned <code>Iterable</code> is iterated.
+ * is deferred until the returned <code>Iterable</code> is iterated, and that <code>RandomAccess</code> lists are
+ * iterated backwards in place rather than copied.
  *
  * @param <A> The Iterable element type
  */
@@ -18,7 +19,7 @@ public final class Reverse<A> implements Fn1<Iterable<A>, Iterable<A>> {
 
     @Override
     public Iterable<A> apply(Iterable<A> as) {
-        return () -> new ReversingIterator<>(as.iterator());
+        return new ReversingIterable<>(as);
     }
 
     @SuppressWarnings("unchecked")
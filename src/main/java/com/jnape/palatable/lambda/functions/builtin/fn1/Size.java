@@ -1,9 +1,14 @@
 package com.jnape.palatable.lambda.functions.builtin.fn1;
 
 import com.jnape.palatable.lambda.functions.Fn1;
-
-import java.util.Collection;
-
+import com.jnape.palatable.lambda.iterators.SizedIterable;
+
+/**
+ * Count the elements in an <code>Iterable</code>. <code>Collection</code>s and {@link SizedIterable}s that know their
+ * size (including those produced by size-preserving builtins like <code>map</code>, <code>take</code>,
+ * <code>zip</code>, and <code>cons</code> over sized inputs) are answered in constant time; anything else is counted
+ * by iterating it.
+ */
 public final class Size implements Fn1<Iterable<?>, Long> {
 
     private static final Size INSTANCE = new Size();
@@ -13,8 +18,9 @@ public final class Size implements Fn1<Iterable<?>, Long> {
 
     @Override
     public Long apply(Iterable<?> iterable) {
-        if (iterable instanceof Collection)
-            return (long) ((Collection) iterable).size();
+        long knownSize = SizedIterable.sizeIfKnown(iterable);
+        if (knownSize != -1)
+            return knownSize;
 
         long size = 0L;
         for (Object ignored : iterable) {
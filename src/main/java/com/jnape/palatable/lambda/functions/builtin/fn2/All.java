@@ -3,8 +3,12 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.specialized.BiPredicate;
 
+import java.util.Iterator;
 import java.util.function.Function;
 
+import static com.jnape.palatable.lambda.iterators.ImmutableIterator.abandon;
+import static com.jnape.palatable.lambda.iterators.ImmutableIterator.forEachRemainingWhile;
+
 /**
  * Eagerly apply a predicate to each element in an <code>Iterable</code>, returning <code>true</code> if every element
  * satisfies the predicate, and <code>false</code> otherwise. This method short-circuits on the first <code>false</code>
@@ -22,11 +26,11 @@ public final class All<A> implements BiPredicate<Function<? super A, Boolean>, I
 
     @Override
     public Boolean apply(Function<? super A, Boolean> predicate, Iterable<A> as) {
-        for (A a : as)
-            if (!predicate.apply(a))
-                return false;
-
-        return true;
+        Iterator<A> iterator = as.iterator();
+        if (forEachRemainingWhile(iterator, predicate))
+            return true;
+        abandon(iterator);
+        return false;
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,51 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.iterators.AsyncIterable;
+
+/**
+ * Lazily hand the elements of the <code>Iterable</code> off to the consumer through a bounded buffer, iterating the
+ * <code>Iterable</code> on a separate producer thread. Everything upstream of the hand-off, like the mapping functions
+ * of a chain of {@link Map}s, runs on the producer thread, overlapping with everything downstream of it, which runs on
+ * the consumer thread; for example, <code>map(parse, async(64, map(decompress, lines)))</code> decompresses and reads
+ * ahead up to 64 lines while the consumer parses. The producer never runs more than <code>bufferSize</code> elements
+ * ahead of the consumer.
+ * <p>
+ * Each iterator starts its own daemon producer thread when it is first advanced. Exceptions thrown while producing
+ * are rethrown to the consumer in place of the element that failed. Iterators are <code>AutoCloseable</code>; closing
+ * one, or throwing out of a push-style traversal of one, interrupts and ends its producer. {@link Any}, {@link All},
+ * {@link com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft} with a finished
+ * {@link com.jnape.palatable.lambda.functions.specialized.Reducer}, and {@link Take} close the iterator when they stop
+ * consuming it. The producer of an iterator that is abandoned any other way stays parked, holding at most
+ * <code>bufferSize</code> elements.
+ *
+ * @param <A> The Iterable element type
+ * @see com.jnape.palatable.lambda.functions.builtin.fn3.MapAsync
+ * @see com.jnape.palatable.lambda.functions.builtin.fn3.ParallelMap
+ */
+public final class Async<A> implements Fn2<Integer, Iterable<A>, Iterable<A>> {
+
+    private static final Async INSTANCE = new Async();
+
+    private Async() {
+    }
+
+    @Override
+    public Iterable<A> apply(Integer bufferSize, Iterable<A> as) {
+        return new AsyncIterable<>(bufferSize, as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> Async<A> async() {
+        return INSTANCE;
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<A>> async(Integer bufferSize) {
+        return Async.<A>async().apply(bufferSize);
+    }
+
+    public static <A> Iterable<A> async(Integer bufferSize, Iterable<A> as) {
+        return Async.<A>async(bufferSize).apply(as);
+    }
+}
@@ -3,7 +3,7 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 import com.jnape.palatable.lambda.adt.hlist.Tuple2;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
-import com.jnape.palatable.lambda.iterators.CombinatorialIterator;
+import com.jnape.palatable.lambda.iterators.CombinatorialIterable;
 
 /**
  * Lazily compute the cartesian product of an <code>Iterable&lt;A&gt;</code> and <code>Iterable&lt;B&gt;</code>,
@@ -14,10 +14,14 @@ import com.jnape.palatable.lambda.iterators.CombinatorialIterator;
  * <code>Iterable&lt;A&gt;</code> before advancing to the next element of <code>Iterable&lt;A&gt;</code>, <strong>so if
  * <code>Iterable&lt;B&gt;</code> is infinite, only one element from <code>Iterable&lt;A&gt;</code> will ever be
  * paired</strong>.
+ * <p>
+ * If both inputs are <code>RandomAccess</code> <code>List</code>s, the result's spliterator addresses each product by
+ * index, so it splits evenly for parallel evaluation.
  *
  * @param <A> The multiplicand Iterable element type
  * @param <B> The multiplier Iterable element type
  * @see Zip
+ * @see com.jnape.palatable.lambda.functions.builtin.fn1.CartesianProductN
  */
 public final class CartesianProduct<A, B> implements Fn2<Iterable<A>, Iterable<B>, Iterable<Tuple2<A, B>>> {
 
@@ -28,7 +32,7 @@ public final class CartesianProduct<A, B> implements Fn2<Iterable<A>, Iterable<B
 
     @Override
     public Iterable<Tuple2<A, B>> apply(Iterable<A> as, Iterable<B> bs) {
-        return () -> new CombinatorialIterator<>(as.iterator(), bs.iterator());
+        return new CombinatorialIterable<>(as, bs);
     }
 
     @SuppressWarnings("unchecked")
@@ -1,11 +1,13 @@
 package com.jnape.palatable.lambda.functions.builtin.fn2;
 
+import com.jnape.palatable.lambda.adt.ConsList;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
-import com.jnape.palatable.lambda.iterators.ConsingIterator;
+import com.jnape.palatable.lambda.iterators.ConsingIterable;
 
 /**
- * Prepend an element to an <code>Iterable</code>.
+ * Prepend an element to an <code>Iterable</code>. Consing onto a {@link ConsList} produces a {@link ConsList} that
+ * shares the original as its tail.
  *
  * @param <A> the Iterable element type
  */
@@ -18,7 +20,7 @@ public final class Cons<A> implements Fn2<A, Iterable<A>, Iterable<A>> {
 
     @Override
     public Iterable<A> apply(A a, Iterable<A> as) {
-        return () -> new ConsingIterator<>(a, as);
+        return as instanceof ConsList ? ((ConsList<A>) as).cons(a) : new ConsingIterable<>(a, as);
     }
 
     @SuppressWarnings("unchecked")
@@ -2,12 +2,13 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
-import com.jnape.palatable.lambda.iterators.DroppingIterator;
+import com.jnape.palatable.lambda.iterators.DroppingIterable;
 
 /**
  * Lazily skip the first <code>n</code> elements from an <code>Iterable</code> by returning an <code>Iterable</code>
  * that begins iteration after the <code>nth</code> element. If <code>n</code> is greater than or equal to the length of
- * the <code>Iterable</code>, an empty <code>Iterable</code> is returned.
+ * the <code>Iterable</code>, an empty <code>Iterable</code> is returned. <code>RandomAccess</code> lists begin
+ * iteration directly at index <code>n</code> rather than skipping elements one at a time.
  *
  * @param <A> The Iterable element type
  * @see DropWhile
@@ -22,7 +23,7 @@ public final class Drop<A> implements Fn2<Integer, Iterable<A>, Iterable<A>> {
 
     @Override
     public Iterable<A> apply(Integer n, Iterable<A> as) {
-        return () -> new DroppingIterator<>(n, as.iterator());
+        return new DroppingIterable<>(n, as);
     }
 
     @SuppressWarnings("unchecked")
@@ -2,13 +2,15 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
-import com.jnape.palatable.lambda.iterators.FilteringIterator;
+import com.jnape.palatable.lambda.iterators.FilteringIterable;
 
 import java.util.function.Function;
 
 /**
  * Lazily apply a predicate to each element in an <code>Iterable</code>, returning an <code>Iterable</code> of just the
- * elements for which the predicate evaluated to <code>true</code>.
+ * elements for which the predicate evaluated to <code>true</code>. Filtering an <code>Iterable</code> that was itself
+ * produced by <code>filter</code> fuses both stages into a single iteration step over the conjunction of their
+ * predicates.
  *
  * @param <A> A type contravariant to the input Iterable element type
  * @see TakeWhile
@@ -23,7 +25,7 @@ public final class Filter<A> implements Fn2<Function<? super A, Boolean>, Iterab
 
     @Override
     public Iterable<A> apply(Function<? super A, Boolean> predicate, Iterable<A> as) {
-        return () -> new FilteringIterator<>(predicate, as.iterator());
+        return new FilteringIterable<>(predicate, as);
     }
 
     @SuppressWarnings("unchecked")
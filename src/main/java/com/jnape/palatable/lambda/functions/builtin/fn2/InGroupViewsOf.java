@@ -0,0 +1,48 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.iterators.GroupingIterable;
+import com.jnape.palatable.lambda.iterators.SubListGroupingIterable;
+
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Like {@link InGroupsOf}, lazily group the <code>Iterable</code> into <code>Iterable</code>s of size <code>k</code>,
+ * except that if the <code>Iterable</code> is a <code>RandomAccess</code> <code>List</code>, each group is an
+ * unmodifiable <code>subList</code> view rather than a copy. Views are created without iterating the list, but they
+ * reflect the list at the time they are read, and modifying the list structurally invalidates them. Any other
+ * <code>Iterable</code> is grouped by copying, exactly as by {@link InGroupsOf}.
+ *
+ * @param <A> The Iterable element type
+ * @see InGroupsOf
+ * @see InReusedGroupsOf
+ */
+public final class InGroupViewsOf<A> implements Fn2<Integer, Iterable<A>, Iterable<Iterable<A>>> {
+
+    private static final InGroupViewsOf INSTANCE = new InGroupViewsOf();
+
+    private InGroupViewsOf() {
+    }
+
+    @Override
+    public Iterable<Iterable<A>> apply(Integer k, Iterable<A> as) {
+        return k > 0 && as instanceof List && as instanceof RandomAccess
+               ? new SubListGroupingIterable<>(k, (List<A>) as)
+               : new GroupingIterable<>(k, as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> InGroupViewsOf<A> inGroupViewsOf() {
+        return INSTANCE;
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<Iterable<A>>> inGroupViewsOf(Integer k) {
+        return InGroupViewsOf.<A>inGroupViewsOf().apply(k);
+    }
+
+    public static <A> Iterable<Iterable<A>> inGroupViewsOf(Integer k, Iterable<A> as) {
+        return InGroupViewsOf.<A>inGroupViewsOf(k).apply(as);
+    }
+}
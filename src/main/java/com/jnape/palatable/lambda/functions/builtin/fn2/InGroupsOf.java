@@ -2,7 +2,7 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
-import com.jnape.palatable.lambda.iterators.GroupingIterator;
+import com.jnape.palatable.lambda.iterators.GroupingIterable;
 
 /**
  * Lazily group the <code>Iterable</code> by returning an <code>Iterable</code> of smaller <code>Iterable</code>s of
@@ -11,6 +11,8 @@ import com.jnape.palatable.lambda.iterators.GroupingIterator;
  * elements.
  *
  * @param <A> The Iterable element type
+ * @see InGroupViewsOf
+ * @see InReusedGroupsOf
  */
 public final class InGroupsOf<A> implements Fn2<Integer, Iterable<A>, Iterable<Iterable<A>>> {
 
@@ -21,7 +23,7 @@ public final class InGroupsOf<A> implements Fn2<Integer, Iterable<A>, Iterable<I
 
     @Override
     public Iterable<Iterable<A>> apply(Integer k, Iterable<A> as) {
-        return () -> new GroupingIterator<>(k, as.iterator());
+        return new GroupingIterable<>(k, as);
     }
 
     @SuppressWarnings("unchecked")
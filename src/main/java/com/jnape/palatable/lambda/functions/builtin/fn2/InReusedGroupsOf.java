@@ -0,0 +1,42 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.iterators.GroupingIterable;
+
+/**
+ * Like {@link InGroupsOf}, lazily group the <code>Iterable</code> into <code>Iterable</code>s of size <code>k</code>,
+ * except that every group produced by the same iterator is the <em>same</em> unmodifiable view over a single reused
+ * buffer. This makes batching a streaming source copy-free after the first group, at the cost of each group being
+ * invalidated by the following call to <code>next()</code>: consume a group fully before advancing, and never retain
+ * one. For the same reason, spliterators over the result never split.
+ *
+ * @param <A> The Iterable element type
+ * @see InGroupsOf
+ * @see InGroupViewsOf
+ */
+public final class InReusedGroupsOf<A> implements Fn2<Integer, Iterable<A>, Iterable<Iterable<A>>> {
+
+    private static final InReusedGroupsOf INSTANCE = new InReusedGroupsOf();
+
+    private InReusedGroupsOf() {
+    }
+
+    @Override
+    public Iterable<Iterable<A>> apply(Integer k, Iterable<A> as) {
+        return new GroupingIterable<>(k, as, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> InReusedGroupsOf<A> inReusedGroupsOf() {
+        return INSTANCE;
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<Iterable<A>>> inReusedGroupsOf(Integer k) {
+        return InReusedGroupsOf.<A>inReusedGroupsOf().apply(k);
+    }
+
+    public static <A> Iterable<Iterable<A>> inReusedGroupsOf(Integer k, Iterable<A> as) {
+        return InReusedGroupsOf.<A>inReusedGroupsOf(k).apply(as);
+    }
+}
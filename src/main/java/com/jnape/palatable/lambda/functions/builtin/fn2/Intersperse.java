@@ -2,10 +2,15 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
-
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Tail.tail;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.PrependAll.prependAll;
-
+import com.jnape.palatable.lambda.iterators.InterspersingIterable;
+
+/**
+ * Lazily inject the provided separator value between each value in the supplied <code>Iterable</code>. An
+ * <code>Iterable</code> with fewer than two elements is left untouched.
+ *
+ * @param <A> the Iterable parameter type
+ * @see PrependAll
+ */
 public final class Intersperse<A> implements Fn2<A, Iterable<A>, Iterable<A>> {
 
     private static final Intersperse INSTANCE = new Intersperse();
@@ -15,7 +20,7 @@ public final class Intersperse<A> implements Fn2<A, Iterable<A>, Iterable<A>> {
 
     @Override
     public Iterable<A> apply(A a, Iterable<A> as) {
-        return tail(prependAll(a, as));
+        return new InterspersingIterable<>(a, as);
     }
 
     @SuppressWarnings("unchecked")
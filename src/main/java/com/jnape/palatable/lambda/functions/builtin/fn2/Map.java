@@ -2,13 +2,14 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
-import com.jnape.palatable.lambda.iterators.MappingIterator;
+import com.jnape.palatable.lambda.iterators.MappingIterable;
 
 import java.util.function.Function;
 
 /**
  * Lazily apply a function to each element in an <code>Iterable</code>, producing an <code>Iterable</code> of the mapped
- * results.
+ * results. Mapping over an <code>Iterable</code> that was itself produced by <code>map</code> fuses both stages into a
+ * single iteration step, so arbitrarily long chains of maps iterate with a flat call depth.
  *
  * @param <A> A type contravariant to the input Iterable element type
  * @param <B> A type covariant to the output Iterable element type
@@ -22,7 +23,7 @@ public final class Map<A, B> implements Fn2<Function<? super A, ? extends B>, It
 
     @Override
     public Iterable<B> apply(Function<? super A, ? extends B> fn, Iterable<A> as) {
-        return () -> new MappingIterator<>(fn, as.iterator());
+        return new MappingIterable<>(fn, as);
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,42 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.builtin.fn1.Memoize;
+import com.jnape.palatable.lambda.iterators.MemoizingIterable;
+
+/**
+ * Like {@link Memoize}, but remembering at most the first <code>cap</code> elements of the <code>Iterable</code>.
+ * Past the cap, the first consumer to get there continues iterating the original where the memoized elements left off,
+ * and any later consumer falls back to iterating the original again from the start, skipping the first
+ * <code>cap</code> elements. This bounds memory at the cost of recomputing elements past the cap, and is thread-safe
+ * in the same way as {@link Memoize}.
+ *
+ * @param <A> The Iterable element type
+ * @see Memoize
+ */
+public final class MemoizeUpTo<A> implements Fn2<Integer, Iterable<A>, Iterable<A>> {
+
+    private static final MemoizeUpTo INSTANCE = new MemoizeUpTo();
+
+    private MemoizeUpTo() {
+    }
+
+    @Override
+    public Iterable<A> apply(Integer cap, Iterable<A> as) {
+        return new MemoizingIterable<>(cap, as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> MemoizeUpTo<A> memoizeUpTo() {
+        return INSTANCE;
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<A>> memoizeUpTo(Integer cap) {
+        return MemoizeUpTo.<A>memoizeUpTo().apply(cap);
+    }
+
+    public static <A> Iterable<A> memoizeUpTo(Integer cap, Iterable<A> as) {
+        return MemoizeUpTo.<A>memoizeUpTo(cap).apply(as);
+    }
+}
@@ -2,12 +2,15 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
-
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Head.head;
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Tail.tail;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
-import static java.util.Collections.emptyList;
-
+import com.jnape.palatable.lambda.iterators.PrependingIterable;
+
+/**
+ * Lazily prepend each value of the <code>Iterable</code> with the supplied separator value. An empty
+ * <code>Iterable</code> is left untouched.
+ *
+ * @param <A> the Iterable parameter type
+ * @see Intersperse
+ */
 public final class PrependAll<A> implements Fn2<A, Iterable<A>, Iterable<A>> {
 
     private static final PrependAll INSTANCE = new PrependAll();
@@ -17,7 +20,7 @@ public final class PrependAll<A> implements Fn2<A, Iterable<A>, Iterable<A>> {
 
     @Override
     public Iterable<A> apply(A a, Iterable<A> as) {
-        return () -> head(as).map(head -> cons(a, cons(head, prependAll(a, tail(as))))).orElse(emptyList()).iterator();
+        return new PrependingIterable<>(a, as);
     }
 
     @SuppressWarnings("unchecked")
@@ -2,6 +2,7 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.iterators.LambdaIterable;
 
 import java.util.Iterator;
 import java.util.Optional;
@@ -17,7 +18,9 @@ import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft
  * throw.
  * <p>
  * This function is isomorphic to a left fold over the <code>Iterable</code> where the head element is the starting
- * accumulation value and the result is lifted into an <code>Optional</code>.
+ * accumulation value and the result is lifted into an <code>Optional</code>. Like
+ * {@link com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft}, it stops early if the accumulating function is a
+ * {@link com.jnape.palatable.lambda.functions.specialized.Reducer} that reports it is done.
  *
  * @param <A> The input Iterable element type, as well as the accumulation type
  * @see ReduceRight
@@ -36,7 +39,7 @@ public final class ReduceLeft<A> implements Fn2<BiFunction<? super A, ? super A,
         if (!iterator.hasNext())
             return Optional.empty();
 
-        return Optional.of(foldLeft(fn, iterator.next(), () -> iterator));
+        return Optional.of(foldLeft(fn, iterator.next(), (LambdaIterable<A>) () -> iterator));
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,46 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.builtin.fn3.SlideBy;
+import com.jnape.palatable.lambda.iterators.SlidingIterable;
+
+/**
+ * Lazily slide a window of size <code>k</code> over the <code>Iterable</code> one element at a time, producing an
+ * <code>Iterable</code> of every run of <code>k</code> consecutive elements, in a single pass. Only full windows are
+ * produced, so an <code>Iterable</code> of fewer than <code>k</code> elements produces none.
+ * <p>
+ * Windows are read-only views. Over a <code>RandomAccess</code> <code>List</code>, they are <code>subList</code>
+ * views of the list; otherwise, they are views of a ring buffer shared by the iterator, which is why each costs only a
+ * constant amount of allocation. A ring-buffer window is only valid until the following call to <code>next()</code>;
+ * copy it if it needs to outlive that.
+ *
+ * @param <A> The Iterable element type
+ * @see SlideBy
+ * @see InGroupsOf
+ */
+public final class Slide<A> implements Fn2<Integer, Iterable<A>, Iterable<Iterable<A>>> {
+
+    private static final Slide INSTANCE = new Slide();
+
+    private Slide() {
+    }
+
+    @Override
+    public Iterable<Iterable<A>> apply(Integer k, Iterable<A> as) {
+        return new SlidingIterable<>(k, 1, as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> Slide<A> slide() {
+        return INSTANCE;
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<Iterable<A>>> slide(Integer k) {
+        return Slide.<A>slide().apply(k);
+    }
+
+    public static <A> Iterable<Iterable<A>> slide(Integer k, Iterable<A> as) {
+        return Slide.<A>slide(k).apply(as);
+    }
+}
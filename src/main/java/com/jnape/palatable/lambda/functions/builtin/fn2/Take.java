@@ -2,7 +2,7 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
-import com.jnape.palatable.lambda.iterators.TakingIterator;
+import com.jnape.palatable.lambda.iterators.TakingIterable;
 
 /**
  * Lazily limit the <code>Iterable</code> to <code>n</code> elements by returning an <code>Iterable</code> that stops
@@ -22,7 +22,7 @@ public final class Take<A> implements Fn2<Integer, Iterable<A>, Iterable<A>> {
 
     @Override
     public Iterable<A> apply(Integer n, Iterable<A> as) {
-        return () -> new TakingIterator<>(n, as.iterator());
+        return new TakingIterable<>(n, as);
     }
 
     @SuppressWarnings("unchecked")
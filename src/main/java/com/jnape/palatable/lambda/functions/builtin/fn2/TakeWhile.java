@@ -2,6 +2,7 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.iterators.LambdaIterable;
 import com.jnape.palatable.lambda.iterators.PredicatedTakingIterator;
 
 import java.util.function.Function;
@@ -24,7 +25,7 @@ public final class TakeWhile<A> implements Fn2<Function<? super A, Boolean>, Ite
 
     @Override
     public Iterable<A> apply(Function<? super A, Boolean> predicate, Iterable<A> as) {
-        return () -> new PredicatedTakingIterator<>(predicate, as.iterator());
+        return (LambdaIterable<A>) () -> new PredicatedTakingIterator<>(predicate, as.iterator());
     }
 
     @SuppressWarnings("unchecked")
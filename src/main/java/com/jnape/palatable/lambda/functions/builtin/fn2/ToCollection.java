@@ -2,14 +2,21 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Transducer;
+import com.jnape.palatable.lambda.iterators.SizedIterable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.function.Supplier;
 
 /**
  * Given a {@link Supplier} of some {@link Collection} <code>C</code>, create an instance of <code>C</code> and add
  * all of the elements in the provided <code>Iterable</code> to the instance. Note that instances of <code>C</code>
- * must support {@link Collection#add} (which is to say, must not throw on invocation).
+ * must support {@link Collection#add} (which is to say, must not throw on invocation). If the size of the
+ * <code>Iterable</code> is known in advance and <code>C</code> is an {@link ArrayList}, its capacity is ensured up
+ * front. A {@link Transducer} may be given to transform the elements on their way into <code>C</code>, in which case
+ * no intermediate <code>Iterable</code> is created and the source is only read for as long as the
+ * <code>Transducer</code> accepts elements.
  *
  * @param <A> the iterable element type
  * @param <C> the resulting collection type
@@ -22,8 +29,17 @@ public final class ToCollection<A, C extends Collection<A>> implements Fn2<Suppl
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public C apply(Supplier<C> cSupplier, Iterable<A> as) {
         C c = cSupplier.get();
+        if (as instanceof Collection) {
+            c.addAll((Collection<A>) as);
+            return c;
+        }
+
+        long size = SizedIterable.sizeIfKnown(as);
+        if (size > 0 && size <= Integer.MAX_VALUE && c instanceof ArrayList)
+            ((ArrayList) c).ensureCapacity(c.size() + (int) size);
         as.forEach(c::add);
         return c;
     }
@@ -40,4 +56,12 @@ public final class ToCollection<A, C extends Collection<A>> implements Fn2<Suppl
     public static <A, C extends Collection<A>> C toCollection(Supplier<C> cSupplier, Iterable<A> as) {
         return toCollection(cSupplier).apply(as);
     }
+
+    public static <A, B, C extends Collection<B>> C toCollection(Transducer<A, B> transducer, Supplier<C> cSupplier,
+                                                                 Iterable<A> as) {
+        return transducer.transduce((c, b) -> {
+            c.add(b);
+            return c;
+        }, cSupplier.get(), as);
+    }
 }
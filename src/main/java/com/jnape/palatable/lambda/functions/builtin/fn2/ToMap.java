@@ -2,14 +2,21 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.iterators.SizedIterable;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
  * Given a {@link Supplier} of some {@link Map} <code>M</code>, create an instance of <code>M</code> and put
  * all of the entries in the provided <code>Iterable</code> into the instance. Note that instances of <code>M</code>
- * must support {@link java.util.Map#put} (which is to say, must not throw on invocation).
+ * must support {@link java.util.Map#put} (which is to say, must not throw on invocation). If the number of entries is
+ * known in advance, they are handed to <code>M</code> in bulk via {@link java.util.Map#putAll}, which allows
+ * implementations like {@link java.util.HashMap} to size their tables once rather than rehashing as they grow.
  *
  * @param <K> the key element type
  * @param <V> the value element type
@@ -25,7 +32,11 @@ public final class ToMap<K, V, M extends Map<K, V>> implements Fn2<Supplier<M>,
     @Override
     public M apply(Supplier<M> mSupplier, Iterable<Map.Entry<K, V>> entries) {
         M m = mSupplier.get();
-        entries.forEach(kv -> m.put(kv.getKey(), kv.getValue()));
+        long size = SizedIterable.sizeIfKnown(entries);
+        if (size > 0 && size <= Integer.MAX_VALUE)
+            m.putAll(new SizedEntries<>(entries, (int) size));
+        else
+            entries.forEach(kv -> m.put(kv.getKey(), kv.getValue()));
         return m;
     }
 
@@ -41,4 +52,34 @@ public final class ToMap<K, V, M extends Map<K, V>> implements Fn2<Supplier<M>,
     public static <K, V, M extends Map<K, V>> M toMap(Supplier<M> mSupplier, Iterable<Map.Entry<K, V>> entries) {
         return toMap(mSupplier).apply(entries);
     }
+
+    private static final class SizedEntries<K, V> extends AbstractMap<K, V> {
+        private final Iterable<Map.Entry<K, V>> entries;
+        private final int                       size;
+
+        private SizedEntries(Iterable<Map.Entry<K, V>> entries, int size) {
+            this.entries = entries;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return new AbstractSet<Entry<K, V>>() {
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return entries.iterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 import com.jnape.palatable.lambda.adt.hlist.Tuple2;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.iterators.LambdaIterable;
 import com.jnape.palatable.lambda.iterators.UnfoldingIterator;
 
 import java.util.Optional;
@@ -38,7 +39,7 @@ public final class Unfoldr<A, B> implements Fn2<Function<B, Optional<Tuple2<A, B
 
     @Override
     public Iterable<A> apply(Function<B, Optional<Tuple2<A, B>>> fn, B b) {
-        return () -> new UnfoldingIterator<>(fn, b);
+        return (LambdaIterable<A>) () -> new UnfoldingIterator<>(fn, b);
     }
 
     @SuppressWarnings("unchecked")
@@ -3,9 +3,15 @@ package com.jnape.palatable.lambda.functions.builtin.fn3;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
 import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.Transducer;
+import com.jnape.palatable.lambda.functions.specialized.Reducer;
 
+import java.util.Iterator;
 import java.util.function.BiFunction;
 
+import static com.jnape.palatable.lambda.iterators.ImmutableIterator.abandon;
+import static com.jnape.palatable.lambda.iterators.ImmutableIterator.forEachRemainingWhile;
+
 /**
  * Given an <code>Iterable</code> of <code>A</code>s, a starting value <code>B</code>, and a <code>{@link
  * BiFunction}&lt;B, A, B&gt;</code>, iteratively accumulate over the <code>Iterable</code>, ultimately returning a
@@ -15,6 +21,10 @@ import java.util.function.BiFunction;
  * <p>
  * For more information, read about <a href="https://en.wikipedia.org/wiki/Catamorphism"
  * target="_top">Catamorphisms</a>.
+ * <p>
+ * If the accumulating function is a {@link Reducer}, accumulation stops as soon as the <code>Reducer</code> reports
+ * that it is done, without consuming the rest of the <code>Iterable</code>. Given a {@link Transducer}, the elements are
+ * transformed on their way into the <code>Reducer</code>, which is {@link Reducer#complete completed} at the end.
  *
  * @param <A> The Iterable element type
  * @param <B> The accumulation type
@@ -28,11 +38,30 @@ public final class FoldLeft<A, B> implements Fn3<BiFunction<? super B, ? super A
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public B apply(BiFunction<? super B, ? super A, ? extends B> fn, B acc, Iterable<A> as) {
-        B accumulation = acc;
-        for (A a : as)
-            accumulation = fn.apply(accumulation, a);
-        return accumulation;
+        if (fn instanceof Reducer)
+            return reduceUntilDone((Reducer<B, A>) fn, acc, as);
+
+        Object[] accumulation = {acc};
+        as.forEach(a -> accumulation[0] = fn.apply((B) accumulation[0], a));
+        return (B) accumulation[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private B reduceUntilDone(Reducer<B, A> reducer, B acc, Iterable<A> as) {
+        if (reducer.isDone(acc))
+            return acc;
+
+        Object[] accumulation = {acc};
+        Iterator<A> iterator = as.iterator();
+        if (!forEachRemainingWhile(iterator, a -> {
+            B next = reducer.apply((B) accumulation[0], a);
+            accumulation[0] = next;
+            return !reducer.isDone(next);
+        }))
+            abandon(iterator);
+        return (B) accumulation[0];
     }
 
     @SuppressWarnings("unchecked")
@@ -51,4 +80,8 @@ public final class FoldLeft<A, B> implements Fn3<BiFunction<? super B, ? super A
     public static <A, B> B foldLeft(BiFunction<? super B, ? super A, ? extends B> fn, B acc, Iterable<A> as) {
         return FoldLeft.<A, B>foldLeft(fn, acc).apply(as);
     }
+
+    public static <A, B, R> R foldLeft(Transducer<A, B> transducer, Reducer<R, B> reducer, R acc, Iterable<A> as) {
+        return transducer.transduce(reducer, acc, as);
+    }
 }
@@ -0,0 +1,58 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.iterators.AsyncMappingIterable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Lazily map each element of the <code>Iterable</code> with an asynchronous function, keeping up to
+ * <code>maxInFlight</code> of its futures outstanding at once, and yield the results in source order. Pulling an
+ * element launches as many futures as are needed to have <code>maxInFlight</code> outstanding, then waits for the
+ * oldest one, so the latencies of I/O-bound calls overlap rather than add up. Nothing is launched until iteration
+ * begins, and the source is never read more than <code>maxInFlight</code> elements ahead of the consumer.
+ * <p>
+ * If a future completes exceptionally, its exception is rethrown (unwrapped from any
+ * <code>CompletionException</code>) when its result is pulled.
+ *
+ * @param <A> The input Iterable element type
+ * @param <B> The output Iterable element type
+ * @see MapAsyncUnordered
+ * @see com.jnape.palatable.lambda.functions.builtin.fn2.Map
+ */
+public final class MapAsync<A, B> implements Fn3<Integer, Function<? super A, ? extends CompletableFuture<B>>, Iterable<A>, Iterable<B>> {
+
+    private static final MapAsync INSTANCE = new MapAsync();
+
+    private MapAsync() {
+    }
+
+    @Override
+    public Iterable<B> apply(Integer maxInFlight, Function<? super A, ? extends CompletableFuture<B>> fn,
+                             Iterable<A> as) {
+        return new AsyncMappingIterable<>(maxInFlight, fn, as, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B> MapAsync<A, B> mapAsync() {
+        return INSTANCE;
+    }
+
+    public static <A, B> Fn2<Function<? super A, ? extends CompletableFuture<B>>, Iterable<A>, Iterable<B>>
+    mapAsync(Integer maxInFlight) {
+        return MapAsync.<A, B>mapAsync().apply(maxInFlight);
+    }
+
+    public static <A, B> Fn1<Iterable<A>, Iterable<B>> mapAsync(
+            Integer maxInFlight, Function<? super A, ? extends CompletableFuture<B>> fn) {
+        return MapAsync.<A, B>mapAsync(maxInFlight).apply(fn);
+    }
+
+    public static <A, B> Iterable<B> mapAsync(
+            Integer maxInFlight, Function<? super A, ? extends CompletableFuture<B>> fn, Iterable<A> as) {
+        return MapAsync.<A, B>mapAsync(maxInFlight, fn).apply(as);
+    }
+}
@@ -0,0 +1,52 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.iterators.AsyncMappingIterable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Like {@link MapAsync}, lazily map each element of the <code>Iterable</code> with an asynchronous function, keeping up
+ * to <code>maxInFlight</code> of its futures outstanding at once, but yield the results in the order their futures
+ * complete rather than in source order, so that one slow call does not hold back the results behind it.
+ *
+ * @param <A> The input Iterable element type
+ * @param <B> The output Iterable element type
+ * @see MapAsync
+ */
+public final class MapAsyncUnordered<A, B> implements Fn3<Integer, Function<? super A, ? extends CompletableFuture<B>>, Iterable<A>, Iterable<B>> {
+
+    private static final MapAsyncUnordered INSTANCE = new MapAsyncUnordered();
+
+    private MapAsyncUnordered() {
+    }
+
+    @Override
+    public Iterable<B> apply(Integer maxInFlight, Function<? super A, ? extends CompletableFuture<B>> fn,
+                             Iterable<A> as) {
+        return new AsyncMappingIterable<>(maxInFlight, fn, as, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B> MapAsyncUnordered<A, B> mapAsyncUnordered() {
+        return INSTANCE;
+    }
+
+    public static <A, B> Fn2<Function<? super A, ? extends CompletableFuture<B>>, Iterable<A>, Iterable<B>>
+    mapAsyncUnordered(Integer maxInFlight) {
+        return MapAsyncUnordered.<A, B>mapAsyncUnordered().apply(maxInFlight);
+    }
+
+    public static <A, B> Fn1<Iterable<A>, Iterable<B>> mapAsyncUnordered(
+            Integer maxInFlight, Function<? super A, ? extends CompletableFuture<B>> fn) {
+        return MapAsyncUnordered.<A, B>mapAsyncUnordered(maxInFlight).apply(fn);
+    }
+
+    public static <A, B> Iterable<B> mapAsyncUnordered(
+            Integer maxInFlight, Function<? super A, ? extends CompletableFuture<B>> fn, Iterable<A> as) {
+        return MapAsyncUnordered.<A, B>mapAsyncUnordered(maxInFlight, fn).apply(as);
+    }
+}
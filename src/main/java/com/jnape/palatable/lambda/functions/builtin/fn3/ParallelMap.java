@@ -0,0 +1,65 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.iterators.ParallelMappingIterable;
+
+import java.util.function.Function;
+
+/**
+ * Lazily map each element of the <code>Iterable</code> with a blocking function, running up to
+ * <code>maxInFlight</code> applications at once on separate threads and yielding the results in source order. This is
+ * intended for per-element work that spends its time waiting, like JDBC calls or file reads. On Java 21 and later,
+ * each application runs on its own virtual thread; on earlier versions, it runs on a shared pool of daemon platform
+ * threads. Either way, the source is never read more than <code>maxInFlight</code> elements ahead of the consumer.
+ * <p>
+ * Iterators are <code>AutoCloseable</code>; closing one interrupts and cancels its outstanding applications and ends
+ * iteration. Terminal operations that stop before exhausting the <code>Iterable</code> they were given close its
+ * iterator for you: {@link com.jnape.palatable.lambda.functions.builtin.fn2.Any},
+ * {@link com.jnape.palatable.lambda.functions.builtin.fn2.All}, {@link FoldLeft} with a finished
+ * {@link com.jnape.palatable.lambda.functions.specialized.Reducer}, and
+ * {@link com.jnape.palatable.lambda.functions.builtin.fn2.Take} once it has taken its elements. Any other
+ * abandonment, including a push-style traversal that merely stops early or an iterator dropped behind another lazy
+ * stage, is not detected: it leaves at most <code>maxInFlight</code> applications to run to completion, and no
+ * application is ever run twice.
+ * <p>
+ * If an application throws, its exception is rethrown when its result is pulled.
+ *
+ * @param <A> The input Iterable element type
+ * @param <B> The output Iterable element type
+ * @see MapAsync
+ * @see com.jnape.palatable.lambda.functions.builtin.fn2.Map
+ */
+public final class ParallelMap<A, B> implements Fn3<Integer, Function<? super A, ? extends B>, Iterable<A>, Iterable<B>> {
+
+    private static final ParallelMap INSTANCE = new ParallelMap();
+
+    private ParallelMap() {
+    }
+
+    @Override
+    public Iterable<B> apply(Integer maxInFlight, Function<? super A, ? extends B> fn, Iterable<A> as) {
+        return new ParallelMappingIterable<>(maxInFlight, fn, as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B> ParallelMap<A, B> parallelMap() {
+        return INSTANCE;
+    }
+
+    public static <A, B> Fn2<Function<? super A, ? extends B>, Iterable<A>, Iterable<B>> parallelMap(
+            Integer maxInFlight) {
+        return ParallelMap.<A, B>parallelMap().apply(maxInFlight);
+    }
+
+    public static <A, B> Fn1<Iterable<A>, Iterable<B>> parallelMap(Integer maxInFlight,
+                                                                   Function<? super A, ? extends B> fn) {
+        return ParallelMap.<A, B>parallelMap(maxInFlight).apply(fn);
+    }
+
+    public static <A, B> Iterable<B> parallelMap(Integer maxInFlight, Function<? super A, ? extends B> fn,
+                                                 Iterable<A> as) {
+        return ParallelMap.<A, B>parallelMap(maxInFlight, fn).apply(as);
+    }
+}
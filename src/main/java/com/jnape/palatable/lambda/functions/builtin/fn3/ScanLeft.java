@@ -3,6 +3,7 @@ package com.jnape.palatable.lambda.functions.builtin.fn3;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
 import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.iterators.LambdaIterable;
 import com.jnape.palatable.lambda.iterators.ScanningIterator;
 
 import java.util.function.BiFunction;
@@ -27,7 +28,7 @@ public final class ScanLeft<A, B> implements Fn3<BiFunction<? super B, ? super A
 
     @Override
     public Iterable<B> apply(BiFunction<? super B, ? super A, ? extends B> fn, B b, Iterable<A> as) {
-        return () -> new ScanningIterator<>(fn, b, as.iterator());
+        return (LambdaIterable<B>) () -> new ScanningIterator<>(fn, b, as.iterator());
     }
 
     @SuppressWarnings("unchecked")
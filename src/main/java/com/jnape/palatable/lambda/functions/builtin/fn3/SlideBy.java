@@ -0,0 +1,46 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.builtin.fn2.Slide;
+import com.jnape.palatable.lambda.iterators.SlidingIterable;
+
+/**
+ * Like {@link Slide}, lazily slide a window of size <code>k</code> over the <code>Iterable</code>, but advance the
+ * window by <code>step</code> elements at a time, such that <code>slideBy(2, 3, asList(1, 2, 3, 4, 5, 6))</code>
+ * produces <code>[1, 2, 3]</code> and <code>[3, 4, 5]</code>. A <code>step</code> greater than <code>k</code> skips
+ * the elements in between windows. Windows carry the same validity rules as those produced by {@link Slide}.
+ *
+ * @param <A> The Iterable element type
+ * @see Slide
+ */
+public final class SlideBy<A> implements Fn3<Integer, Integer, Iterable<A>, Iterable<Iterable<A>>> {
+
+    private static final SlideBy INSTANCE = new SlideBy();
+
+    private SlideBy() {
+    }
+
+    @Override
+    public Iterable<Iterable<A>> apply(Integer step, Integer k, Iterable<A> as) {
+        return new SlidingIterable<>(k, step, as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> SlideBy<A> slideBy() {
+        return INSTANCE;
+    }
+
+    public static <A> Fn2<Integer, Iterable<A>, Iterable<Iterable<A>>> slideBy(Integer step) {
+        return SlideBy.<A>slideBy().apply(step);
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<Iterable<A>>> slideBy(Integer step, Integer k) {
+        return SlideBy.<A>slideBy(step).apply(k);
+    }
+
+    public static <A> Iterable<Iterable<A>> slideBy(Integer step, Integer k, Iterable<A> as) {
+        return SlideBy.<A>slideBy(step, k).apply(as);
+    }
+}
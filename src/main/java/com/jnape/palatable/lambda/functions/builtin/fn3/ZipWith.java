@@ -3,7 +3,7 @@ package com.jnape.palatable.lambda.functions.builtin.fn3;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
 import com.jnape.palatable.lambda.functions.Fn3;
-import com.jnape.palatable.lambda.iterators.ZippingIterator;
+import com.jnape.palatable.lambda.iterators.ZippingIterable;
 
 import java.util.function.BiFunction;
 
@@ -26,7 +26,7 @@ public final class ZipWith<A, B, C> implements Fn3<BiFunction<? super A, ? super
 
     @Override
     public Iterable<C> apply(BiFunction<? super A, ? super B, ? extends C> zipper, Iterable<A> as, Iterable<B> bs) {
-        return () -> new ZippingIterator<>(zipper, as.iterator(), bs.iterator());
+        return new ZippingIterable<>(zipper, as, bs);
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,64 @@
+package com.jnape.palatable.lambda.functions.specialized;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A specialized {@link Fn1} from <code>double</code> to <code>double</code> that never boxes its argument or result.
+ *
+ * @see DoublePredicate
+ */
+@FunctionalInterface
+public interface DoubleFn1 extends DoubleUnaryOperator {
+
+    /**
+     * Invoke this function with the given argument.
+     *
+     * @param a the argument
+     * @return the result of the function application
+     */
+    double apply(double a);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default double applyAsDouble(double a) {
+        return apply(a);
+    }
+
+    /**
+     * Left-to-right composition, returning an instance of <code>DoubleFn1</code>.
+     *
+     * @param f the function to invoke with this function's return value
+     * @return the composed function
+     */
+    default DoubleFn1 then(DoubleUnaryOperator f) {
+        return a -> f.applyAsDouble(apply(a));
+    }
+
+    /**
+     * Override of {@link DoubleUnaryOperator#andThen(DoubleUnaryOperator)}, returning an instance of <code>DoubleFn1</code>
+     * for compatibility. Left-to-right composition.
+     *
+     * @param after the function to invoke with this function's return value
+     * @return the composed function
+     */
+    @Override
+    default DoubleFn1 andThen(DoubleUnaryOperator after) {
+        return then(after);
+    }
+
+    /**
+     * Override of {@link DoubleUnaryOperator#compose(DoubleUnaryOperator)}, returning an instance of <code>DoubleFn1</code>
+     * for compatibility. Right-to-left composition.
+     *
+     * @param before the function whose return value is this function's argument
+     * @return the composed function
+     */
+    @Override
+    default DoubleFn1 compose(DoubleUnaryOperator before) {
+        return a -> apply(before.applyAsDouble(a));
+    }
+}
@@ -0,0 +1,61 @@
+package com.jnape.palatable.lambda.functions.specialized;
+
+/**
+ * A specialized {@link Predicate} of a <code>double</code> that never boxes its argument or result.
+ *
+ * @see DoubleFn1
+ */
+@FunctionalInterface
+public interface DoublePredicate extends java.util.function.DoublePredicate {
+
+    /**
+     * Invoke this predicate with the given argument.
+     *
+     * @param a the argument
+     * @return true if the argument satisfies this predicate; false otherwise
+     */
+    boolean apply(double a);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean test(double a) {
+        return apply(a);
+    }
+
+    /**
+     * Override of {@link java.util.function.DoublePredicate#and(java.util.function.DoublePredicate)}, returning an
+     * instance of <code>DoublePredicate</code> for compatibility. Left-to-right composition.
+     *
+     * @param other the predicate to test if this one succeeds
+     * @return a predicate representing the conjunction of this predicate and other
+     */
+    @Override
+    default DoublePredicate and(java.util.function.DoublePredicate other) {
+        return a -> apply(a) && other.test(a);
+    }
+
+    /**
+     * Override of {@link java.util.function.DoublePredicate#or(java.util.function.DoublePredicate)}, returning an
+     * instance of <code>DoublePredicate</code> for compatibility. Left-to-right composition.
+     *
+     * @param other the predicate to test if this one fails
+     * @return a predicate representing the disjunction of this predicate and other
+     */
+    @Override
+    default DoublePredicate or(java.util.function.DoublePredicate other) {
+        return a -> apply(a) || other.test(a);
+    }
+
+    /**
+     * Override of {@link java.util.function.DoublePredicate#negate()}, returning an instance of
+     * <code>DoublePredicate</code> for compatibility.
+     *
+     * @return the negation of this predicate
+     */
+    @Override
+    default DoublePredicate negate() {
+        return a -> !apply(a);
+    }
+}
@@ -0,0 +1,64 @@
+package com.jnape.palatable.lambda.functions.specialized;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A specialized {@link Fn1} from <code>int</code> to <code>int</code> that never boxes its argument or result.
+ *
+ * @see IntPredicate
+ */
+@FunctionalInterface
+public interface IntFn1 extends IntUnaryOperator {
+
+    /**
+     * Invoke this function with the given argument.
+     *
+     * @param a the argument
+     * @return the result of the function application
+     */
+    int apply(int a);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default int applyAsInt(int a) {
+        return apply(a);
+    }
+
+    /**
+     * Left-to-right composition, returning an instance of <code>IntFn1</code>.
+     *
+     * @param f the function to invoke with this function's return value
+     * @return the composed function
+     */
+    default IntFn1 then(IntUnaryOperator f) {
+        return a -> f.applyAsInt(apply(a));
+    }
+
+    /**
+     * Override of {@link IntUnaryOperator#andThen(IntUnaryOperator)}, returning an instance of <code>IntFn1</code>
+     * for compatibility. Left-to-right composition.
+     *
+     * @param after the function to invoke with this function's return value
+     * @return the composed function
+     */
+    @Override
+    default IntFn1 andThen(IntUnaryOperator after) {
+        return then(after);
+    }
+
+    /**
+     * Override of {@link IntUnaryOperator#compose(IntUnaryOperator)}, returning an instance of <code>IntFn1</code>
+     * for compatibility. Right-to-left composition.
+     *
+     * @param before the function whose return value is this function's argument
+     * @return the composed function
+     */
+    @Override
+    default IntFn1 compose(IntUnaryOperator before) {
+        return a -> apply(before.applyAsInt(a));
+    }
+}
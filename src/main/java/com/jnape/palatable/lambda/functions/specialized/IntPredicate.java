@@ -0,0 +1,61 @@
+package com.jnape.palatable.lambda.functions.specialized;
+
+/**
+ * A specialized {@link Predicate} of a <code>int</code> that never boxes its argument or result.
+ *
+ * @see IntFn1
+ */
+@FunctionalInterface
+public interface IntPredicate extends java.util.function.IntPredicate {
+
+    /**
+     * Invoke this predicate with the given argument.
+     *
+     * @param a the argument
+     * @return true if the argument satisfies this predicate; false otherwise
+     */
+    boolean apply(int a);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean test(int a) {
+        return apply(a);
+    }
+
+    /**
+     * Override of {@link java.util.function.IntPredicate#and(java.util.function.IntPredicate)}, returning an
+     * instance of <code>IntPredicate</code> for compatibility. Left-to-right composition.
+     *
+     * @param other the predicate to test if this one succeeds
+     * @return a predicate representing the conjunction of this predicate and other
+     */
+    @Override
+    default IntPredicate and(java.util.function.IntPredicate other) {
+        return a -> apply(a) && other.test(a);
+    }
+
+    /**
+     * Override of {@link java.util.function.IntPredicate#or(java.util.function.IntPredicate)}, returning an
+     * instance of <code>IntPredicate</code> for compatibility. Left-to-right composition.
+     *
+     * @param other the predicate to test if this one fails
+     * @return a predicate representing the disjunction of this predicate and other
+     */
+    @Override
+    default IntPredicate or(java.util.function.IntPredicate other) {
+        return a -> apply(a) || other.test(a);
+    }
+
+    /**
+     * Override of {@link java.util.function.IntPredicate#negate()}, returning an instance of
+     * <code>IntPredicate</code> for compatibility.
+     *
+     * @return the negation of this predicate
+     */
+    @Override
+    default IntPredicate negate() {
+        return a -> !apply(a);
+    }
+}
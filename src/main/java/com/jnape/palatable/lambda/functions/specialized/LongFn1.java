@@ -0,0 +1,64 @@
+package com.jnape.palatable.lambda.functions.specialized;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A specialized {@link Fn1} from <code>long</code> to <code>long</code> that never boxes its argument or result.
+ *
+ * @see LongPredicate
+ */
+@FunctionalInterface
+public interface LongFn1 extends LongUnaryOperator {
+
+    /**
+     * Invoke this function with the given argument.
+     *
+     * @param a the argument
+     * @return the result of the function application
+     */
+    long apply(long a);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default long applyAsLong(long a) {
+        return apply(a);
+    }
+
+    /**
+     * Left-to-right composition, returning an instance of <code>LongFn1</code>.
+     *
+     * @param f the function to invoke with this function's return value
+     * @return the composed function
+     */
+    default LongFn1 then(LongUnaryOperator f) {
+        return a -> f.applyAsLong(apply(a));
+    }
+
+    /**
+     * Override of {@link LongUnaryOperator#andThen(LongUnaryOperator)}, returning an instance of <code>LongFn1</code>
+     * for compatibility. Left-to-right composition.
+     *
+     * @param after the function to invoke with this function's return value
+     * @return the composed function
+     */
+    @Override
+    default LongFn1 andThen(LongUnaryOperator after) {
+        return then(after);
+    }
+
+    /**
+     * Override of {@link LongUnaryOperator#compose(LongUnaryOperator)}, returning an instance of <code>LongFn1</code>
+     * for compatibility. Right-to-left composition.
+     *
+     * @param before the function whose return value is this function's argument
+     * @return the composed function
+     */
+    @Override
+    default LongFn1 compose(LongUnaryOperator before) {
+        return a -> apply(before.applyAsLong(a));
+    }
+}
@@ -0,0 +1,61 @@
+package com.jnape.palatable.lambda.functions.specialized;
+
+/**
+ * A specialized {@link Predicate} of a <code>long</code> that never boxes its argument or result.
+ *
+ * @see LongFn1
+ */
+@FunctionalInterface
+public interface LongPredicate extends java.util.function.LongPredicate {
+
+    /**
+     * Invoke this predicate with the given argument.
+     *
+     * @param a the argument
+     * @return true if the argument satisfies this predicate; false otherwise
+     */
+    boolean apply(long a);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean test(long a) {
+        return apply(a);
+    }
+
+    /**
+     * Override of {@link java.util.function.LongPredicate#and(java.util.function.LongPredicate)}, returning an
+     * instance of <code>LongPredicate</code> for compatibility. Left-to-right composition.
+     *
+     * @param other the predicate to test if this one succeeds
+     * @return a predicate representing the conjunction of this predicate and other
+     */
+    @Override
+    default LongPredicate and(java.util.function.LongPredicate other) {
+        return a -> apply(a) && other.test(a);
+    }
+
+    /**
+     * Override of {@link java.util.function.LongPredicate#or(java.util.function.LongPredicate)}, returning an
+     * instance of <code>LongPredicate</code> for compatibility. Left-to-right composition.
+     *
+     * @param other the predicate to test if this one fails
+     * @return a predicate representing the disjunction of this predicate and other
+     */
+    @Override
+    default LongPredicate or(java.util.function.LongPredicate other) {
+        return a -> apply(a) || other.test(a);
+    }
+
+    /**
+     * Override of {@link java.util.function.LongPredicate#negate()}, returning an instance of
+     * <code>LongPredicate</code> for compatibility.
+     *
+     * @return the negation of this predicate
+     */
+    @Override
+    default LongPredicate negate() {
+        return a -> !apply(a);
+    }
+}
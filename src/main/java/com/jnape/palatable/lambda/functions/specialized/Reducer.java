@@ -0,0 +1,67 @@
+package com.jnape.palatable.lambda.functions.specialized;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A {@link BiFunction} that accumulates an <code>A</code> into a <code>B</code>, and that can signal that its
+ * accumulation is done: that no further element could change it. Left folds that are given a <code>Reducer</code>,
+ * like {@link com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft} and
+ * {@link com.jnape.palatable.lambda.functions.builtin.fn2.ReduceLeft}, stop consuming their input as soon as the
+ * accumulation is done, so they may terminate even over infinite <code>Iterable</code>s.
+ *
+ * @param <B> the accumulation type
+ * @param <A> the element type
+ */
+@FunctionalInterface
+public interface Reducer<B, A> extends BiFunction<B, A, B> {
+
+    /**
+     * Whether the accumulation <code>b</code> is done, in which case no more elements will be accumulated into it.
+     * Defaults to <code>false</code>, so a <code>Reducer</code> consumes everything unless told otherwise.
+     *
+     * @param b the accumulation
+     * @return true if done; false otherwise
+     */
+    default boolean isDone(B b) {
+        return false;
+    }
+
+    /**
+     * Finish an accumulation once there are no more elements, for instance by flushing anything a stateful
+     * <code>Reducer</code> has held back. Left folds do not call this themselves; whoever drives the fold to completion
+     * does, like {@link com.jnape.palatable.lambda.functions.Transducer#transduce}. Defaults to returning
+     * <code>b</code> unchanged.
+     *
+     * @param b the accumulation
+     * @return the completed accumulation
+     */
+    default B complete(B b) {
+        return b;
+    }
+
+    /**
+     * Static factory method for creating a <code>Reducer</code> from an accumulating function and a predicate that
+     * decides when an accumulation is done.
+     *
+     * @param fn     the accumulating function
+     * @param isDone the predicate
+     * @param <B>    the accumulation type
+     * @param <A>    the element type
+     * @return the Reducer
+     */
+    static <B, A> Reducer<B, A> reducer(BiFunction<? super B, ? super A, ? extends B> fn,
+                                        Function<? super B, Boolean> isDone) {
+        return new Reducer<B, A>() {
+            @Override
+            public B apply(B b, A a) {
+                return fn.apply(b, a);
+            }
+
+            @Override
+            public boolean isDone(B b) {
+                return isDone.apply(b);
+            }
+        };
+    }
+}
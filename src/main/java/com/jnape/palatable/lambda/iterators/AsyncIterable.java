@@ -0,0 +1,40 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class AsyncIterable<A> implements SizedIterable<A> {
+    private static final AtomicInteger THREADS   = new AtomicInteger();
+    private static final ThreadFactory PRODUCERS = runnable -> {
+        Thread thread = new Thread(runnable, "lambda-async-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    };
+
+    private final int         bufferSize;
+    private final Iterable<A> as;
+
+    public AsyncIterable(int bufferSize, Iterable<A> as) {
+        if (bufferSize <= 0)
+            throw new IllegalArgumentException("buffer size must be positive: " + bufferSize);
+
+        this.bufferSize = bufferSize;
+        this.as = as;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new AsyncIterator<>(bufferSize, as, PRODUCERS);
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        return SizedIterable.sizeIfKnown(as);
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return SizedIterable.isInfinite(as);
+    }
+}
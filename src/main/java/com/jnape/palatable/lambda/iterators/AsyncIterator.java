@@ -0,0 +1,123 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+public final class AsyncIterator<A> extends ImmutableIterator<A> implements AutoCloseable {
+    private static final Object NULL = new Object();
+    private static final Object END  = new Object();
+
+    private final    Iterable<A>           as;
+    private final    BlockingQueue<Object> queue;
+    private final    ThreadFactory         threadFactory;
+    private          Thread                producer;
+    private          Object                next;
+    private volatile boolean               done;
+
+    public AsyncIterator(int bufferSize, Iterable<A> as, ThreadFactory threadFactory) {
+        this.as = as;
+        this.threadFactory = threadFactory;
+        queue = new ArrayBlockingQueue<>(bufferSize);
+        done = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (done)
+            return false;
+
+        if (next == null) {
+            if (producer == null) {
+                producer = threadFactory.newThread(this::produce);
+                producer.start();
+            }
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new CompletionException(e);
+            }
+        }
+
+        if (next instanceof Failure) {
+            done = true;
+            Throwable cause = ((Failure) next).cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new CompletionException(cause);
+        }
+
+        if (next == END) {
+            done = true;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public A next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Object a = next;
+        next = null;
+        return a == NULL ? null : (A) a;
+    }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        try {
+            return super.forEachRemainingWhile(action);
+        } catch (RuntimeException | Error e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        done = true;
+        if (producer != null)
+            producer.interrupt();
+        queue.clear();
+    }
+
+    private void produce() {
+        try {
+            Iterator<A> iterator = as.iterator();
+            if (ImmutableIterator.forEachRemainingWhile(iterator, a -> hand(a == null ? NULL : a)))
+                hand(END);
+        } catch (Throwable t) {
+            hand(new Failure(t));
+        }
+    }
+
+    private boolean hand(Object o) {
+        if (done)
+            return false;
+
+        try {
+            queue.put(o);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private static final class Failure {
+        private final Throwable cause;
+
+        private Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+}
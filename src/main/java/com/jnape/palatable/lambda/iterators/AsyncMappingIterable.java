@@ -0,0 +1,40 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+public final class AsyncMappingIterable<A, B> implements SizedIterable<B> {
+    private final int                                                  maxInFlight;
+    private final Function<? super A, ? extends CompletableFuture<B>> fn;
+    private final Iterable<A>                                          as;
+    private final boolean                                              ordered;
+
+    public AsyncMappingIterable(int maxInFlight, Function<? super A, ? extends CompletableFuture<B>> fn,
+                                Iterable<A> as, boolean ordered) {
+        if (maxInFlight <= 0)
+            throw new IllegalArgumentException("max in flight must be positive: " + maxInFlight);
+
+        this.maxInFlight = maxInFlight;
+        this.fn = fn;
+        this.as = as;
+        this.ordered = ordered;
+    }
+
+    @Override
+    public Iterator<B> iterator() {
+        return ordered
+               ? new OrderedAsyncMappingIterator<>(maxInFlight, fn, as.iterator())
+               : new UnorderedAsyncMappingIterator<>(maxInFlight, fn, as.iterator());
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        return SizedIterable.sizeIfKnown(as);
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return SizedIterable.isInfinite(as);
+    }
+}
@@ -0,0 +1,41 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+public abstract class AsyncMappingIterator<A, B> extends ImmutableIterator<B> {
+    private final Function<? super A, ? extends CompletableFuture<B>> fn;
+    private final Iterator<A>                                          asIterator;
+    private final int                                                  maxInFlight;
+
+    protected AsyncMappingIterator(int maxInFlight, Function<? super A, ? extends CompletableFuture<B>> fn,
+                                   Iterator<A> asIterator) {
+        this.fn = fn;
+        this.asIterator = asIterator;
+        this.maxInFlight = maxInFlight;
+    }
+
+    protected abstract int inFlight();
+
+    protected abstract void launched(CompletableFuture<B> future);
+
+    protected final void launchUpToMax() {
+        while (inFlight() < maxInFlight && asIterator.hasNext())
+            launched(fn.apply(asIterator.next()));
+    }
+
+    protected static <B> B await(CompletableFuture<B> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+public final class CartesianProductList<A> extends AbstractList<List<A>> implements RandomAccess {
+    private final List<?>[] dimensions;
+    private final long[]    strides;
+    private final int       size;
+
+    public CartesianProductList(List<? extends List<? extends A>> dimensions) {
+        int n = dimensions.size();
+        this.dimensions = dimensions.toArray(new List<?>[n]);
+        strides = new long[n];
+
+        long size = 1;
+        for (List<?> dimension : this.dimensions)
+            if (dimension.isEmpty())
+                size = 0;
+
+        for (int i = n - 1; i >= 0 && size != 0; i--) {
+            strides[i] = size;
+            size *= this.dimensions[i].size();
+            if (size > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Cartesian product has more than Integer.MAX_VALUE elements");
+        }
+        this.size = (int) size;
+    }
+
+    @Override
+    public List<A> get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        return new Combination(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Spliterator<List<A>> spliterator() {
+        return new IndexedSpliterator<>(i -> new Combination((int) i), 0, size);
+    }
+
+    private final class Combination extends AbstractList<A> implements RandomAccess {
+        private final int index;
+
+        private Combination(int index) {
+            this.index = index;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public A get(int dimension) {
+            if (dimension < 0 || dimension >= dimensions.length)
+                throw new IndexOutOfBoundsException("Index: " + dimension + ", Size: " + dimensions.length);
+
+            List<?> values = dimensions[dimension];
+            return (A) values.get((int) ((index / strides[dimension]) % values.size()));
+        }
+
+        @Override
+        public int size() {
+            return dimensions.length;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.jnape.palatable.lambda.iterators;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+
+public final class CombinatorialIterable<A, B> implements SizedIterable<Tuple2<A, B>> {
+    private final Iterable<A> as;
+    private final Iterable<B> bs;
+
+    public CombinatorialIterable(Iterable<A> as, Iterable<B> bs) {
+        this.as = as;
+        this.bs = bs;
+    }
+
+    @Override
+    public Iterator<Tuple2<A, B>> iterator() {
+        return new CombinatorialIterator<>(as.iterator(), bs.iterator());
+    }
+
+    @Override
+    public Spliterator<Tuple2<A, B>> spliterator() {
+        if (!(isRandomAccessList(as) && isRandomAccessList(bs)))
+            return SizedIterable.super.spliterator();
+
+        List<A> as = (List<A>) this.as;
+        List<B> bs = (List<B>) this.bs;
+        int bsSize = bs.size();
+        return new IndexedSpliterator<>(i -> tuple(as.get((int) (i / bsSize)), bs.get((int) (i % bsSize))),
+                                        0, (long) as.size() * bsSize);
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        long asSize = SizedIterable.sizeIfKnown(as);
+        long bsSize = SizedIterable.sizeIfKnown(bs);
+        if (asSize == 0 || bsSize == 0)
+            return 0;
+        if (asSize == -1 || bsSize == -1 || asSize > Long.MAX_VALUE / bsSize)
+            return -1;
+        return asSize * bsSize;
+    }
+
+    private static boolean isRandomAccessList(Iterable<?> iterable) {
+        return iterable instanceof List && iterable instanceof RandomAccess;
+    }
+}
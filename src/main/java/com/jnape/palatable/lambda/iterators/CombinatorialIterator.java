@@ -4,54 +4,89 @@ import com.jnape.palatable.lambda.adt.hlist.Tuple2;
 
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.ListIterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
 
 import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
 
 public class CombinatorialIterator<A, B> extends ImmutableIterator<Tuple2<A, B>> {
-    private final Iterator<A>     asIterator;
-    private final Iterator<B>     bsIterator;
-    private final ListIterator<B> doublyLinkedBsIterator;
-    private       A               currentA;
+    private final Iterator<A> asIterator;
+    private final Iterator<B> bsIterator;
+    private final List<B>     cachedBs;
+    private       int         bIndex;
+    private       A           currentA;
+    private       boolean     hasCurrentA;
 
     public CombinatorialIterator(Iterator<A> asIterator, Iterator<B> bsIterator) {
         this.asIterator = asIterator;
         this.bsIterator = bsIterator;
-        this.doublyLinkedBsIterator = new ArrayList<B>().listIterator();
-        currentA = null;
+        cachedBs = new ArrayList<>();
+        bIndex = 0;
+        hasCurrentA = false;
     }
 
     @Override
     public boolean hasNext() {
-        return (moreAs() || currentA != null) && moreBs();
+        if (moreBsForCurrentA())
+            return hasCurrentA || asIterator.hasNext();
+
+        return !cachedBs.isEmpty() && asIterator.hasNext();
     }
 
     @Override
     public Tuple2<A, B> next() {
-        if (currentA == null)
-            currentA = asIterator.next();
+        if (!hasNext())
+            throw new NoSuchElementException();
 
-        if (bsIterator.hasNext()) {
-            doublyLinkedBsIterator.add(bsIterator.next());
-            doublyLinkedBsIterator.previous();
+        if (!moreBsForCurrentA()) {
+            hasCurrentA = false;
+            bIndex = 0;
         }
 
-        Tuple2<A, B> tuple = tuple(currentA, doublyLinkedBsIterator.next());
-
-        if (moreAs() && !moreBs()) {
+        if (!hasCurrentA) {
             currentA = asIterator.next();
-            while (doublyLinkedBsIterator.hasPrevious())
-                doublyLinkedBsIterator.previous();
+            hasCurrentA = true;
         }
 
-        return tuple;
+        if (bIndex == cachedBs.size())
+            cachedBs.add(bsIterator.next());
+
+        return tuple(currentA, cachedBs.get(bIndex++));
     }
 
-    private boolean moreAs() {
-        return asIterator.hasNext();
+    @Override
+    public boolean forEachRemainingWhile(Function<? super Tuple2<A, B>, Boolean> action) {
+        if (hasCurrentA && !pairWithRemainingBs(action))
+            return false;
+
+        if (cachedBs.isEmpty() && !bsIterator.hasNext())
+            return true;
+
+        return ImmutableIterator.forEachRemainingWhile(asIterator, a -> {
+            currentA = a;
+            hasCurrentA = true;
+            bIndex = 0;
+            return pairWithRemainingBs(action);
+        });
+    }
+
+    private boolean pairWithRemainingBs(Function<? super Tuple2<A, B>, Boolean> action) {
+        while (bIndex < cachedBs.size())
+            if (!action.apply(tuple(currentA, cachedBs.get(bIndex++))))
+                return false;
+
+        while (bsIterator.hasNext()) {
+            B b = bsIterator.next();
+            cachedBs.add(b);
+            bIndex++;
+            if (!action.apply(tuple(currentA, b)))
+                return false;
+        }
+        return true;
     }
 
-    private boolean moreBs() {
-        return bsIterator.hasNext() || doublyLinkedBsIterator.hasNext();
+    private boolean moreBsForCurrentA() {
+        return bIndex < cachedBs.size() || bsIterator.hasNext();
     }
 }
@@ -0,0 +1,29 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+
+public final class ConsingIterable<A> implements SizedIterable<A> {
+    private final A           head;
+    private final Iterable<A> tail;
+
+    public ConsingIterable(A head, Iterable<A> tail) {
+        this.head = head;
+        this.tail = tail;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new ConsingIterator<>(head, tail);
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        long size = SizedIterable.sizeIfKnown(tail);
+        return size == -1 ? -1 : size + 1;
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return SizedIterable.isInfinite(tail);
+    }
+}
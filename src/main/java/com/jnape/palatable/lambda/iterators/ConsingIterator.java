@@ -2,9 +2,10 @@ package com.jnape.palatable.lambda.iterators;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
-public final class ConsingIterator<A> implements Iterator<A> {
+public final class ConsingIterator<A> extends ImmutableIterator<A> {
 
     private final A                     head;
     private final Supplier<Iterator<A>> asSupplier;
@@ -46,4 +47,24 @@ public final class ConsingIterator<A> implements Iterator<A> {
 
         return asIterator.next();
     }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        ConsingIterator<A> cons = this;
+        while (true) {
+            if (!cons.iteratedHead) {
+                cons.iteratedHead = true;
+                if (!action.apply(cons.head))
+                    return false;
+            }
+
+            if (cons.asIterator == null)
+                cons.asIterator = cons.asSupplier.get();
+
+            if (!(cons.asIterator instanceof ConsingIterator))
+                return ImmutableIterator.forEachRemainingWhile(cons.asIterator, action);
+
+            cons = (ConsingIterator<A>) cons.asIterator;
+        }
+    }
 }
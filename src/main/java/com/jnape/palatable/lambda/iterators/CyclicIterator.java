@@ -2,15 +2,24 @@ package com.jnape.palatable.lambda.iterators;
 
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.ListIterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
 
-public class CyclicIterator<A> extends InfiniteIterator<A> {
-    private final Iterator<A>     iterator;
-    private final ListIterator<A> doublyLinkedIterator;
+public class CyclicIterator<A> extends ImmutableIterator<A> {
+    private final Iterator<A> iterator;
+    private final List<A>     cache;
+    private       int         index;
 
     public CyclicIterator(Iterator<A> iterator) {
         this.iterator = iterator;
-        doublyLinkedIterator = new ArrayList<A>().listIterator();
+        cache = new ArrayList<>();
+        index = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !cache.isEmpty() || iterator.hasNext();
     }
 
     @Override
@@ -18,17 +27,36 @@ public class CyclicIterator<A> extends InfiniteIterator<A> {
         return iterator.hasNext() ? continueInitialIteration() : continueCachedIteration();
     }
 
+    @Override
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        boolean exhausted = ImmutableIterator.forEachRemainingWhile(iterator, a -> {
+            cache.add(a);
+            return action.apply(a);
+        });
+        if (!exhausted || cache.isEmpty())
+            return exhausted;
+
+        while (true) {
+            if (index == cache.size())
+                index = 0;
+            if (!action.apply(cache.get(index++)))
+                return false;
+        }
+    }
+
     private A continueCachedIteration() {
-        if (!doublyLinkedIterator.hasNext())
-            while (doublyLinkedIterator.hasPrevious())
-                doublyLinkedIterator.previous();
+        if (cache.isEmpty())
+            throw new NoSuchElementException();
+
+        if (index == cache.size())
+            index = 0;
 
-        return doublyLinkedIterator.next();
+        return cache.get(index++);
     }
 
     private A continueInitialIteration() {
         A next = iterator.next();
-        doublyLinkedIterator.add(next);
+        cache.add(next);
         return next;
     }
 }
@@ -0,0 +1,32 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+public final class CyclingIterable<A> implements SizedIterable<A> {
+    private final Iterable<A> as;
+
+    public CyclingIterable(Iterable<A> as) {
+        this.as = as;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        if (SizedIterable.isInfinite(as))
+            return as.iterator();
+
+        return as instanceof Collection
+               ? new ReiteratingCyclicIterator<>(as)
+               : new CyclicIterator<>(as.iterator());
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        return SizedIterable.sizeIfKnown(as) == 0 ? 0 : -1;
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return SizedIterable.sizeIfKnown(as) > 0 || SizedIterable.isInfinite(as);
+    }
+}
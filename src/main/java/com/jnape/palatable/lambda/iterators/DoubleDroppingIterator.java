@@ -0,0 +1,57 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+
+public final class DoubleDroppingIterator implements PrimitiveIterator.OfDouble {
+    private final int                        n;
+    private final PrimitiveIterator.OfDouble iterator;
+    private       boolean                    dropped;
+
+    public DoubleDroppingIterator(int n, PrimitiveIterator.OfDouble iterator) {
+        this.n = n;
+        this.iterator = iterator;
+        dropped = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        dropIfNecessary();
+        return iterator.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        return iterator.nextDouble();
+    }
+
+    private void dropIfNecessary() {
+        if (!dropped) {
+            int i = 0;
+            while (i++ < n && iterator.hasNext())
+                iterator.nextDouble();
+            dropped = true;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        if (dropped) {
+            iterator.forEachRemaining(action);
+            return;
+        }
+
+        dropped = true;
+        int[] remaining = {n};
+        iterator.forEachRemaining((double x) -> {
+            if (remaining[0] > 0)
+                remaining[0]--;
+            else
+                action.accept(x);
+        });
+    }
+}
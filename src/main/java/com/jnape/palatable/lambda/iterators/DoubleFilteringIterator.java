@@ -0,0 +1,60 @@
+package com.jnape.palatable.lambda.iterators;
+
+import com.jnape.palatable.lambda.functions.specialized.DoublePredicate;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+
+public final class DoubleFilteringIterator implements PrimitiveIterator.OfDouble {
+    private final DoublePredicate            predicate;
+    private final PrimitiveIterator.OfDouble iterator;
+    private       double                     next;
+    private       boolean                    buffered;
+
+    public DoubleFilteringIterator(DoublePredicate predicate, PrimitiveIterator.OfDouble iterator) {
+        this.predicate = predicate;
+        this.iterator = iterator;
+        buffered = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (buffered)
+            return true;
+
+        while (iterator.hasNext()) {
+            double candidate = iterator.nextDouble();
+            if (predicate.apply(candidate)) {
+                next = candidate;
+                buffered = true;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        buffered = false;
+        return next;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        if (buffered) {
+            buffered = false;
+            action.accept(next);
+        }
+
+        DoublePredicate predicate = this.predicate;
+        iterator.forEachRemaining((double x) -> {
+            if (predicate.apply(x))
+                action.accept(x);
+        });
+    }
+}
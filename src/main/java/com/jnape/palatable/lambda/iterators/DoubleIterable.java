@@ -0,0 +1,129 @@
+package com.jnape.palatable.lambda.iterators;
+
+import com.jnape.palatable.lambda.functions.specialized.DoubleFn1;
+import com.jnape.palatable.lambda.functions.specialized.DoublePredicate;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleFunction;
+import java.util.function.ToDoubleFunction;
+
+import static java.util.Spliterator.ORDERED;
+
+/**
+ * An <code>Iterable</code> of unboxed <code>double</code>s. Its iterator is a {@link PrimitiveIterator.OfDouble}, and
+ * {@link DoubleIterable#map}, {@link DoubleIterable#filter}, {@link DoubleIterable#take}, {@link DoubleIterable#drop},
+ * and {@link DoubleIterable#foldLeft} are lazy (where applicable) and never box an element. {@link
+ * DoubleIterable#mapToDouble} enters this representation from an <code>Iterable</code> of objects, and {@link
+ * DoubleIterable#mapToObj} leaves it again. Any <code>DoubleIterable</code> is also an
+ * <code>Iterable&lt;Double&gt;</code>, so the generic builtins accept it, boxing as they go.
+ */
+@FunctionalInterface
+public interface DoubleIterable extends LambdaIterable<Double> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    PrimitiveIterator.OfDouble iterator();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Spliterator.OfDouble spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), ORDERED);
+    }
+
+    /**
+     * Lazily apply <code>fn</code> to each element.
+     *
+     * @param fn the mapping function
+     * @return the mapped DoubleIterable
+     */
+    default DoubleIterable map(DoubleFn1 fn) {
+        return () -> new DoubleMappingIterator(fn, iterator());
+    }
+
+    /**
+     * Lazily apply <code>fn</code> to each element, leaving the unboxed representation for an <code>Iterable</code>
+     * of arbitrary objects.
+     *
+     * @param fn  the mapping function
+     * @param <A> the mapped element type
+     * @return the mapped Iterable
+     */
+    default <A> LambdaIterable<A> mapToObj(DoubleFunction<? extends A> fn) {
+        return () -> new DoubleToObjMappingIterator<>(fn, iterator());
+    }
+
+    /**
+     * Lazily retain only the elements that satisfy <code>predicate</code>.
+     *
+     * @param predicate the predicate
+     * @return the filtered DoubleIterable
+     */
+    default DoubleIterable filter(DoublePredicate predicate) {
+        return () -> new DoubleFilteringIterator(predicate, iterator());
+    }
+
+    /**
+     * Lazily limit this iterable to at most its first <code>n</code> elements.
+     *
+     * @param n the number of elements to take
+     * @return the limited DoubleIterable
+     */
+    default DoubleIterable take(int n) {
+        return () -> new DoubleTakingIterator(n, iterator());
+    }
+
+    /**
+     * Lazily skip the first <code>n</code> elements of this iterable.
+     *
+     * @param n the number of elements to drop
+     * @return the remaining DoubleIterable
+     */
+    default DoubleIterable drop(int n) {
+        return () -> new DoubleDroppingIterator(n, iterator());
+    }
+
+    /**
+     * Fold the elements from left to right, starting with <code>acc</code>.
+     *
+     * @param acc the starting accumulator
+     * @param fn  the folding function, receiving the accumulator and the next element
+     * @return the folded result
+     */
+    default double foldLeft(double acc, DoubleBinaryOperator fn) {
+        double[] accumulation = {acc};
+        iterator().forEachRemaining((double x) -> accumulation[0] = fn.applyAsDouble(accumulation[0], x));
+        return accumulation[0];
+    }
+
+    /**
+     * Static factory method for creating a <code>DoubleIterable</code> by lazily applying <code>fn</code> to each
+     * element of <code>as</code>, so that the results are never boxed.
+     *
+     * @param fn  the mapping function
+     * @param as  the Iterable
+     * @param <A> the Iterable element type
+     * @return the DoubleIterable
+     */
+    static <A> DoubleIterable mapToDouble(ToDoubleFunction<? super A> fn, Iterable<A> as) {
+        return () -> new ToDoubleMappingIterator<>(fn, as.iterator());
+    }
+
+    /**
+     * Static factory method for creating a <code>DoubleIterable</code> over the given elements. Like
+     * {@link Arrays#asList(Object[])}, the array is not copied.
+     *
+     * @param doubles the elements
+     * @return the DoubleIterable
+     */
+    static DoubleIterable doubles(double... doubles) {
+        return () -> Spliterators.iterator(Arrays.spliterator(doubles));
+    }
+}
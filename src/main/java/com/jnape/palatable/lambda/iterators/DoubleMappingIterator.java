@@ -0,0 +1,32 @@
+package com.jnape.palatable.lambda.iterators;
+
+import com.jnape.palatable.lambda.functions.specialized.DoubleFn1;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+
+public final class DoubleMappingIterator implements PrimitiveIterator.OfDouble {
+    private final DoubleFn1                  fn;
+    private final PrimitiveIterator.OfDouble iterator;
+
+    public DoubleMappingIterator(DoubleFn1 fn, PrimitiveIterator.OfDouble iterator) {
+        this.fn = fn;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        return fn.apply(iterator.nextDouble());
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        DoubleFn1 fn = this.fn;
+        iterator.forEachRemaining((double x) -> action.accept(fn.apply(x)));
+    }
+}
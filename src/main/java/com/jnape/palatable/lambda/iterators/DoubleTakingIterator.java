@@ -0,0 +1,39 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+
+public final class DoubleTakingIterator implements PrimitiveIterator.OfDouble {
+    private final int                        n;
+    private final PrimitiveIterator.OfDouble iterator;
+    private       int                        currentIndex;
+
+    public DoubleTakingIterator(int n, PrimitiveIterator.OfDouble iterator) {
+        this.n = n;
+        this.iterator = iterator;
+        currentIndex = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return currentIndex < n && iterator.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        if (currentIndex >= n)
+            throw new NoSuchElementException();
+
+        currentIndex++;
+        return iterator.nextDouble();
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        while (currentIndex < n && iterator.hasNext()) {
+            currentIndex++;
+            action.accept(iterator.nextDouble());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleFunction;
+
+public final class DoubleToObjMappingIterator<A> extends ImmutableIterator<A> {
+    private final DoubleFunction<? extends A> fn;
+    private final PrimitiveIterator.OfDouble  iterator;
+
+    public DoubleToObjMappingIterator(DoubleFunction<? extends A> fn, PrimitiveIterator.OfDouble iterator) {
+        this.fn = fn;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public A next() {
+        return fn.apply(iterator.nextDouble());
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super A> action) {
+        DoubleFunction<? extends A> fn = this.fn;
+        iterator.forEachRemaining((double x) -> action.accept(fn.apply(x)));
+    }
+}
@@ -0,0 +1,52 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+public final class DroppingIterable<A> implements SizedIterable<A> {
+    private final int         n;
+    private final Iterable<A> as;
+
+    public DroppingIterable(int n, Iterable<A> as) {
+        if (as instanceof DroppingIterable) {
+            DroppingIterable<A> upstream = (DroppingIterable<A>) as;
+            long combined = (long) Math.max(0, n) + upstream.n;
+            this.n = (int) Math.min(combined, Integer.MAX_VALUE);
+            this.as = upstream.as;
+        } else {
+            this.n = Math.max(0, n);
+            this.as = as;
+        }
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        if (as instanceof List && as instanceof RandomAccess)
+            return new RandomAccessIterator<>((List<A>) as, n, Integer.MAX_VALUE);
+
+        return new DroppingIterator<>(n, as.iterator());
+    }
+
+    @Override
+    public Spliterator<A> spliterator() {
+        if (as instanceof List && as instanceof RandomAccess) {
+            List<A> list = (List<A>) as;
+            return list.subList(Math.min(n, list.size()), list.size()).spliterator();
+        }
+
+        return SizedIterable.super.spliterator();
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        long size = SizedIterable.sizeIfKnown(as);
+        return size == -1 ? -1 : Math.max(0, size - n);
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return SizedIterable.isInfinite(as);
+    }
+}
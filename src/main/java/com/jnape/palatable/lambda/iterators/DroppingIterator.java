@@ -2,6 +2,7 @@ package com.jnape.palatable.lambda.iterators;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
 
 public class DroppingIterator<A> extends ImmutableIterator<A> {
     private final Integer     n;
@@ -37,4 +38,19 @@ public class DroppingIterator<A> extends ImmutableIterator<A> {
         }
     }
 
+    @Override
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        if (dropped)
+            return ImmutableIterator.forEachRemainingWhile(asIterator, action);
+
+        dropped = true;
+        int[] remaining = {n};
+        return ImmutableIterator.forEachRemainingWhile(asIterator, a -> {
+            if (remaining[0] > 0) {
+                remaining[0]--;
+                return true;
+            }
+            return action.apply(a);
+        });
+    }
 }
@@ -0,0 +1,65 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Function;
+
+public final class FilteringIterable<A> implements LambdaIterable<A> {
+    private final Iterable<A>                  source;
+    private final FilteringIterable<A>         upstream;
+    private final Function<? super A, Boolean> predicate;
+    private final int                          stages;
+
+    private volatile Function<? super A, Boolean> conjoined;
+
+    public FilteringIterable(Function<? super A, Boolean> predicate, Iterable<A> as) {
+        if (as instanceof FilteringIterable) {
+            FilteringIterable<A> upstream = (FilteringIterable<A>) as;
+            this.source = upstream.source;
+            this.upstream = upstream;
+            this.stages = upstream.stages + 1;
+        } else {
+            this.source = as;
+            this.upstream = null;
+            this.stages = 1;
+        }
+        this.predicate = predicate;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new FilteringIterator<>(conjoined(), source.iterator());
+    }
+
+    @Override
+    public Spliterator<A> spliterator() {
+        return new FilteringSpliterator<>(conjoined(), source.spliterator());
+    }
+
+    private Function<? super A, Boolean> conjoined() {
+        Function<? super A, Boolean> conjoined = this.conjoined;
+        if (conjoined == null)
+            this.conjoined = conjoined = conjoin();
+        return conjoined;
+    }
+
+    private Function<? super A, Boolean> conjoin() {
+        if (stages == 1)
+            return predicate;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Function<? super A, Boolean>[] predicates = new Function[stages];
+        FilteringIterable<A> stage = this;
+        for (int i = stages - 1; i >= 0; i--) {
+            predicates[i] = stage.predicate;
+            stage = stage.upstream;
+        }
+
+        return a -> {
+            for (Function<? super A, Boolean> predicate : predicates)
+                if (!predicate.apply(a))
+                    return false;
+            return true;
+        };
+    }
+}
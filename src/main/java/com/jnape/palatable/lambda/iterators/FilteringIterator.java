@@ -1,40 +1,32 @@
 package com.jnape.palatable.lambda.iterators;
 
 import java.util.Iterator;
-import java.util.NoSuchElementException;
 import java.util.function.Function;
 
-public class FilteringIterator<A> extends ImmutableIterator<A> {
+public class FilteringIterator<A> extends LookaheadIterator<A> {
 
     private final Function<? super A, Boolean> predicate;
-    private final RewindableIterator<A>        rewindableIterator;
+    private final Iterator<A>                  iterator;
 
     public FilteringIterator(Function<? super A, Boolean> predicate, Iterator<A> iterator) {
         this.predicate = predicate;
-        rewindableIterator = new RewindableIterator<>(iterator);
+        this.iterator = iterator;
     }
 
     @Override
-    public boolean hasNext() {
-        return rewindableIterator.isRewound() || hasMoreMatchingElements();
-    }
-
-    @Override
-    public A next() {
-        if (hasNext())
-            return rewindableIterator.next();
-
-        throw new NoSuchElementException();
-    }
-
-    private boolean hasMoreMatchingElements() {
-        while (rewindableIterator.hasNext()) {
-            if (predicate.apply(rewindableIterator.next())) {
-                rewindableIterator.rewind();
-                return true;
-            }
+    protected boolean bufferNext() {
+        while (iterator.hasNext()) {
+            A next = iterator.next();
+            if (predicate.apply(next))
+                return buffer(next);
         }
 
         return false;
     }
+
+    @Override
+    protected boolean pushRemaining(Function<? super A, Boolean> action) {
+        Function<? super A, Boolean> predicate = this.predicate;
+        return ImmutableIterator.forEachRemainingWhile(iterator, a -> !predicate.apply(a) || action.apply(a));
+    }
 }
@@ -0,0 +1,55 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public final class FilteringSpliterator<A> implements Spliterator<A> {
+    private final Function<? super A, Boolean> predicate;
+    private final Spliterator<A>               spliterator;
+    private final Consumer<A>                  buffer;
+    private       A                            buffered;
+
+    public FilteringSpliterator(Function<? super A, Boolean> predicate, Spliterator<A> spliterator) {
+        this.predicate = predicate;
+        this.spliterator = spliterator;
+        buffer = a -> buffered = a;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super A> action) {
+        while (spliterator.tryAdvance(buffer)) {
+            A a = buffered;
+            buffered = null;
+            if (predicate.apply(a)) {
+                action.accept(a);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super A> action) {
+        spliterator.forEachRemaining(a -> {
+            if (predicate.apply(a))
+                action.accept(a);
+        });
+    }
+
+    @Override
+    public Spliterator<A> trySplit() {
+        Spliterator<A> split = spliterator.trySplit();
+        return split == null ? null : new FilteringSpliterator<>(predicate, split);
+    }
+
+    @Override
+    public long estimateSize() {
+        return spliterator.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return spliterator.characteristics() & ~(SIZED | SUBSIZED);
+    }
+}
@@ -0,0 +1,75 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterator.SIZED;
+
+public final class GroupingIterable<A> implements SizedIterable<Iterable<A>> {
+    private final int         k;
+    private final Iterable<A> as;
+    private final boolean     reuseBuffer;
+
+    public GroupingIterable(int k, Iterable<A> as) {
+        this(k, as, false);
+    }
+
+    public GroupingIterable(int k, Iterable<A> as, boolean reuseBuffer) {
+        this.k = k;
+        this.as = as;
+        this.reuseBuffer = reuseBuffer;
+    }
+
+    @Override
+    public Iterator<Iterable<A>> iterator() {
+        if (reuseBuffer)
+            return new ReusingGroupingIterator<>(k, as.iterator());
+
+        return new GroupingIterator<>(k, as.iterator());
+    }
+
+    @Override
+    public Spliterator<Iterable<A>> spliterator() {
+        if (!reuseBuffer)
+            return SizedIterable.super.spliterator();
+
+        Iterator<Iterable<A>> iterator = iterator();
+        long size = sizeIfKnown();
+        return new Spliterator<Iterable<A>>() {
+            @Override
+            public boolean tryAdvance(Consumer<? super Iterable<A>> action) {
+                if (!iterator.hasNext())
+                    return false;
+                action.accept(iterator.next());
+                return true;
+            }
+
+            @Override
+            public Spliterator<Iterable<A>> trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return size == -1 ? Long.MAX_VALUE : size;
+            }
+
+            @Override
+            public int characteristics() {
+                return size == -1 ? ORDERED : ORDERED | SIZED;
+            }
+        };
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        long size = SizedIterable.sizeIfKnown(as);
+        if (size == 0)
+            return 0;
+        if (size == -1 || k <= 0)
+            return -1;
+        return (size + k - 1) / k;
+    }
+}
@@ -3,6 +3,7 @@ package com.jnape.palatable.lambda.iterators;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
 
 public class GroupingIterator<A> extends ImmutableIterator<Iterable<A>> {
     private final Integer     k;
@@ -26,4 +27,22 @@ public class GroupingIterator<A> extends ImmutableIterator<Iterable<A>> {
             group.add(asIterator.next());
         return group;
     }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super Iterable<A>, Boolean> action) {
+        if (k <= 0)
+            return super.forEachRemainingWhile(action);
+
+        int size = k;
+        List<A> buffer = new ArrayList<>();
+        boolean exhausted = ImmutableIterator.forEachRemainingWhile(asIterator, a -> {
+            buffer.add(a);
+            if (buffer.size() < size)
+                return true;
+            List<A> group = new ArrayList<>(buffer);
+            buffer.clear();
+            return action.apply(group);
+        });
+        return exhausted && (buffer.isEmpty() || action.apply(buffer));
+    }
 }
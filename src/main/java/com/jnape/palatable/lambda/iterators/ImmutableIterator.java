@@ -1,6 +1,9 @@
 package com.jnape.palatable.lambda.iterators;
 
 import java.util.Iterator;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public abstract class ImmutableIterator<Element> implements Iterator<Element> {
 
@@ -8,4 +11,69 @@ public abstract class ImmutableIterator<Element> implements Iterator<Element> {
     public final void remove() {
         throw new UnsupportedOperationException("Iterator is immutable.");
     }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Element> action) {
+        forEachRemainingWhile(element -> {
+            action.accept(element);
+            return true;
+        });
+    }
+
+    /**
+     * Push each remaining element to <code>action</code>, in order, for as long as <code>action</code> returns true.
+     * The element for which <code>action</code> returns false is consumed; iteration may be resumed after it.
+     * <p>
+     * Subclasses override this to push elements through their whole pipeline in a single loop rather than through
+     * alternating calls to <code>hasNext</code> and <code>next</code>; {@link ImmutableIterator#forEachRemaining} is
+     * implemented in terms of it.
+     *
+     * @param action the action, returning whether to continue
+     * @return true if this iterator ran out of elements; false if <code>action</code> stopped it
+     */
+    public boolean forEachRemainingWhile(Function<? super Element, Boolean> action) {
+        while (hasNext())
+            if (!action.apply(next()))
+                return false;
+        return true;
+    }
+
+    /**
+     * Push each remaining element of an arbitrary <code>Iterator</code> to <code>action</code>, for as long as
+     * <code>action</code> returns true, using {@link ImmutableIterator#forEachRemainingWhile(Function)} if the
+     * <code>Iterator</code> supports it.
+     *
+     * @param iterator the Iterator
+     * @param action   the action, returning whether to continue
+     * @param <A>      the element type
+     * @return true if the iterator ran out of elements; false if <code>action</code> stopped it
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> boolean forEachRemainingWhile(Iterator<? extends A> iterator,
+                                                    Function<? super A, Boolean> action) {
+        if (iterator instanceof ImmutableIterator)
+            return ((ImmutableIterator<A>) iterator).forEachRemainingWhile(action);
+
+        while (iterator.hasNext())
+            if (!action.apply(iterator.next()))
+                return false;
+        return true;
+    }
+
+    /**
+     * Signal that no more elements will be pulled from <code>iterator</code>, closing it if it is
+     * <code>AutoCloseable</code> so that it can release any work it started ahead of the consumer.
+     *
+     * @param iterator the abandoned Iterator
+     */
+    public static void abandon(Iterator<?> iterator) {
+        if (iterator instanceof AutoCloseable)
+            try {
+                ((AutoCloseable) iterator).close();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+    }
 }
@@ -0,0 +1,55 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+public final class IndexedSpliterator<A> implements Spliterator<A> {
+    private final LongFunction<? extends A> get;
+    private       long                      index;
+    private final long                      limit;
+
+    public IndexedSpliterator(LongFunction<? extends A> get, long from, long limit) {
+        this.get = get;
+        this.index = from;
+        this.limit = limit;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super A> action) {
+        if (index >= limit)
+            return false;
+
+        action.accept(get.apply(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super A> action) {
+        long limit = this.limit;
+        for (long i = index; i < limit; i++)
+            action.accept(get.apply(i));
+        index = limit;
+    }
+
+    @Override
+    public Spliterator<A> trySplit() {
+        long from = index;
+        long mid = from + ((limit - from) >>> 1);
+        if (mid <= from)
+            return null;
+
+        index = mid;
+        return new IndexedSpliterator<>(get, from, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return limit - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -1,8 +1,17 @@
 package com.jnape.palatable.lambda.iterators;
 
+import java.util.function.Function;
+
 public abstract class InfiniteIterator<A> extends ImmutableIterator<A> {
     @Override
     public final boolean hasNext() {
         return true;
     }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        while (true)
+            if (!action.apply(next()))
+                return false;
+    }
 }
@@ -0,0 +1,57 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+public final class IntDroppingIterator implements PrimitiveIterator.OfInt {
+    private final int                     n;
+    private final PrimitiveIterator.OfInt iterator;
+    private       boolean                 dropped;
+
+    public IntDroppingIterator(int n, PrimitiveIterator.OfInt iterator) {
+        this.n = n;
+        this.iterator = iterator;
+        dropped = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        dropIfNecessary();
+        return iterator.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        return iterator.nextInt();
+    }
+
+    private void dropIfNecessary() {
+        if (!dropped) {
+            int i = 0;
+            while (i++ < n && iterator.hasNext())
+                iterator.nextInt();
+            dropped = true;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        if (dropped) {
+            iterator.forEachRemaining(action);
+            return;
+        }
+
+        dropped = true;
+        int[] remaining = {n};
+        iterator.forEachRemaining((int x) -> {
+            if (remaining[0] > 0)
+                remaining[0]--;
+            else
+                action.accept(x);
+        });
+    }
+}
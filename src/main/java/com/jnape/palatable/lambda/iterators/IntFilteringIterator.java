@@ -0,0 +1,60 @@
+package com.jnape.palatable.lambda.iterators;
+
+import com.jnape.palatable.lambda.functions.specialized.IntPredicate;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+public final class IntFilteringIterator implements PrimitiveIterator.OfInt {
+    private final IntPredicate            predicate;
+    private final PrimitiveIterator.OfInt iterator;
+    private       int                     next;
+    private       boolean                 buffered;
+
+    public IntFilteringIterator(IntPredicate predicate, PrimitiveIterator.OfInt iterator) {
+        this.predicate = predicate;
+        this.iterator = iterator;
+        buffered = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (buffered)
+            return true;
+
+        while (iterator.hasNext()) {
+            int candidate = iterator.nextInt();
+            if (predicate.apply(candidate)) {
+                next = candidate;
+                buffered = true;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        buffered = false;
+        return next;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        if (buffered) {
+            buffered = false;
+            action.accept(next);
+        }
+
+        IntPredicate predicate = this.predicate;
+        iterator.forEachRemaining((int x) -> {
+            if (predicate.apply(x))
+                action.accept(x);
+        });
+    }
+}
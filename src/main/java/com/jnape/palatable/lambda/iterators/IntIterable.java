@@ -0,0 +1,142 @@
+package com.jnape.palatable.lambda.iterators;
+
+import com.jnape.palatable.lambda.functions.specialized.IntFn1;
+import com.jnape.palatable.lambda.functions.specialized.IntPredicate;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+import static java.util.Spliterator.ORDERED;
+
+/**
+ * An <code>Iterable</code> of unboxed <code>int</code>s. Its iterator is a {@link PrimitiveIterator.OfInt}, and {@link
+ * IntIterable#map}, {@link IntIterable#filter}, {@link IntIterable#take}, {@link IntIterable#drop}, and {@link
+ * IntIterable#foldLeft} are lazy (where applicable) and never box an element. {@link IntIterable#mapToInt} enters this
+ * representation from an <code>Iterable</code> of objects, and {@link IntIterable#mapToObj} leaves it again. Any
+ * <code>IntIterable</code> is also an <code>Iterable&lt;Integer&gt;</code>, so the generic builtins accept it, boxing
+ * as they go.
+ */
+@FunctionalInterface
+public interface IntIterable extends LambdaIterable<Integer> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    PrimitiveIterator.OfInt iterator();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Spliterator.OfInt spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), ORDERED);
+    }
+
+    /**
+     * Lazily apply <code>fn</code> to each element.
+     *
+     * @param fn the mapping function
+     * @return the mapped IntIterable
+     */
+    default IntIterable map(IntFn1 fn) {
+        return () -> new IntMappingIterator(fn, iterator());
+    }
+
+    /**
+     * Lazily apply <code>fn</code> to each element, leaving the unboxed representation for an <code>Iterable</code>
+     * of arbitrary objects.
+     *
+     * @param fn  the mapping function
+     * @param <A> the mapped element type
+     * @return the mapped Iterable
+     */
+    default <A> LambdaIterable<A> mapToObj(IntFunction<? extends A> fn) {
+        return () -> new IntToObjMappingIterator<>(fn, iterator());
+    }
+
+    /**
+     * Lazily retain only the elements that satisfy <code>predicate</code>.
+     *
+     * @param predicate the predicate
+     * @return the filtered IntIterable
+     */
+    default IntIterable filter(IntPredicate predicate) {
+        return () -> new IntFilteringIterator(predicate, iterator());
+    }
+
+    /**
+     * Lazily limit this iterable to at most its first <code>n</code> elements.
+     *
+     * @param n the number of elements to take
+     * @return the limited IntIterable
+     */
+    default IntIterable take(int n) {
+        return () -> new IntTakingIterator(n, iterator());
+    }
+
+    /**
+     * Lazily skip the first <code>n</code> elements of this iterable.
+     *
+     * @param n the number of elements to drop
+     * @return the remaining IntIterable
+     */
+    default IntIterable drop(int n) {
+        return () -> new IntDroppingIterator(n, iterator());
+    }
+
+    /**
+     * Fold the elements from left to right, starting with <code>acc</code>.
+     *
+     * @param acc the starting accumulator
+     * @param fn  the folding function, receiving the accumulator and the next element
+     * @return the folded result
+     */
+    default int foldLeft(int acc, IntBinaryOperator fn) {
+        int[] accumulation = {acc};
+        iterator().forEachRemaining((int x) -> accumulation[0] = fn.applyAsInt(accumulation[0], x));
+        return accumulation[0];
+    }
+
+    /**
+     * Static factory method for creating an <code>IntIterable</code> by lazily applying <code>fn</code> to each
+     * element of <code>as</code>, so that the results are never boxed.
+     *
+     * @param fn  the mapping function
+     * @param as  the Iterable
+     * @param <A> the Iterable element type
+     * @return the IntIterable
+     */
+    static <A> IntIterable mapToInt(ToIntFunction<? super A> fn, Iterable<A> as) {
+        return () -> new ToIntMappingIterator<>(fn, as.iterator());
+    }
+
+    /**
+     * Static factory method for creating a <code>IntIterable</code> over the given elements. Like
+     * {@link Arrays#asList(Object[])}, the array is not copied.
+     *
+     * @param ints the elements
+     * @return the IntIterable
+     */
+    static IntIterable ints(int... ints) {
+        return () -> Spliterators.iterator(Arrays.spliterator(ints));
+    }
+
+    /**
+     * Static factory method for creating a <code>IntIterable</code> from <code>from</code> (inclusive) to
+     * <code>to</code> (exclusive), by increments of 1.
+     *
+     * @param from the first element
+     * @param to   the exclusive upper bound
+     * @return the IntIterable
+     */
+    static IntIterable range(int from, int to) {
+        return () -> Spliterators.iterator(IntStream.range(from, to).spliterator());
+    }
+}
@@ -0,0 +1,32 @@
+package com.jnape.palatable.lambda.iterators;
+
+import com.jnape.palatable.lambda.functions.specialized.IntFn1;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+public final class IntMappingIterator implements PrimitiveIterator.OfInt {
+    private final IntFn1                  fn;
+    private final PrimitiveIterator.OfInt iterator;
+
+    public IntMappingIterator(IntFn1 fn, PrimitiveIterator.OfInt iterator) {
+        this.fn = fn;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        return fn.apply(iterator.nextInt());
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        IntFn1 fn = this.fn;
+        iterator.forEachRemaining((int x) -> action.accept(fn.apply(x)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+public final class IntTakingIterator implements PrimitiveIterator.OfInt {
+    private final int                     n;
+    private final PrimitiveIterator.OfInt iterator;
+    private       int                     currentIndex;
+
+    public IntTakingIterator(int n, PrimitiveIterator.OfInt iterator) {
+        this.n = n;
+        this.iterator = iterator;
+        currentIndex = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return currentIndex < n && iterator.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        if (currentIndex >= n)
+            throw new NoSuchElementException();
+
+        currentIndex++;
+        return iterator.nextInt();
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        while (currentIndex < n && iterator.hasNext()) {
+            currentIndex++;
+            action.accept(iterator.nextInt());
+        }
+    }
+}
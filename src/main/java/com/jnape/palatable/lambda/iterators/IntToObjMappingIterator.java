@@ -0,0 +1,31 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+public final class IntToObjMappingIterator<A> extends ImmutableIterator<A> {
+    private final IntFunction<? extends A> fn;
+    private final PrimitiveIterator.OfInt  iterator;
+
+    public IntToObjMappingIterator(IntFunction<? extends A> fn, PrimitiveIterator.OfInt iterator) {
+        this.fn = fn;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public A next() {
+        return fn.apply(iterator.nextInt());
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super A> action) {
+        IntFunction<? extends A> fn = this.fn;
+        iterator.forEachRemaining((int x) -> action.accept(fn.apply(x)));
+    }
+}
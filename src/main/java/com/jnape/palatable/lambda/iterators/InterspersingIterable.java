@@ -0,0 +1,26 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+
+public final class InterspersingIterable<A> implements SizedIterable<A> {
+    private final A           a;
+    private final Iterable<A> as;
+
+    public InterspersingIterable(A a, Iterable<A> as) {
+        this.a = a;
+        this.as = as;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new InterspersingIterator<>(a, as.iterator());
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        long size = SizedIterable.sizeIfKnown(as);
+        if (size == -1 || size > Long.MAX_VALUE / 2)
+            return -1;
+        return size == 0 ? 0 : size * 2 - 1;
+    }
+}
@@ -0,0 +1,48 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static java.util.Spliterator.ORDERED;
+
+/**
+ * The {@link Iterable} type produced by lazy builtins. Iteration order is always defined, which is reflected in the
+ * characteristics of the {@link Spliterator} produced by default; iterables that can do better (by knowing their size,
+ * or by deferring to a splittable source) override {@link Iterable#spliterator()}.
+ *
+ * @param <A> The Iterable element type
+ */
+@FunctionalInterface
+public interface LambdaIterable<A> extends Iterable<A> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Iterator<A> iterator();
+
+    /**
+     * Push every element of this <code>Iterable</code> to <code>action</code> through
+     * {@link Iterator#forEachRemaining(Consumer)}, so that lambda iterators can drive their whole pipeline in a single
+     * loop.
+     *
+     * @param action the action
+     */
+    @Override
+    default void forEach(Consumer<? super A> action) {
+        iterator().forEachRemaining(action);
+    }
+
+    /**
+     * Create a late-binding {@link Spliterator} over this <code>Iterable</code> that reports
+     * {@link Spliterator#ORDERED}. The iterator it traverses is not created until it is first traversed, split, or
+     * asked for its size.
+     *
+     * @return the spliterator
+     */
+    @Override
+    default Spliterator<A> spliterator() {
+        return new LateBindingSpliterator<>(this, -1, ORDERED);
+    }
+}
@@ -0,0 +1,53 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+public final class LateBindingSpliterator<A> implements Spliterator<A> {
+    private final Iterable<A>    as;
+    private final long           size;
+    private final int            characteristics;
+    private       Spliterator<A> bound;
+
+    public LateBindingSpliterator(Iterable<A> as, long size, int characteristics) {
+        this.as = as;
+        this.size = size;
+        this.characteristics = size == -1 ? characteristics : characteristics | SIZED | SUBSIZED;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super A> action) {
+        return bound().tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super A> action) {
+        bound().forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<A> trySplit() {
+        return bound().trySplit();
+    }
+
+    @Override
+    public long estimateSize() {
+        if (bound != null)
+            return bound.estimateSize();
+        return size == -1 ? Long.MAX_VALUE : size;
+    }
+
+    @Override
+    public int characteristics() {
+        return bound != null ? bound.characteristics() : characteristics;
+    }
+
+    private Spliterator<A> bound() {
+        if (bound == null)
+            bound = size == -1
+                    ? Spliterators.spliteratorUnknownSize(as.iterator(), characteristics)
+                    : Spliterators.spliterator(as.iterator(), size, characteristics);
+        return bound;
+    }
+}
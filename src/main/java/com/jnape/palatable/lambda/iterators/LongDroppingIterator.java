@@ -0,0 +1,57 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+public final class LongDroppingIterator implements PrimitiveIterator.OfLong {
+    private final int                      n;
+    private final PrimitiveIterator.OfLong iterator;
+    private       boolean                  dropped;
+
+    public LongDroppingIterator(int n, PrimitiveIterator.OfLong iterator) {
+        this.n = n;
+        this.iterator = iterator;
+        dropped = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        dropIfNecessary();
+        return iterator.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        return iterator.nextLong();
+    }
+
+    private void dropIfNecessary() {
+        if (!dropped) {
+            int i = 0;
+            while (i++ < n && iterator.hasNext())
+                iterator.nextLong();
+            dropped = true;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        if (dropped) {
+            iterator.forEachRemaining(action);
+            return;
+        }
+
+        dropped = true;
+        int[] remaining = {n};
+        iterator.forEachRemaining((long x) -> {
+            if (remaining[0] > 0)
+                remaining[0]--;
+            else
+                action.accept(x);
+        });
+    }
+}
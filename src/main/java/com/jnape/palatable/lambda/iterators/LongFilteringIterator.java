@@ -0,0 +1,60 @@
+package com.jnape.palatable.lambda.iterators;
+
+import com.jnape.palatable.lambda.functions.specialized.LongPredicate;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+public final class LongFilteringIterator implements PrimitiveIterator.OfLong {
+    private final LongPredicate            predicate;
+    private final PrimitiveIterator.OfLong iterator;
+    private       long                     next;
+    private       boolean                  buffered;
+
+    public LongFilteringIterator(LongPredicate predicate, PrimitiveIterator.OfLong iterator) {
+        this.predicate = predicate;
+        this.iterator = iterator;
+        buffered = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (buffered)
+            return true;
+
+        while (iterator.hasNext()) {
+            long candidate = iterator.nextLong();
+            if (predicate.apply(candidate)) {
+                next = candidate;
+                buffered = true;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        buffered = false;
+        return next;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        if (buffered) {
+            buffered = false;
+            action.accept(next);
+        }
+
+        LongPredicate predicate = this.predicate;
+        iterator.forEachRemaining((long x) -> {
+            if (predicate.apply(x))
+                action.accept(x);
+        });
+    }
+}
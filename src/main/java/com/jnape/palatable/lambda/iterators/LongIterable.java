@@ -0,0 +1,142 @@
+package com.jnape.palatable.lambda.iterators;
+
+import com.jnape.palatable.lambda.functions.specialized.LongFn1;
+import com.jnape.palatable.lambda.functions.specialized.LongPredicate;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+
+import static java.util.Spliterator.ORDERED;
+
+/**
+ * An <code>Iterable</code> of unboxed <code>long</code>s. Its iterator is a {@link PrimitiveIterator.OfLong}, and
+ * {@link LongIterable#map}, {@link LongIterable#filter}, {@link LongIterable#take}, {@link LongIterable#drop}, and
+ * {@link LongIterable#foldLeft} are lazy (where applicable) and never box an element. {@link LongIterable#mapToLong}
+ * enters this representation from an <code>Iterable</code> of objects, and {@link LongIterable#mapToObj} leaves it
+ * again. Any <code>LongIterable</code> is also an <code>Iterable&lt;Long&gt;</code>, so the generic builtins accept it,
+ * boxing as they go.
+ */
+@FunctionalInterface
+public interface LongIterable extends LambdaIterable<Long> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    PrimitiveIterator.OfLong iterator();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Spliterator.OfLong spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), ORDERED);
+    }
+
+    /**
+     * Lazily apply <code>fn</code> to each element.
+     *
+     * @param fn the mapping function
+     * @return the mapped LongIterable
+     */
+    default LongIterable map(LongFn1 fn) {
+        return () -> new LongMappingIterator(fn, iterator());
+    }
+
+    /**
+     * Lazily apply <code>fn</code> to each element, leaving the unboxed representation for an <code>Iterable</code>
+     * of arbitrary objects.
+     *
+     * @param fn  the mapping function
+     * @param <A> the mapped element type
+     * @return the mapped Iterable
+     */
+    default <A> LambdaIterable<A> mapToObj(LongFunction<? extends A> fn) {
+        return () -> new LongToObjMappingIterator<>(fn, iterator());
+    }
+
+    /**
+     * Lazily retain only the elements that satisfy <code>predicate</code>.
+     *
+     * @param predicate the predicate
+     * @return the filtered LongIterable
+     */
+    default LongIterable filter(LongPredicate predicate) {
+        return () -> new LongFilteringIterator(predicate, iterator());
+    }
+
+    /**
+     * Lazily limit this iterable to at most its first <code>n</code> elements.
+     *
+     * @param n the number of elements to take
+     * @return the limited LongIterable
+     */
+    default LongIterable take(int n) {
+        return () -> new LongTakingIterator(n, iterator());
+    }
+
+    /**
+     * Lazily skip the first <code>n</code> elements of this iterable.
+     *
+     * @param n the number of elements to drop
+     * @return the remaining LongIterable
+     */
+    default LongIterable drop(int n) {
+        return () -> new LongDroppingIterator(n, iterator());
+    }
+
+    /**
+     * Fold the elements from left to right, starting with <code>acc</code>.
+     *
+     * @param acc the starting accumulator
+     * @param fn  the folding function, receiving the accumulator and the next element
+     * @return the folded result
+     */
+    default long foldLeft(long acc, LongBinaryOperator fn) {
+        long[] accumulation = {acc};
+        iterator().forEachRemaining((long x) -> accumulation[0] = fn.applyAsLong(accumulation[0], x));
+        return accumulation[0];
+    }
+
+    /**
+     * Static factory method for creating a <code>LongIterable</code> by lazily applying <code>fn</code> to each
+     * element of <code>as</code>, so that the results are never boxed.
+     *
+     * @param fn  the mapping function
+     * @param as  the Iterable
+     * @param <A> the Iterable element type
+     * @return the LongIterable
+     */
+    static <A> LongIterable mapToLong(ToLongFunction<? super A> fn, Iterable<A> as) {
+        return () -> new ToLongMappingIterator<>(fn, as.iterator());
+    }
+
+    /**
+     * Static factory method for creating a <code>LongIterable</code> over the given elements. Like
+     * {@link Arrays#asList(Object[])}, the array is not copied.
+     *
+     * @param longs the elements
+     * @return the LongIterable
+     */
+    static LongIterable longs(long... longs) {
+        return () -> Spliterators.iterator(Arrays.spliterator(longs));
+    }
+
+    /**
+     * Static factory method for creating a <code>LongIterable</code> from <code>from</code> (inclusive) to
+     * <code>to</code> (exclusive), by increments of 1.
+     *
+     * @param from the first element
+     * @param to   the exclusive upper bound
+     * @return the LongIterable
+     */
+    static LongIterable range(long from, long to) {
+        return () -> Spliterators.iterator(LongStream.range(from, to).spliterator());
+    }
+}
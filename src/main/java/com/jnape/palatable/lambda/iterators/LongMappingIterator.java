@@ -0,0 +1,32 @@
+package com.jnape.palatable.lambda.iterators;
+
+import com.jnape.palatable.lambda.functions.specialized.LongFn1;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+public final class LongMappingIterator implements PrimitiveIterator.OfLong {
+    private final LongFn1                  fn;
+    private final PrimitiveIterator.OfLong iterator;
+
+    public LongMappingIterator(LongFn1 fn, PrimitiveIterator.OfLong iterator) {
+        this.fn = fn;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        return fn.apply(iterator.nextLong());
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        LongFn1 fn = this.fn;
+        iterator.forEachRemaining((long x) -> action.accept(fn.apply(x)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+public final class LongTakingIterator implements PrimitiveIterator.OfLong {
+    private final int                      n;
+    private final PrimitiveIterator.OfLong iterator;
+    private       int                      currentIndex;
+
+    public LongTakingIterator(int n, PrimitiveIterator.OfLong iterator) {
+        this.n = n;
+        this.iterator = iterator;
+        currentIndex = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return currentIndex < n && iterator.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        if (currentIndex >= n)
+            throw new NoSuchElementException();
+
+        currentIndex++;
+        return iterator.nextLong();
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        while (currentIndex < n && iterator.hasNext()) {
+            currentIndex++;
+            action.accept(iterator.nextLong());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+public final class LongToObjMappingIterator<A> extends ImmutableIterator<A> {
+    private final LongFunction<? extends A> fn;
+    private final PrimitiveIterator.OfLong  iterator;
+
+    public LongToObjMappingIterator(LongFunction<? extends A> fn, PrimitiveIterator.OfLong iterator) {
+        this.fn = fn;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public A next() {
+        return fn.apply(iterator.nextLong());
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super A> action) {
+        LongFunction<? extends A> fn = this.fn;
+        iterator.forEachRemaining((long x) -> action.accept(fn.apply(x)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+public abstract class LookaheadIterator<A> extends ImmutableIterator<A> {
+    private A       next;
+    private boolean buffered;
+
+    protected LookaheadIterator() {
+        buffered = false;
+    }
+
+    protected abstract boolean bufferNext();
+
+    protected final boolean buffer(A a) {
+        next = a;
+        return true;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        return buffered || (buffered = bufferNext());
+    }
+
+    @Override
+    public final A next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        A next = this.next;
+        this.next = null;
+        buffered = false;
+        return next;
+    }
+
+    @Override
+    public final boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        if (buffered) {
+            A next = this.next;
+            this.next = null;
+            buffered = false;
+            if (!action.apply(next))
+                return false;
+        }
+
+        return pushRemaining(action);
+    }
+
+    protected boolean pushRemaining(Function<? super A, Boolean> action) {
+        while (hasNext())
+            if (!action.apply(next()))
+                return false;
+        return true;
+    }
+}
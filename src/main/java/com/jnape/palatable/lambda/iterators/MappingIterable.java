@@ -0,0 +1,78 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Function;
+
+public final class MappingIterable<A, B> implements SizedIterable<B> {
+    private final Iterable<?>           source;
+    private final MappingIterable<?, ?> upstream;
+    private final Function<?, ?>        fn;
+    private final int                   stages;
+
+    private volatile Function<Object, B> fused;
+
+    public MappingIterable(Function<? super A, ? extends B> fn, Iterable<A> as) {
+        if (as instanceof MappingIterable) {
+            MappingIterable<?, ?> upstream = (MappingIterable<?, ?>) as;
+            this.source = upstream.source;
+            this.upstream = upstream;
+            this.stages = upstream.stages + 1;
+        } else {
+            this.source = as;
+            this.upstream = null;
+            this.stages = 1;
+        }
+        this.fn = fn;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<B> iterator() {
+        return new MappingIterator<>(fused(), (Iterator<Object>) source.iterator());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Spliterator<B> spliterator() {
+        return new MappingSpliterator<>(fused(), (Spliterator<Object>) source.spliterator());
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        return SizedIterable.sizeIfKnown(source);
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return SizedIterable.isInfinite(source);
+    }
+
+    private Function<Object, B> fused() {
+        Function<Object, B> fused = this.fused;
+        if (fused == null)
+            this.fused = fused = fuse();
+        return fused;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<Object, B> fuse() {
+        if (stages == 1)
+            return (Function<Object, B>) fn;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Function<Object, Object>[] fns = new Function[stages];
+        MappingIterable<?, ?> stage = this;
+        for (int i = stages - 1; i >= 0; i--) {
+            fns[i] = (Function<Object, Object>) stage.fn;
+            stage = stage.upstream;
+        }
+
+        return a -> {
+            Object result = a;
+            for (Function<Object, Object> fn : fns)
+                result = fn.apply(result);
+            return (B) result;
+        };
+    }
+}
@@ -22,4 +22,10 @@ public class MappingIterator<A, B> extends ImmutableIterator<B> {
     public B next() {
         return function.apply(iterator.next());
     }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super B, Boolean> action) {
+        Function<? super A, ? extends B> function = this.function;
+        return ImmutableIterator.forEachRemainingWhile(iterator, a -> action.apply(function.apply(a)));
+    }
 }
@@ -0,0 +1,41 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public final class MappingSpliterator<A, B> implements Spliterator<B> {
+    private final Function<? super A, ? extends B> function;
+    private final Spliterator<A>                   spliterator;
+
+    public MappingSpliterator(Function<? super A, ? extends B> function, Spliterator<A> spliterator) {
+        this.function = function;
+        this.spliterator = spliterator;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super B> action) {
+        return spliterator.tryAdvance(a -> action.accept(function.apply(a)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super B> action) {
+        spliterator.forEachRemaining(a -> action.accept(function.apply(a)));
+    }
+
+    @Override
+    public Spliterator<B> trySplit() {
+        Spliterator<A> split = spliterator.trySplit();
+        return split == null ? null : new MappingSpliterator<>(function, split);
+    }
+
+    @Override
+    public long estimateSize() {
+        return spliterator.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return spliterator.characteristics() & ~(DISTINCT | SORTED | NONNULL);
+    }
+}
@@ -0,0 +1,113 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public final class MemoizingIterable<A> implements SizedIterable<A> {
+    private final Iterable<A> as;
+    private final int         cap;
+    private final Object      lock;
+
+    private volatile Object[] elements;
+    private volatile int      size;
+    private volatile boolean  exhausted;
+    private Iterator<A>       source;
+    private boolean           overflowed;
+
+    public MemoizingIterable(int cap, Iterable<A> as) {
+        if (cap < 0)
+            throw new IllegalArgumentException("Cap must not be negative: " + cap);
+        this.as = as;
+        this.cap = cap;
+        lock = new Object();
+        elements = new Object[0];
+        size = 0;
+        exhausted = false;
+        overflowed = false;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new MemoizedIterator();
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        return exhausted ? size : SizedIterable.sizeIfKnown(as);
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return SizedIterable.isInfinite(as);
+    }
+
+    private void append(A a) {
+        Object[] elements = this.elements;
+        int size = this.size;
+        if (size == elements.length)
+            this.elements = elements = Arrays.copyOf(elements, (int) Math.min(cap, Math.max(16L, size * 2L)));
+        elements[size] = a;
+        this.size = size + 1;
+    }
+
+    private final class MemoizedIterator extends ImmutableIterator<A> {
+        private int         index;
+        private Iterator<A> recomputing;
+
+        private MemoizedIterator() {
+            index = 0;
+            recomputing = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (recomputing != null)
+                return recomputing.hasNext();
+            return index < size || !exhausted && advance();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public A next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            if (recomputing != null)
+                return recomputing.next();
+            return (A) elements[index++];
+        }
+
+        private boolean advance() {
+            synchronized (lock) {
+                if (index < size)
+                    return true;
+                if (exhausted)
+                    return false;
+
+                if (overflowed) {
+                    recomputing = new DroppingIterable<>(cap, as).iterator();
+                    return recomputing.hasNext();
+                }
+
+                if (source == null)
+                    source = as.iterator();
+
+                if (!source.hasNext()) {
+                    exhausted = true;
+                    source = null;
+                    return false;
+                }
+
+                if (size == cap) {
+                    overflowed = true;
+                    recomputing = source;
+                    source = null;
+                    return true;
+                }
+
+                append(source.next());
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+public final class OrderedAsyncMappingIterator<A, B> extends AsyncMappingIterator<A, B> {
+    private final Queue<CompletableFuture<B>> inFlight;
+
+    public OrderedAsyncMappingIterator(int maxInFlight, Function<? super A, ? extends CompletableFuture<B>> fn,
+                                       Iterator<A> asIterator) {
+        super(maxInFlight, fn, asIterator);
+        inFlight = new ArrayDeque<>(Math.min(maxInFlight, 1024));
+    }
+
+    @Override
+    public boolean hasNext() {
+        launchUpToMax();
+        return !inFlight.isEmpty();
+    }
+
+    @Override
+    public B next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        B next = await(inFlight.poll());
+        launchUpToMax();
+        return next;
+    }
+
+    @Override
+    protected int inFlight() {
+        return inFlight.size();
+    }
+
+    @Override
+    protected void launched(CompletableFuture<B> future) {
+        inFlight.add(future);
+    }
+}
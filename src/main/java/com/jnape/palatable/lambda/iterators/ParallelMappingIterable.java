@@ -0,0 +1,61 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public final class ParallelMappingIterable<A, B> implements SizedIterable<B> {
+    private final int                              maxInFlight;
+    private final Function<? super A, ? extends B> fn;
+    private final Iterable<A>                      as;
+    private final ExecutorService                  executor;
+
+    public ParallelMappingIterable(int maxInFlight, Function<? super A, ? extends B> fn, Iterable<A> as) {
+        this(maxInFlight, fn, as, DefaultExecutor.INSTANCE);
+    }
+
+    public ParallelMappingIterable(int maxInFlight, Function<? super A, ? extends B> fn, Iterable<A> as,
+                                   ExecutorService executor) {
+        if (maxInFlight <= 0)
+            throw new IllegalArgumentException("max in flight must be positive: " + maxInFlight);
+
+        this.maxInFlight = maxInFlight;
+        this.fn = fn;
+        this.as = as;
+        this.executor = executor;
+    }
+
+    @Override
+    public Iterator<B> iterator() {
+        return new ParallelMappingIterator<>(maxInFlight, fn, as.iterator(), executor);
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        return SizedIterable.sizeIfKnown(as);
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return SizedIterable.isInfinite(as);
+    }
+
+    private static final class DefaultExecutor {
+        private static final ExecutorService INSTANCE = create();
+
+        private static ExecutorService create() {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                AtomicInteger threads = new AtomicInteger();
+                return Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "lambda-parallel-map-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+public final class ParallelMappingIterator<A, B> extends ImmutableIterator<B> implements AutoCloseable {
+    private final int                              maxInFlight;
+    private final Function<? super A, ? extends B> fn;
+    private final Iterator<A>                      asIterator;
+    private final ExecutorService                  executor;
+    private final Deque<Future<B>>                 inFlight;
+    private       boolean                          closed;
+
+    public ParallelMappingIterator(int maxInFlight, Function<? super A, ? extends B> fn, Iterator<A> asIterator,
+                                   ExecutorService executor) {
+        this.maxInFlight = maxInFlight;
+        this.fn = fn;
+        this.asIterator = asIterator;
+        this.executor = executor;
+        inFlight = new ArrayDeque<>(Math.min(maxInFlight, 1024));
+        closed = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed)
+            return false;
+
+        while (inFlight.size() < maxInFlight && asIterator.hasNext()) {
+            A a = asIterator.next();
+            inFlight.add(executor.submit(() -> fn.apply(a)));
+        }
+        return !inFlight.isEmpty();
+    }
+
+    @Override
+    public B next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        try {
+            return inFlight.poll().get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new CompletionException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new CompletionException(e);
+        }
+    }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super B, Boolean> action) {
+        try {
+            while (hasNext())
+                if (!action.apply(next()))
+                    return false;
+            return true;
+        } catch (RuntimeException | Error e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Future<B> future : inFlight)
+            future.cancel(true);
+        inFlight.clear();
+        closed = true;
+    }
+}
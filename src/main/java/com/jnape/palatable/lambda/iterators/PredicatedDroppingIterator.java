@@ -1,40 +1,47 @@
 package com.jnape.palatable.lambda.iterators;
 
 import java.util.Iterator;
-import java.util.NoSuchElementException;
 import java.util.function.Function;
 
-public class PredicatedDroppingIterator<A> extends ImmutableIterator<A> {
+public class PredicatedDroppingIterator<A> extends LookaheadIterator<A> {
     private final Function<? super A, Boolean> predicate;
-    private final RewindableIterator<A>        rewindableIterator;
+    private final Iterator<A>                  asIterator;
     private       boolean                      finishedDropping;
 
     public PredicatedDroppingIterator(Function<? super A, Boolean> predicate, Iterator<A> asIterator) {
         this.predicate = predicate;
-        rewindableIterator = new RewindableIterator<>(asIterator);
+        this.asIterator = asIterator;
         finishedDropping = false;
     }
 
     @Override
-    public boolean hasNext() {
-        dropElementsIfNecessary();
-        return rewindableIterator.hasNext();
-    }
+    protected boolean bufferNext() {
+        if (finishedDropping)
+            return asIterator.hasNext() && buffer(asIterator.next());
 
-    @Override
-    public A next() {
-        if (hasNext())
-            return rewindableIterator.next();
+        finishedDropping = true;
+        while (asIterator.hasNext()) {
+            A next = asIterator.next();
+            if (!predicate.apply(next))
+                return buffer(next);
+        }
 
-        throw new NoSuchElementException();
+        return false;
     }
 
-    private void dropElementsIfNecessary() {
-        while (rewindableIterator.hasNext() && !finishedDropping) {
-            if (!predicate.apply(rewindableIterator.next())) {
-                rewindableIterator.rewind();
-                finishedDropping = true;
-            }
-        }
+    @Override
+    protected boolean pushRemaining(Function<? super A, Boolean> action) {
+        if (finishedDropping)
+            return ImmutableIterator.forEachRemainingWhile(asIterator, action);
+
+        finishedDropping = true;
+        Function<? super A, Boolean> predicate = this.predicate;
+        boolean[] dropping = {true};
+        return ImmutableIterator.forEachRemainingWhile(asIterator, a -> {
+            if (dropping[0] && predicate.apply(a))
+                return true;
+            dropping[0] = false;
+            return action.apply(a);
+        });
     }
 }
@@ -1,43 +1,42 @@
 package com.jnape.palatable.lambda.iterators;
 
 import java.util.Iterator;
-import java.util.NoSuchElementException;
 import java.util.function.Function;
 
-public class PredicatedTakingIterator<A> extends ImmutableIterator<A> {
+public class PredicatedTakingIterator<A> extends LookaheadIterator<A> {
     private final Function<? super A, Boolean> predicate;
-    private final RewindableIterator<A>        rewindableIterator;
+    private final Iterator<A>                  asIterator;
     private       boolean                      stillTaking;
 
     public PredicatedTakingIterator(Function<? super A, Boolean> predicate,
                                     Iterator<A> asIterator) {
         this.predicate = predicate;
-        rewindableIterator = new RewindableIterator<>(asIterator);
+        this.asIterator = asIterator;
         stillTaking = true;
     }
 
     @Override
-    public boolean hasNext() {
-        return stillTaking && rewindableIterator.hasNext() && predicateSucceedsOnNextElement();
-    }
-
-    @Override
-    public A next() {
-        if (!hasNext())
-            throw new NoSuchElementException();
+    protected boolean bufferNext() {
+        if (stillTaking && asIterator.hasNext()) {
+            A next = asIterator.next();
+            if (predicate.apply(next))
+                return buffer(next);
+            stillTaking = false;
+        }
 
-        return rewindableIterator.next();
+        return false;
     }
 
-    private boolean predicateSucceedsOnNextElement() {
-        if (rewindableIterator.isRewound())
+    @Override
+    protected boolean pushRemaining(Function<? super A, Boolean> action) {
+        if (!stillTaking)
             return true;
 
-        if (predicate.apply(rewindableIterator.next())) {
-            rewindableIterator.rewind();
-            return stillTaking = true;
-        }
-
-        return stillTaking = false;
+        return ImmutableIterator.forEachRemainingWhile(asIterator, a -> {
+            if (predicate.apply(a))
+                return action.apply(a);
+            stillTaking = false;
+            return false;
+        }) || !stillTaking;
     }
 }
@@ -0,0 +1,24 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+
+public final class PrependingIterable<A> implements SizedIterable<A> {
+    private final A           a;
+    private final Iterable<A> as;
+
+    public PrependingIterable(A a, Iterable<A> as) {
+        this.a = a;
+        this.as = as;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new PrependingIterator<>(a, as.iterator());
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        long size = SizedIterable.sizeIfKnown(as);
+        return size == -1 || size > Long.MAX_VALUE / 2 ? -1 : size * 2;
+    }
+}
@@ -0,0 +1,59 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+public final class PrependingIterator<A> extends ImmutableIterator<A> {
+
+    private final A           a;
+    private final Iterator<A> iterator;
+    private       boolean     elementNext;
+    private       A           element;
+
+    public PrependingIterator(A a, Iterator<A> iterator) {
+        this.a = a;
+        this.iterator = iterator;
+        elementNext = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return elementNext || iterator.hasNext();
+    }
+
+    @Override
+    public A next() {
+        if (elementNext)
+            return takeElement();
+
+        if (!iterator.hasNext())
+            throw new NoSuchElementException();
+
+        element = iterator.next();
+        elementNext = true;
+        return a;
+    }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        if (elementNext && !action.apply(takeElement()))
+            return false;
+
+        return ImmutableIterator.forEachRemainingWhile(iterator, next -> {
+            if (!action.apply(a)) {
+                element = next;
+                elementNext = true;
+                return false;
+            }
+            return action.apply(next);
+        });
+    }
+
+    private A takeElement() {
+        A next = element;
+        element = null;
+        elementNext = false;
+        return next;
+    }
+}
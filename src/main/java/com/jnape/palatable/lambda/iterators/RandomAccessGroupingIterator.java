@@ -0,0 +1,33 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Collections.unmodifiableList;
+
+public final class RandomAccessGroupingIterator<A> extends ImmutableIterator<Iterable<A>> {
+    private final int     k;
+    private final List<A> as;
+    private       int     index;
+
+    public RandomAccessGroupingIterator(int k, List<A> as) {
+        this.k = k;
+        this.as = as;
+        index = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < as.size();
+    }
+
+    @Override
+    public Iterable<A> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        int from = index;
+        index = (int) Math.min((long) from + k, as.size());
+        return unmodifiableList(as.subList(from, index));
+    }
+}
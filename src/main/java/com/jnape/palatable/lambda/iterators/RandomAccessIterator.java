@@ -0,0 +1,38 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+public final class RandomAccessIterator<A> extends ImmutableIterator<A> {
+    private final List<A> as;
+    private final int     limit;
+    private       int     index;
+
+    public RandomAccessIterator(List<A> as, int from, int limit) {
+        this.as = as;
+        this.limit = limit;
+        index = Math.max(0, from);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < limit && index < as.size();
+    }
+
+    @Override
+    public A next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        return as.get(index++);
+    }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        while (hasNext())
+            if (!action.apply(as.get(index++)))
+                return false;
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static java.util.Collections.unmodifiableList;
+
+public final class RandomAccessSlidingIterator<A> extends ImmutableIterator<Iterable<A>> {
+    private final int     k;
+    private final int     step;
+    private final List<A> as;
+    private       long    index;
+
+    public RandomAccessSlidingIterator(int k, int step, List<A> as) {
+        this.k = k;
+        this.step = step;
+        this.as = as;
+        index = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index + k <= as.size();
+    }
+
+    @Override
+    public Iterable<A> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        int from = (int) index;
+        index += step;
+        return unmodifiableList(as.subList(from, from + k));
+    }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super Iterable<A>, Boolean> action) {
+        int size = as.size();
+        while (index + k <= size) {
+            int from = (int) index;
+            index += step;
+            if (!action.apply(unmodifiableList(as.subList(from, from + k))))
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+public final class ReiteratingCyclicIterator<A> extends ImmutableIterator<A> {
+    private final Iterable<A> as;
+    private       Iterator<A> iterator;
+
+    public ReiteratingCyclicIterator(Iterable<A> as) {
+        this.as = as;
+        iterator = as.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!iterator.hasNext())
+            iterator = as.iterator();
+        return iterator.hasNext();
+    }
+
+    @Override
+    public A next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        return iterator.next();
+    }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        while (hasNext())
+            if (!ImmutableIterator.forEachRemainingWhile(iterator, action))
+                return false;
+        return true;
+    }
+}
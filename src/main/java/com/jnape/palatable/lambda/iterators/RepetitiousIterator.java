@@ -1,5 +1,7 @@
 package com.jnape.palatable.lambda.iterators;
 
+import java.util.function.Function;
+
 public class RepetitiousIterator<A> extends InfiniteIterator<A> {
 
     private final A value;
@@ -12,4 +14,12 @@ public class RepetitiousIterator<A> extends InfiniteIterator<A> {
     public A next() {
         return value;
     }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        A value = this.value;
+        while (true)
+            if (!action.apply(value))
+                return false;
+    }
 }
@@ -0,0 +1,39 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Collections.unmodifiableList;
+
+public final class ReusingGroupingIterator<A> extends ImmutableIterator<Iterable<A>> {
+    private final int         k;
+    private final Iterator<A> asIterator;
+    private final List<A>     buffer;
+    private final List<A>     view;
+
+    public ReusingGroupingIterator(int k, Iterator<A> asIterator) {
+        this.k = k;
+        this.asIterator = asIterator;
+        buffer = new ArrayList<>();
+        view = unmodifiableList(buffer);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return asIterator.hasNext();
+    }
+
+    @Override
+    public Iterable<A> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        buffer.clear();
+        int i = 0;
+        while (i++ < k && asIterator.hasNext())
+            buffer.add(asIterator.next());
+        return view;
+    }
+}
@@ -0,0 +1,36 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+public final class ReverseRandomAccessIterator<A> extends ImmutableIterator<A> {
+    private final List<A> as;
+    private       int     index;
+
+    public ReverseRandomAccessIterator(List<A> as) {
+        this.as = as;
+        index = as.size() - 1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index >= 0;
+    }
+
+    @Override
+    public A next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        return as.get(index--);
+    }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        while (index >= 0)
+            if (!action.apply(as.get(index--)))
+                return false;
+        return true;
+    }
+}
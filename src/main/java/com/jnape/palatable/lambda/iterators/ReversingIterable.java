@@ -0,0 +1,26 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+public final class ReversingIterable<A> implements SizedIterable<A> {
+    private final Iterable<A> as;
+
+    public ReversingIterable(Iterable<A> as) {
+        this.as = as;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        if (as instanceof List && as instanceof RandomAccess)
+            return new ReverseRandomAccessIterator<>((List<A>) as);
+
+        return new ReversingIterator<>(as.iterator());
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        return SizedIterable.sizeIfKnown(as);
+    }
+}
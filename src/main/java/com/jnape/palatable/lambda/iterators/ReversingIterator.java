@@ -3,6 +3,7 @@ package com.jnape.palatable.lambda.iterators;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.ListIterator;
+import java.util.function.Function;
 
 public class ReversingIterator<A> extends ImmutableIterator<A> {
     private final Iterator<A>     as;
@@ -26,9 +27,22 @@ public class ReversingIterator<A> extends ImmutableIterator<A> {
         return reversingIterator.previous();
     }
 
+    @Override
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        if (!readyToReverse())
+            prepareForReversal();
+
+        while (reversingIterator.hasPrevious())
+            if (!action.apply(reversingIterator.previous()))
+                return false;
+        return true;
+    }
+
     private void prepareForReversal() {
-        while (as.hasNext())
-            reversingIterator.add(as.next());
+        ImmutableIterator.forEachRemainingWhile(as, a -> {
+            reversingIterator.add(a);
+            return true;
+        });
     }
 
     private boolean readyToReverse() {
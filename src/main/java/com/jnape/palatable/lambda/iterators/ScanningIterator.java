@@ -3,6 +3,7 @@ package com.jnape.palatable.lambda.iterators;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 public final class ScanningIterator<A, B> extends ImmutableIterator<B> {
 
@@ -31,4 +32,22 @@ public final class ScanningIterator<A, B> extends ImmutableIterator<B> {
         b = asIterator.hasNext() ? scanner.apply(b, asIterator.next()) : null;
         return next;
     }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super B, Boolean> action) {
+        if (b == null)
+            return true;
+
+        boolean exhausted = ImmutableIterator.forEachRemainingWhile(asIterator, a -> {
+            B next = b;
+            b = scanner.apply(next, a);
+            return action.apply(next);
+        });
+        if (!exhausted)
+            return false;
+
+        B last = b;
+        b = null;
+        return action.apply(last);
+    }
 }
@@ -0,0 +1,72 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Collection;
+import java.util.Spliterator;
+
+import static java.util.Spliterator.ORDERED;
+
+/**
+ * An {@link Iterable} that may be able to report how many elements it would iterate without actually iterating them.
+ * Sizes are computed on demand, so a sized view over a mutable source always reflects that source's current size.
+ *
+ * @param <A> The Iterable element type
+ */
+public interface SizedIterable<A> extends LambdaIterable<A> {
+
+    /**
+     * The number of elements a fresh iteration of this <code>Iterable</code> would produce, if that number can be
+     * determined without iterating; otherwise, <code>-1</code>.
+     *
+     * @return the size, or -1 if unknown
+     */
+    long sizeIfKnown();
+
+    /**
+     * Whether this <code>Iterable</code> is known to never run out of elements, without iterating it. An infinite
+     * <code>Iterable</code> has no size, so {@link SizedIterable#sizeIfKnown()} is <code>-1</code>, but a bounded view
+     * of it, like a <code>take</code>, may be able to report one.
+     *
+     * @return true if known to be infinite; false otherwise
+     */
+    default boolean isInfinite() {
+        return false;
+    }
+
+    /**
+     * Create a late-binding {@link Spliterator} over this <code>Iterable</code> that additionally reports
+     * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED} if the size is known when it is created.
+     *
+     * @return the spliterator
+     */
+    @Override
+    default Spliterator<A> spliterator() {
+        return new LateBindingSpliterator<>(this, sizeIfKnown(), ORDERED);
+    }
+
+    /**
+     * Determine the size of an arbitrary <code>Iterable</code> without iterating it, if possible. Both
+     * {@link Collection}s and <code>SizedIterable</code>s are supported; anything else is considered to be of unknown
+     * size.
+     *
+     * @param as the Iterable
+     * @return the size, or -1 if unknown
+     */
+    static long sizeIfKnown(Iterable<?> as) {
+        if (as instanceof Collection)
+            return ((Collection) as).size();
+        if (as instanceof SizedIterable)
+            return ((SizedIterable) as).sizeIfKnown();
+        return -1;
+    }
+
+    /**
+     * Determine whether an arbitrary <code>Iterable</code> is known to be infinite without iterating it. Only
+     * <code>SizedIterable</code>s can report this; anything else is not known to be infinite.
+     *
+     * @param as the Iterable
+     * @return true if known to be infinite; false otherwise
+     */
+    static boolean isInfinite(Iterable<?> as) {
+        return as instanceof SizedIterable && ((SizedIterable) as).isInfinite();
+    }
+}
@@ -0,0 +1,38 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+public final class SlidingIterable<A> implements SizedIterable<Iterable<A>> {
+    private final int         k;
+    private final int         step;
+    private final Iterable<A> as;
+
+    public SlidingIterable(int k, int step, Iterable<A> as) {
+        if (k <= 0)
+            throw new IllegalArgumentException("window size must be positive: " + k);
+        if (step <= 0)
+            throw new IllegalArgumentException("step must be positive: " + step);
+
+        this.k = k;
+        this.step = step;
+        this.as = as;
+    }
+
+    @Override
+    public Iterator<Iterable<A>> iterator() {
+        if (as instanceof List && as instanceof RandomAccess)
+            return new RandomAccessSlidingIterator<>(k, step, (List<A>) as);
+
+        return new SlidingIterator<>(k, step, as.iterator());
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        long size = SizedIterable.sizeIfKnown(as);
+        if (size == -1)
+            return -1;
+        return size < k ? 0 : (size - k) / step + 1;
+    }
+}
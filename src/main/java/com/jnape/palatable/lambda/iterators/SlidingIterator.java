@@ -0,0 +1,108 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+public final class SlidingIterator<A> extends LookaheadIterator<Iterable<A>> {
+    private final int         k;
+    private final int         step;
+    private final int         stride;
+    private final Iterator<A> asIterator;
+    private final Object[]    ring;
+    private       int         start;
+    private       boolean     filled;
+
+    public SlidingIterator(int k, int step, Iterator<A> asIterator) {
+        this.k = k;
+        this.step = step;
+        this.asIterator = asIterator;
+        stride = Math.min(k, step);
+        ring = new Object[k + stride];
+        start = 0;
+        filled = false;
+    }
+
+    @Override
+    protected boolean bufferNext() {
+        if (!filled) {
+            filled = true;
+            return read(0, k) && buffer(new Window<>(ring, 0, k));
+        }
+
+        for (int skipped = k; skipped < step; skipped++) {
+            if (!asIterator.hasNext())
+                return false;
+            asIterator.next();
+        }
+
+        if (!read(start + k, stride))
+            return false;
+
+        start = (start + stride) % ring.length;
+        return buffer(new Window<>(ring, start, k));
+    }
+
+    @Override
+    protected boolean pushRemaining(Function<? super Iterable<A>, Boolean> action) {
+        int skip = Math.max(0, step - k);
+        boolean[] filling = {!filled};
+        int[] read = {0};
+        filled = true;
+        return ImmutableIterator.forEachRemainingWhile(asIterator, a -> {
+            int i = read[0]++;
+            if (filling[0]) {
+                ring[i] = a;
+                if (read[0] < k)
+                    return true;
+                filling[0] = false;
+                read[0] = 0;
+                return action.apply(new Window<>(ring, 0, k));
+            }
+
+            if (i < skip)
+                return true;
+            ring[(start + k + i - skip) % ring.length] = a;
+            if (read[0] < skip + stride)
+                return true;
+            read[0] = 0;
+            start = (start + stride) % ring.length;
+            return action.apply(new Window<>(ring, start, k));
+        });
+    }
+
+    private boolean read(int from, int count) {
+        for (int i = 0; i < count; i++) {
+            if (!asIterator.hasNext())
+                return false;
+            ring[(from + i) % ring.length] = asIterator.next();
+        }
+        return true;
+    }
+
+    private static final class Window<A> extends AbstractList<A> implements RandomAccess {
+        private final Object[] ring;
+        private final int      start;
+        private final int      size;
+
+        private Window(Object[] ring, int start, int size) {
+            this.ring = ring;
+            this.start = start;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public A get(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            return (A) ring[(start + index) % ring.length];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
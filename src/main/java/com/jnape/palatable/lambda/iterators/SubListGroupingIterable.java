@@ -0,0 +1,25 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.List;
+
+public final class SubListGroupingIterable<A> implements SizedIterable<Iterable<A>> {
+    private final int     k;
+    private final List<A> as;
+
+    public SubListGroupingIterable(int k, List<A> as) {
+        this.k = k;
+        this.as = as;
+    }
+
+    @Override
+    public Iterator<Iterable<A>> iterator() {
+        return new RandomAccessGroupingIterator<>(k, as);
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        long size = as.size();
+        return (size + k - 1) / k;
+    }
+}
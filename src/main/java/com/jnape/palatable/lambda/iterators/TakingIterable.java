@@ -0,0 +1,45 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+public final class TakingIterable<A> implements SizedIterable<A> {
+    private final int         n;
+    private final Iterable<A> as;
+
+    public TakingIterable(int n, Iterable<A> as) {
+        this.n = n;
+        this.as = as;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        if (as instanceof List && as instanceof RandomAccess)
+            return new RandomAccessIterator<>((List<A>) as, 0, n);
+
+        return new TakingIterator<>(n, as.iterator());
+    }
+
+    @Override
+    public Spliterator<A> spliterator() {
+        if (as instanceof List && as instanceof RandomAccess) {
+            List<A> list = (List<A>) as;
+            return list.subList(0, Math.min(Math.max(0, n), list.size())).spliterator();
+        }
+
+        return SizedIterable.super.spliterator();
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        if (n <= 0)
+            return 0;
+        if (SizedIterable.isInfinite(as))
+            return n;
+
+        long size = SizedIterable.sizeIfKnown(as);
+        return size == -1 ? -1 : Math.min(n, size);
+    }
+}
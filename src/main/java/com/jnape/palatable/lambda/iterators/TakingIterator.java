@@ -2,6 +2,7 @@ package com.jnape.palatable.lambda.iterators;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
 
 public class TakingIterator<A> extends ImmutableIterator<A> {
 
@@ -25,7 +26,28 @@ public class TakingIterator<A> extends ImmutableIterator<A> {
         if (currentIndex >= n)
             throw new NoSuchElementException();
 
-        currentIndex++;
-        return iterator.next();
+        A next = iterator.next();
+        if (++currentIndex == n)
+            abandon(iterator);
+        return next;
+    }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        if (currentIndex >= n)
+            return true;
+
+        boolean[] declined = {false};
+        ImmutableIterator.forEachRemainingWhile(iterator, a -> {
+            currentIndex++;
+            if (!action.apply(a)) {
+                declined[0] = true;
+                return false;
+            }
+            return currentIndex < n;
+        });
+        if (currentIndex >= n)
+            abandon(iterator);
+        return !declined[0];
     }
 }
@@ -0,0 +1,35 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+public final class ToDoubleMappingIterator<A> implements PrimitiveIterator.OfDouble {
+    private final ToDoubleFunction<? super A> fn;
+    private final Iterator<A>                 iterator;
+
+    public ToDoubleMappingIterator(ToDoubleFunction<? super A> fn, Iterator<A> iterator) {
+        this.fn = fn;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        return fn.applyAsDouble(iterator.next());
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        ToDoubleFunction<? super A> fn = this.fn;
+        ImmutableIterator.forEachRemainingWhile(iterator, a -> {
+            action.accept(fn.applyAsDouble(a));
+            return true;
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+
+public final class ToIntMappingIterator<A> implements PrimitiveIterator.OfInt {
+    private final ToIntFunction<? super A> fn;
+    private final Iterator<A>              iterator;
+
+    public ToIntMappingIterator(ToIntFunction<? super A> fn, Iterator<A> iterator) {
+        this.fn = fn;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        return fn.applyAsInt(iterator.next());
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        ToIntFunction<? super A> fn = this.fn;
+        ImmutableIterator.forEachRemainingWhile(iterator, a -> {
+            action.accept(fn.applyAsInt(a));
+            return true;
+        });
+    }
+}
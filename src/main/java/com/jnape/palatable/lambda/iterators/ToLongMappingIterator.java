@@ -0,0 +1,35 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+
+public final class ToLongMappingIterator<A> implements PrimitiveIterator.OfLong {
+    private final ToLongFunction<? super A> fn;
+    private final Iterator<A>               iterator;
+
+    public ToLongMappingIterator(ToLongFunction<? super A> fn, Iterator<A> iterator) {
+        this.fn = fn;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        return fn.applyAsLong(iterator.next());
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        ToLongFunction<? super A> fn = this.fn;
+        ImmutableIterator.forEachRemainingWhile(iterator, a -> {
+            action.accept(fn.applyAsLong(a));
+            return true;
+        });
+    }
+}
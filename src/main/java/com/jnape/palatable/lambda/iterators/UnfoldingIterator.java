@@ -31,4 +31,16 @@ public class UnfoldingIterator<A, B> extends ImmutableIterator<A> {
         optionalAcc = function.apply(acc._2());
         return next;
     }
+
+    @Override
+    @SuppressWarnings("OptionalGetWithoutIsPresent")
+    public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+        while (optionalAcc.isPresent()) {
+            Tuple2<A, B> acc = optionalAcc.get();
+            optionalAcc = function.apply(acc._2());
+            if (!action.apply(acc._1()))
+                return false;
+        }
+        return true;
+    }
 }
@@ -0,0 +1,55 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+public final class UnorderedAsyncMappingIterator<A, B> extends AsyncMappingIterator<A, B> {
+    private final BlockingQueue<CompletableFuture<B>> completed;
+    private       int                                 inFlight;
+
+    public UnorderedAsyncMappingIterator(int maxInFlight, Function<? super A, ? extends CompletableFuture<B>> fn,
+                                         Iterator<A> asIterator) {
+        super(maxInFlight, fn, asIterator);
+        completed = new LinkedBlockingQueue<>();
+        inFlight = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        launchUpToMax();
+        return inFlight > 0;
+    }
+
+    @Override
+    public B next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        CompletableFuture<B> next;
+        try {
+            next = completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        inFlight--;
+        launchUpToMax();
+        return await(next);
+    }
+
+    @Override
+    protected int inFlight() {
+        return inFlight;
+    }
+
+    @Override
+    protected void launched(CompletableFuture<B> future) {
+        inFlight++;
+        future.whenComplete((b, t) -> completed.add(future));
+    }
+}
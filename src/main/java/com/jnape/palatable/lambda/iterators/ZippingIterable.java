@@ -0,0 +1,39 @@
+package com.jnape.palatable.lambda.iterators;
+
+import java.util.Iterator;
+import java.util.function.BiFunction;
+
+public final class ZippingIterable<C, A, B> implements SizedIterable<C> {
+    private final BiFunction<? super A, ? super B, ? extends C> zipper;
+    private final Iterable<A>                                   as;
+    private final Iterable<B>                                   bs;
+
+    public ZippingIterable(BiFunction<? super A, ? super B, ? extends C> zipper, Iterable<A> as, Iterable<B> bs) {
+        this.zipper = zipper;
+        this.as = as;
+        this.bs = bs;
+    }
+
+    @Override
+    public Iterator<C> iterator() {
+        return new ZippingIterator<>(zipper, as.iterator(), bs.iterator());
+    }
+
+    @Override
+    public long sizeIfKnown() {
+        long asSize = SizedIterable.sizeIfKnown(as);
+        long bsSize = SizedIterable.sizeIfKnown(bs);
+        if (asSize == 0 || bsSize == 0)
+            return 0;
+        if (asSize == -1)
+            return SizedIterable.isInfinite(as) ? bsSize : -1;
+        if (bsSize == -1)
+            return SizedIterable.isInfinite(bs) ? asSize : -1;
+        return Math.min(asSize, bsSize);
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return SizedIterable.isInfinite(as) && SizedIterable.isInfinite(bs);
+    }
+}
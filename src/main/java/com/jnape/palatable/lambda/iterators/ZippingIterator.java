@@ -2,6 +2,7 @@ package com.jnape.palatable.lambda.iterators;
 
 import java.util.Iterator;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 public class ZippingIterator<C, A, B> extends ImmutableIterator<C> {
     private final BiFunction<? super A, ? super B, ? extends C> zipper;
@@ -24,4 +25,19 @@ public class ZippingIterator<C, A, B> extends ImmutableIterator<C> {
     public C next() {
         return zipper.apply(asIterator.next(), bsIterator.next());
     }
+
+    @Override
+    public boolean forEachRemainingWhile(Function<? super C, Boolean> action) {
+        boolean[] declined = {false};
+        ImmutableIterator.forEachRemainingWhile(asIterator, a -> {
+            if (!bsIterator.hasNext())
+                return false;
+            if (!action.apply(zipper.apply(a, bsIterator.next()))) {
+                declined[0] = true;
+                return false;
+            }
+            return true;
+        });
+        return !declined[0];
+    }
 }
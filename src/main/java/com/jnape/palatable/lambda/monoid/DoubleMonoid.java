@@ -0,0 +1,125 @@
+package com.jnape.palatable.lambda.monoid;
+
+import com.jnape.palatable.lambda.iterators.DoubleIterable;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import static com.jnape.palatable.lambda.iterators.ImmutableIterator.abandon;
+import static com.jnape.palatable.lambda.iterators.ImmutableIterator.forEachRemainingWhile;
+
+/**
+ * A {@link Monoid} formed over <code>double</code> that can combine, reduce, and fold without boxing. The boxed
+ * {@link Monoid} methods delegate to their primitive counterparts, so a <code>DoubleMonoid</code> can be used anywhere a
+ * <code>Monoid&lt;Double&gt;</code> is expected.
+ *
+ * @see Monoid
+ */
+public interface DoubleMonoid extends Monoid<Double>, DoubleBinaryOperator {
+
+    /**
+     * The identity element of this monoid, unboxed.
+     *
+     * @return the identity
+     */
+    double identityAsDouble();
+
+    /**
+     * Combine two elements under this monoid, unboxed.
+     *
+     * @param x the left element
+     * @param y the right element
+     * @return the combination of x and y
+     */
+    @Override
+    double applyAsDouble(double x, double y);
+
+    /**
+     * Whether <code>a</code> is {@link Monoid#isAbsorbing absorbing}, unboxed. Defaults to <code>false</code> for every
+     * element.
+     *
+     * @param a the element
+     * @return true if a is absorbing; false otherwise
+     */
+    default boolean isAbsorbingAsDouble(double a) {
+        return false;
+    }
+
+    @Override
+    default Double identity() {
+        return identityAsDouble();
+    }
+
+    @Override
+    default Double apply(Double x, Double y) {
+        return applyAsDouble(x, y);
+    }
+
+    @Override
+    default boolean isAbsorbing(Double a) {
+        return isAbsorbingAsDouble(a);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Accumulates unboxed, boxing only the elements of <code>as</code> as they are read and the final result.
+     */
+    @Override
+    default Double reduceLeft(Iterable<Double> as) {
+        return foldMapAsDouble(Double::doubleValue, as);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Accumulates unboxed; prefer {@link DoubleMonoid#foldMapAsDouble(ToDoubleFunction, Iterable)} to avoid boxing each
+     * mapped element as well.
+     */
+    @Override
+    default <B> Double foldMap(Function<? super B, ? extends Double> fn, Iterable<B> bs) {
+        return foldMapAsDouble(fn::apply, bs);
+    }
+
+    /**
+     * Reduce a {@link DoubleIterable} from left to right under this monoid without boxing, stopping as soon as the
+     * reduction is {@link DoubleMonoid#isAbsorbingAsDouble absorbing}.
+     *
+     * @param as the elements to reduce
+     * @return the reduction, or {@link DoubleMonoid#identityAsDouble()} if empty
+     */
+    default double reduceLeftAsDouble(DoubleIterable as) {
+        double acc = identityAsDouble();
+        PrimitiveIterator.OfDouble iterator = as.iterator();
+        while (iterator.hasNext()) {
+            acc = applyAsDouble(acc, iterator.nextDouble());
+            if (isAbsorbingAsDouble(acc)) {
+                abandon(iterator);
+                break;
+            }
+        }
+        return acc;
+    }
+
+    /**
+     * Homomorphism combined with catamorphism, without boxing: extract a <code>double</code> from each
+     * <code>B</code> and fold the results from left to right under this monoid, stopping as soon as the fold is
+     * {@link DoubleMonoid#isAbsorbingAsDouble absorbing}.
+     *
+     * @param fn  the extracting function from B to double
+     * @param bs  the Iterable of Bs
+     * @param <B> the input Iterable element type
+     * @return the folded result under this monoid
+     */
+    default <B> double foldMapAsDouble(ToDoubleFunction<? super B> fn, Iterable<B> bs) {
+        double[] acc = {identityAsDouble()};
+        Iterator<B> iterator = bs.iterator();
+        if (!forEachRemainingWhile(iterator, b -> {
+            acc[0] = applyAsDouble(acc[0], fn.applyAsDouble(b));
+            return !isAbsorbingAsDouble(acc[0]);
+        }))
+            abandon(iterator);
+        return acc[0];
+    }
+}
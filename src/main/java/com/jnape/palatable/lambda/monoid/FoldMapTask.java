@@ -0,0 +1,41 @@
+package com.jnape.palatable.lambda.monoid;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+final class FoldMapTask<A, B> extends RecursiveTask<A> {
+    private static final long serialVersionUID = 1L;
+
+    private final Monoid<A>                         monoid;
+    private final Function<? super B, ? extends A> fn;
+    private final List<B>                           bs;
+    private final int                               from;
+    private final int                               to;
+    private final int                               grain;
+
+    FoldMapTask(Monoid<A> monoid, Function<? super B, ? extends A> fn, List<B> bs, int from, int to, int grain) {
+        this.monoid = monoid;
+        this.fn = fn;
+        this.bs = bs;
+        this.from = from;
+        this.to = to;
+        this.grain = grain;
+    }
+
+    @Override
+    protected A compute() {
+        if (to - from <= grain) {
+            A acc = fn.apply(bs.get(from));
+            for (int i = from + 1; i < to; i++)
+                acc = monoid.apply(acc, fn.apply(bs.get(i)));
+            return acc;
+        }
+
+        int mid = (from + to) >>> 1;
+        FoldMapTask<A, B> right = new FoldMapTask<>(monoid, fn, bs, mid, to, grain);
+        right.fork();
+        A left = new FoldMapTask<>(monoid, fn, bs, from, mid, grain).compute();
+        return monoid.apply(left, right.join());
+    }
+}
@@ -0,0 +1,125 @@
+package com.jnape.palatable.lambda.monoid;
+
+import com.jnape.palatable.lambda.iterators.IntIterable;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToIntFunction;
+
+import static com.jnape.palatable.lambda.iterators.ImmutableIterator.abandon;
+import static com.jnape.palatable.lambda.iterators.ImmutableIterator.forEachRemainingWhile;
+
+/**
+ * A {@link Monoid} formed over <code>int</code> that can combine, reduce, and fold without boxing. The boxed
+ * {@link Monoid} methods delegate to their primitive counterparts, so a <code>IntMonoid</code> can be used anywhere a
+ * <code>Monoid&lt;Integer&gt;</code> is expected.
+ *
+ * @see Monoid
+ */
+public interface IntMonoid extends Monoid<Integer>, IntBinaryOperator {
+
+    /**
+     * The identity element of this monoid, unboxed.
+     *
+     * @return the identity
+     */
+    int identityAsInt();
+
+    /**
+     * Combine two elements under this monoid, unboxed.
+     *
+     * @param x the left element
+     * @param y the right element
+     * @return the combination of x and y
+     */
+    @Override
+    int applyAsInt(int x, int y);
+
+    /**
+     * Whether <code>a</code> is {@link Monoid#isAbsorbing absorbing}, unboxed. Defaults to <code>false</code> for every
+     * element.
+     *
+     * @param a the element
+     * @return true if a is absorbing; false otherwise
+     */
+    default boolean isAbsorbingAsInt(int a) {
+        return false;
+    }
+
+    @Override
+    default Integer identity() {
+        return identityAsInt();
+    }
+
+    @Override
+    default Integer apply(Integer x, Integer y) {
+        return applyAsInt(x, y);
+    }
+
+    @Override
+    default boolean isAbsorbing(Integer a) {
+        return isAbsorbingAsInt(a);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Accumulates unboxed, boxing only the elements of <code>as</code> as they are read and the final result.
+     */
+    @Override
+    default Integer reduceLeft(Iterable<Integer> as) {
+        return foldMapAsInt(Integer::intValue, as);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Accumulates unboxed; prefer {@link IntMonoid#foldMapAsInt(ToIntFunction, Iterable)} to avoid boxing each
+     * mapped element as well.
+     */
+    @Override
+    default <B> Integer foldMap(Function<? super B, ? extends Integer> fn, Iterable<B> bs) {
+        return foldMapAsInt(fn::apply, bs);
+    }
+
+    /**
+     * Reduce a {@link IntIterable} from left to right under this monoid without boxing, stopping as soon as the
+     * reduction is {@link IntMonoid#isAbsorbingAsInt absorbing}.
+     *
+     * @param as the elements to reduce
+     * @return the reduction, or {@link IntMonoid#identityAsInt()} if empty
+     */
+    default int reduceLeftAsInt(IntIterable as) {
+        int acc = identityAsInt();
+        PrimitiveIterator.OfInt iterator = as.iterator();
+        while (iterator.hasNext()) {
+            acc = applyAsInt(acc, iterator.nextInt());
+            if (isAbsorbingAsInt(acc)) {
+                abandon(iterator);
+                break;
+            }
+        }
+        return acc;
+    }
+
+    /**
+     * Homomorphism combined with catamorphism, without boxing: extract a <code>int</code> from each
+     * <code>B</code> and fold the results from left to right under this monoid, stopping as soon as the fold is
+     * {@link IntMonoid#isAbsorbingAsInt absorbing}.
+     *
+     * @param fn  the extracting function from B to int
+     * @param bs  the Iterable of Bs
+     * @param <B> the input Iterable element type
+     * @return the folded result under this monoid
+     */
+    default <B> int foldMapAsInt(ToIntFunction<? super B> fn, Iterable<B> bs) {
+        int[] acc = {identityAsInt()};
+        Iterator<B> iterator = bs.iterator();
+        if (!forEachRemainingWhile(iterator, b -> {
+            acc[0] = applyAsInt(acc[0], fn.applyAsInt(b));
+            return !isAbsorbingAsInt(acc[0]);
+        }))
+            abandon(iterator);
+        return acc[0];
+    }
+}
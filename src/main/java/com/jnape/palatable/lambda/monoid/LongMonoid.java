@@ -0,0 +1,125 @@
+package com.jnape.palatable.lambda.monoid;
+
+import com.jnape.palatable.lambda.iterators.LongIterable;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.ToLongFunction;
+
+import static com.jnape.palatable.lambda.iterators.ImmutableIterator.abandon;
+import static com.jnape.palatable.lambda.iterators.ImmutableIterator.forEachRemainingWhile;
+
+/**
+ * A {@link Monoid} formed over <code>long</code> that can combine, reduce, and fold without boxing. The boxed
+ * {@link Monoid} methods delegate to their primitive counterparts, so a <code>LongMonoid</code> can be used anywhere a
+ * <code>Monoid&lt;Long&gt;</code> is expected.
+ *
+ * @see Monoid
+ */
+public interface LongMonoid extends Monoid<Long>, LongBinaryOperator {
+
+    /**
+     * The identity element of this monoid, unboxed.
+     *
+     * @return the identity
+     */
+    long identityAsLong();
+
+    /**
+     * Combine two elements under this monoid, unboxed.
+     *
+     * @param x the left element
+     * @param y the right element
+     * @return the combination of x and y
+     */
+    @Override
+    long applyAsLong(long x, long y);
+
+    /**
+     * Whether <code>a</code> is {@link Monoid#isAbsorbing absorbing}, unboxed. Defaults to <code>false</code> for every
+     * element.
+     *
+     * @param a the element
+     * @return true if a is absorbing; false otherwise
+     */
+    default boolean isAbsorbingAsLong(long a) {
+        return false;
+    }
+
+    @Override
+    default Long identity() {
+        return identityAsLong();
+    }
+
+    @Override
+    default Long apply(Long x, Long y) {
+        return applyAsLong(x, y);
+    }
+
+    @Override
+    default boolean isAbsorbing(Long a) {
+        return isAbsorbingAsLong(a);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Accumulates unboxed, boxing only the elements of <code>as</code> as they are read and the final result.
+     */
+    @Override
+    default Long reduceLeft(Iterable<Long> as) {
+        return foldMapAsLong(Long::longValue, as);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Accumulates unboxed; prefer {@link LongMonoid#foldMapAsLong(ToLongFunction, Iterable)} to avoid boxing each
+     * mapped element as well.
+     */
+    @Override
+    default <B> Long foldMap(Function<? super B, ? extends Long> fn, Iterable<B> bs) {
+        return foldMapAsLong(fn::apply, bs);
+    }
+
+    /**
+     * Reduce a {@link LongIterable} from left to right under this monoid without boxing, stopping as soon as the
+     * reduction is {@link LongMonoid#isAbsorbingAsLong absorbing}.
+     *
+     * @param as the elements to reduce
+     * @return the reduction, or {@link LongMonoid#identityAsLong()} if empty
+     */
+    default long reduceLeftAsLong(LongIterable as) {
+        long acc = identityAsLong();
+        PrimitiveIterator.OfLong iterator = as.iterator();
+        while (iterator.hasNext()) {
+            acc = applyAsLong(acc, iterator.nextLong());
+            if (isAbsorbingAsLong(acc)) {
+                abandon(iterator);
+                break;
+            }
+        }
+        return acc;
+    }
+
+    /**
+     * Homomorphism combined with catamorphism, without boxing: extract a <code>long</code> from each
+     * <code>B</code> and fold the results from left to right under this monoid, stopping as soon as the fold is
+     * {@link LongMonoid#isAbsorbingAsLong absorbing}.
+     *
+     * @param fn  the extracting function from B to long
+     * @param bs  the Iterable of Bs
+     * @param <B> the input Iterable element type
+     * @return the folded result under this monoid
+     */
+    default <B> long foldMapAsLong(ToLongFunction<? super B> fn, Iterable<B> bs) {
+        long[] acc = {identityAsLong()};
+        Iterator<B> iterator = bs.iterator();
+        if (!forEachRemainingWhile(iterator, b -> {
+            acc[0] = applyAsLong(acc[0], fn.applyAsLong(b));
+            return !isAbsorbingAsLong(acc[0]);
+        }))
+            abandon(iterator);
+        return acc[0];
+    }
+}
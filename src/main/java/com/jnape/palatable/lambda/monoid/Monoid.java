@@ -5,10 +5,17 @@ import com.jnape.palatable.lambda.functions.builtin.fn2.ReduceLeft;
 import com.jnape.palatable.lambda.functions.builtin.fn2.ReduceRight;
 import com.jnape.palatable.lambda.semigroup.Semigroup;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
+import static com.jnape.palatable.lambda.functions.specialized.Reducer.reducer;
 
 /**
  * A {@link Monoid} is the pairing of a {@link Semigroup} with an identity element.
@@ -24,16 +31,29 @@ public interface Monoid<A> extends Semigroup<A> {
      */
     A identity();
 
+    /**
+     * Whether <code>a</code> absorbs any element combined to its right, such that once a left-to-right reduction under
+     * this monoid reaches it, the result can no longer change. {@link Monoid#reduceLeft(Iterable)} and
+     * {@link Monoid#foldMap(Function, Iterable)} stop consuming their input as soon as the reduction is absorbing.
+     * Defaults to <code>false</code> for every element.
+     *
+     * @param a the element
+     * @return true if a is absorbing; false otherwise
+     */
+    default boolean isAbsorbing(A a) {
+        return false;
+    }
+
     /**
      * Catamorphism under this monoid using {@link ReduceLeft}, where the result is the reduction, or, if empty, the
-     * identity of this monoid.
+     * identity of this monoid. The reduction stops as soon as it is {@link Monoid#isAbsorbing absorbing}.
      *
      * @param as the elements to reduce
      * @return the reduction, or {@link Monoid#identity} if empty
      * @see ReduceLeft
      */
     default A reduceLeft(Iterable<A> as) {
-        return ReduceLeft.reduceLeft(toBiFunction(), as).orElse(identity());
+        return ReduceLeft.reduceLeft(reducer(toBiFunction(), this::isAbsorbing), as).orElse(identity());
     }
 
     /**
@@ -64,6 +84,66 @@ public interface Monoid<A> extends Semigroup<A> {
         return reduceLeft(map(fn, bs));
     }
 
+    /**
+     * Catamorphism under this monoid, computed in parallel on the {@link ForkJoinPool#commonPool() common pool}. The
+     * result is equivalent to {@link Monoid#reduceLeft(Iterable)}.
+     *
+     * @param as the elements to reduce
+     * @return the reduction, or {@link Monoid#identity} if empty
+     * @see Monoid#parallelFoldMap(Function, Iterable)
+     */
+    default A parallelReduce(Iterable<A> as) {
+        return parallelFoldMap(id(), as);
+    }
+
+    /**
+     * Homomorphism combined with catamorphism, computed in parallel on the {@link ForkJoinPool#commonPool() common
+     * pool}. The result is equivalent to {@link Monoid#foldMap(Function, Iterable)}.
+     *
+     * @param fn  the mapping function from B to A
+     * @param bs  the Iterable of Bs
+     * @param <B> the input Iterable element type
+     * @return the folded result under this Monoid
+     * @see Monoid#parallelFoldMap(Function, Iterable, ForkJoinPool, int)
+     */
+    default <B> A parallelFoldMap(Function<? super B, ? extends A> fn, Iterable<B> bs) {
+        return parallelFoldMap(fn, bs, ForkJoinPool.commonPool(), 0);
+    }
+
+    /**
+     * Homomorphism combined with catamorphism, computed in parallel on <code>pool</code>. The elements are split into
+     * contiguous chunks of at most <code>grain</code> elements, each chunk is mapped and reduced on a worker, and
+     * adjacent results are combined under this monoid. Because chunks are only ever combined with their neighbors in
+     * encounter order, associativity is sufficient: the result is equivalent to
+     * {@link Monoid#foldMap(Function, Iterable)} for non-commutative monoids, too.
+     * <p>
+     * <code>RandomAccess</code> lists are split in place; any other <code>Iterable</code> is first copied into one, so
+     * it must be finite. A <code>grain</code> of <code>0</code> picks a chunk size based on the pool's parallelism.
+     *
+     * @param fn    the mapping function from B to A
+     * @param bs    the Iterable of Bs
+     * @param pool  the pool to fold on
+     * @param grain the maximum number of elements folded sequentially, or 0 to choose automatically
+     * @param <B>   the input Iterable element type
+     * @return the folded result under this Monoid
+     */
+    @SuppressWarnings("unchecked")
+    default <B> A parallelFoldMap(Function<? super B, ? extends A> fn, Iterable<B> bs, ForkJoinPool pool,
+                                  int grain) {
+        if (grain < 0)
+            throw new IllegalArgumentException("grain must not be negative: " + grain);
+
+        List<B> list = bs instanceof List && bs instanceof RandomAccess
+                       ? (List<B>) bs
+                       : toCollection(ArrayList::new, bs);
+        int size = list.size();
+        if (size == 0)
+            return identity();
+
+        int chunk = grain > 0 ? grain : Math.max(1, size / (pool.getParallelism() << 2));
+        return pool.invoke(new FoldMapTask<>(this, fn, list, 0, size, chunk));
+    }
+
     /**
      * Promote a {@link Semigroup} to a {@link Monoid} by supplying an identity element.
      *
@@ -4,7 +4,8 @@ import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.monoid.Monoid;
 
 /**
- * A {@link Monoid} instance formed by <code>Boolean</code>. Equivalent to logical <code>&amp;&amp;</code>.
+ * A {@link Monoid} instance formed by <code>Boolean</code>. Equivalent to logical <code>&amp;&amp;</code>, and likewise
+ * short-circuiting: left-to-right reductions stop at the first <code>false</code>.
  *
  * @see Or
  * @see Monoid
@@ -21,6 +22,11 @@ public class And implements Monoid<Boolean> {
         return true;
     }
 
+    @Override
+    public boolean isAbsorbing(Boolean a) {
+        return !a;
+    }
+
     @Override
     public Boolean apply(Boolean x, Boolean y) {
         return x && y;
@@ -0,0 +1,49 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.DoubleMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+/**
+ * A {@link Monoid} instance formed by <code>double</code> that selects the greater of two numbers. Like {@link
+ * Math#max(double, double)}, <code>NaN</code> wins, so left-to-right reductions stop at the first <code>NaN</code>.
+ *
+ * @see DoubleSum
+ * @see DoubleProduct
+ * @see DoubleMin
+ * @see DoubleMonoid
+ */
+public final class DoubleMax implements DoubleMonoid {
+
+    private static final DoubleMax INSTANCE = new DoubleMax();
+
+    private DoubleMax() {
+    }
+
+    @Override
+    public double identityAsDouble() {
+        return Double.NEGATIVE_INFINITY;
+    }
+
+    @Override
+    public boolean isAbsorbingAsDouble(double a) {
+        return Double.isNaN(a);
+    }
+
+    @Override
+    public double applyAsDouble(double x, double y) {
+        return Math.max(x, y);
+    }
+
+    public static DoubleMax doubleMax() {
+        return INSTANCE;
+    }
+
+    public static Fn1<Double, Double> doubleMax(double x) {
+        return doubleMax().apply(x);
+    }
+
+    public static double doubleMax(double x, double y) {
+        return doubleMax().applyAsDouble(x, y);
+    }
+}
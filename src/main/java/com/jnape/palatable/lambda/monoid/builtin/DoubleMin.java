@@ -0,0 +1,49 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.DoubleMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+/**
+ * A {@link Monoid} instance formed by <code>double</code> that selects the lesser of two numbers. Like {@link
+ * Math#min(double, double)}, <code>NaN</code> wins, so left-to-right reductions stop at the first <code>NaN</code>.
+ *
+ * @see DoubleSum
+ * @see DoubleProduct
+ * @see DoubleMax
+ * @see DoubleMonoid
+ */
+public final class DoubleMin implements DoubleMonoid {
+
+    private static final DoubleMin INSTANCE = new DoubleMin();
+
+    private DoubleMin() {
+    }
+
+    @Override
+    public double identityAsDouble() {
+        return Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public boolean isAbsorbingAsDouble(double a) {
+        return Double.isNaN(a);
+    }
+
+    @Override
+    public double applyAsDouble(double x, double y) {
+        return Math.min(x, y);
+    }
+
+    public static DoubleMin doubleMin() {
+        return INSTANCE;
+    }
+
+    public static Fn1<Double, Double> doubleMin(double x) {
+        return doubleMin().apply(x);
+    }
+
+    public static double doubleMin(double x, double y) {
+        return doubleMin().applyAsDouble(x, y);
+    }
+}
@@ -0,0 +1,43 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.DoubleMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+/**
+ * A {@link Monoid} instance formed by <code>double</code> that multiplies two numbers together.
+ *
+ * @see DoubleSum
+ * @see DoubleMin
+ * @see DoubleMax
+ * @see DoubleMonoid
+ */
+public final class DoubleProduct implements DoubleMonoid {
+
+    private static final DoubleProduct INSTANCE = new DoubleProduct();
+
+    private DoubleProduct() {
+    }
+
+    @Override
+    public double identityAsDouble() {
+        return 1.0;
+    }
+
+    @Override
+    public double applyAsDouble(double x, double y) {
+        return x * y;
+    }
+
+    public static DoubleProduct doubleProduct() {
+        return INSTANCE;
+    }
+
+    public static Fn1<Double, Double> doubleProduct(double x) {
+        return doubleProduct().apply(x);
+    }
+
+    public static double doubleProduct(double x, double y) {
+        return doubleProduct().applyAsDouble(x, y);
+    }
+}
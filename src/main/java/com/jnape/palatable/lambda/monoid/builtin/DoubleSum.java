@@ -0,0 +1,43 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.DoubleMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+/**
+ * A {@link Monoid} instance formed by <code>double</code> that adds two numbers together.
+ *
+ * @see DoubleProduct
+ * @see DoubleMin
+ * @see DoubleMax
+ * @see DoubleMonoid
+ */
+public final class DoubleSum implements DoubleMonoid {
+
+    private static final DoubleSum INSTANCE = new DoubleSum();
+
+    private DoubleSum() {
+    }
+
+    @Override
+    public double identityAsDouble() {
+        return 0.0;
+    }
+
+    @Override
+    public double applyAsDouble(double x, double y) {
+        return x + y;
+    }
+
+    public static DoubleSum doubleSum() {
+        return INSTANCE;
+    }
+
+    public static Fn1<Double, Double> doubleSum(double x) {
+        return doubleSum().apply(x);
+    }
+
+    public static double doubleSum(double x, double y) {
+        return doubleSum().applyAsDouble(x, y);
+    }
+}
@@ -7,7 +7,8 @@ import java.util.Optional;
 
 /**
  * A {@link Monoid} instance formed by <code>{@link Optional}&lt;A&gt;</code>. The application to two {@link Optional}
- * values produces the first non-empty value, or <code>Optional.empty()</code> if all values are empty.
+ * values produces the first non-empty value, or <code>Optional.empty()</code> if all values are empty. Left-to-right
+ * reductions stop at the first non-empty value.
  *
  * @param <A> the Optional value parameter type
  * @see Last
@@ -27,6 +28,11 @@ public final class First<A> implements Monoid<Optional<A>> {
         return Optional.empty();
     }
 
+    @Override
+    public boolean isAbsorbing(Optional<A> a) {
+        return a.isPresent();
+    }
+
     @Override
     public Optional<A> apply(Optional<A> x, Optional<A> y) {
         return x.map(Optional::of).orElse(y);
@@ -0,0 +1,49 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.IntMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+/**
+ * A {@link Monoid} instance formed by <code>int</code> that selects the greater of two numbers. Left-to-right
+ * reductions stop at {@link Integer#MAX_VALUE}.
+ *
+ * @see IntSum
+ * @see IntProduct
+ * @see IntMin
+ * @see IntMonoid
+ */
+public final class IntMax implements IntMonoid {
+
+    private static final IntMax INSTANCE = new IntMax();
+
+    private IntMax() {
+    }
+
+    @Override
+    public int identityAsInt() {
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public boolean isAbsorbingAsInt(int a) {
+        return a == Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int applyAsInt(int x, int y) {
+        return Math.max(x, y);
+    }
+
+    public static IntMax intMax() {
+        return INSTANCE;
+    }
+
+    public static Fn1<Integer, Integer> intMax(int x) {
+        return intMax().apply(x);
+    }
+
+    public static int intMax(int x, int y) {
+        return intMax().applyAsInt(x, y);
+    }
+}
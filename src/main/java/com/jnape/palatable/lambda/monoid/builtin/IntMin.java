@@ -0,0 +1,49 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.IntMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+/**
+ * A {@link Monoid} instance formed by <code>int</code> that selects the lesser of two numbers. Left-to-right reductions
+ * stop at {@link Integer#MIN_VALUE}.
+ *
+ * @see IntSum
+ * @see IntProduct
+ * @see IntMax
+ * @see IntMonoid
+ */
+public final class IntMin implements IntMonoid {
+
+    private static final IntMin INSTANCE = new IntMin();
+
+    private IntMin() {
+    }
+
+    @Override
+    public int identityAsInt() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean isAbsorbingAsInt(int a) {
+        return a == Integer.MIN_VALUE;
+    }
+
+    @Override
+    public int applyAsInt(int x, int y) {
+        return Math.min(x, y);
+    }
+
+    public static IntMin intMin() {
+        return INSTANCE;
+    }
+
+    public static Fn1<Integer, Integer> intMin(int x) {
+        return intMin().apply(x);
+    }
+
+    public static int intMin(int x, int y) {
+        return intMin().applyAsInt(x, y);
+    }
+}
@@ -0,0 +1,49 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.IntMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+/**
+ * A {@link Monoid} instance formed by <code>int</code> that multiplies two numbers together. Left-to-right reductions
+ * stop at the first <code>0</code>.
+ *
+ * @see IntSum
+ * @see IntMin
+ * @see IntMax
+ * @see IntMonoid
+ */
+public final class IntProduct implements IntMonoid {
+
+    private static final IntProduct INSTANCE = new IntProduct();
+
+    private IntProduct() {
+    }
+
+    @Override
+    public int identityAsInt() {
+        return 1;
+    }
+
+    @Override
+    public boolean isAbsorbingAsInt(int a) {
+        return a == 0;
+    }
+
+    @Override
+    public int applyAsInt(int x, int y) {
+        return x * y;
+    }
+
+    public static IntProduct intProduct() {
+        return INSTANCE;
+    }
+
+    public static Fn1<Integer, Integer> intProduct(int x) {
+        return intProduct().apply(x);
+    }
+
+    public static int intProduct(int x, int y) {
+        return intProduct().applyAsInt(x, y);
+    }
+}
@@ -0,0 +1,43 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.IntMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+/**
+ * A {@link Monoid} instance formed by <code>int</code> that adds two numbers together.
+ *
+ * @see IntProduct
+ * @see IntMin
+ * @see IntMax
+ * @see IntMonoid
+ */
+public final class IntSum implements IntMonoid {
+
+    private static final IntSum INSTANCE = new IntSum();
+
+    private IntSum() {
+    }
+
+    @Override
+    public int identityAsInt() {
+        return 0;
+    }
+
+    @Override
+    public int applyAsInt(int x, int y) {
+        return x + y;
+    }
+
+    public static IntSum intSum() {
+        return INSTANCE;
+    }
+
+    public static Fn1<Integer, Integer> intSum(int x) {
+        return intSum().apply(x);
+    }
+
+    public static int intSum(int x, int y) {
+        return intSum().applyAsInt(x, y);
+    }
+}
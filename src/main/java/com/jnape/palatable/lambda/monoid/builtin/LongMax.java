@@ -0,0 +1,49 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.LongMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+/**
+ * A {@link Monoid} instance formed by <code>long</code> that selects the greater of two numbers. Left-to-right
+ * reductions stop at {@link Long#MAX_VALUE}.
+ *
+ * @see LongSum
+ * @see LongProduct
+ * @see LongMin
+ * @see LongMonoid
+ */
+public final class LongMax implements LongMonoid {
+
+    private static final LongMax INSTANCE = new LongMax();
+
+    private LongMax() {
+    }
+
+    @Override
+    public long identityAsLong() {
+        return Long.MIN_VALUE;
+    }
+
+    @Override
+    public boolean isAbsorbingAsLong(long a) {
+        return a == Long.MAX_VALUE;
+    }
+
+    @Override
+    public long applyAsLong(long x, long y) {
+        return Math.max(x, y);
+    }
+
+    public static LongMax longMax() {
+        return INSTANCE;
+    }
+
+    public static Fn1<Long, Long> longMax(long x) {
+        return longMax().apply(x);
+    }
+
+    public static long longMax(long x, long y) {
+        return longMax().applyAsLong(x, y);
+    }
+}
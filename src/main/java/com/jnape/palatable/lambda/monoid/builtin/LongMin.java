@@ -0,0 +1,49 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.LongMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+/**
+ * A {@link Monoid} instance formed by <code>long</code> that selects the lesser of two numbers. Left-to-right
+ * reductions stop at {@link Long#MIN_VALUE}.
+ *
+ * @see LongSum
+ * @see LongProduct
+ * @see LongMax
+ * @see LongMonoid
+ */
+public final class LongMin implements LongMonoid {
+
+    private static final LongMin INSTANCE = new LongMin();
+
+    private LongMin() {
+    }
+
+    @Override
+    public long identityAsLong() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean isAbsorbingAsLong(long a) {
+        return a == Long.MIN_VALUE;
+    }
+
+    @Override
+    public long applyAsLong(long x, long y) {
+        return Math.min(x, y);
+    }
+
+    public static LongMin longMin() {
+        return INSTANCE;
+    }
+
+    public static Fn1<Long, Long> longMin(long x) {
+        return longMin().apply(x);
+    }
+
+    public static long longMin(long x, long y) {
+        return longMin().applyAsLong(x, y);
+    }
+}
@@ -0,0 +1,49 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.LongMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+/**
+ * A {@link Monoid} instance formed by <code>long</code> that multiplies two numbers together. Left-to-right reductions
+ * stop at the first <code>0</code>.
+ *
+ * @see LongSum
+ * @see LongMin
+ * @see LongMax
+ * @see LongMonoid
+ */
+public final class LongProduct implements LongMonoid {
+
+    private static final LongProduct INSTANCE = new LongProduct();
+
+    private LongProduct() {
+    }
+
+    @Override
+    public long identityAsLong() {
+        return 1L;
+    }
+
+    @Override
+    public boolean isAbsorbingAsLong(long a) {
+        return a == 0L;
+    }
+
+    @Override
+    public long applyAsLong(long x, long y) {
+        return x * y;
+    }
+
+    public static LongProduct longProduct() {
+        return INSTANCE;
+    }
+
+    public static Fn1<Long, Long> longProduct(long x) {
+        return longProduct().apply(x);
+    }
+
+    public static long longProduct(long x, long y) {
+        return longProduct().applyAsLong(x, y);
+    }
+}
@@ -0,0 +1,43 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.LongMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+/**
+ * A {@link Monoid} instance formed by <code>long</code> that adds two numbers together.
+ *
+ * @see LongProduct
+ * @see LongMin
+ * @see LongMax
+ * @see LongMonoid
+ */
+public final class LongSum implements LongMonoid {
+
+    private static final LongSum INSTANCE = new LongSum();
+
+    private LongSum() {
+    }
+
+    @Override
+    public long identityAsLong() {
+        return 0L;
+    }
+
+    @Override
+    public long applyAsLong(long x, long y) {
+        return x + y;
+    }
+
+    public static LongSum longSum() {
+        return INSTANCE;
+    }
+
+    public static Fn1<Long, Long> longSum(long x) {
+        return longSum().apply(x);
+    }
+
+    public static long longSum(long x, long y) {
+        return longSum().applyAsLong(x, y);
+    }
+}
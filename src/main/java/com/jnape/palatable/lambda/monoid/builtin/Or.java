@@ -4,7 +4,8 @@ import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.monoid.Monoid;
 
 /**
- * A {@link Monoid} instance formed by <code>Boolean</code>. Equivalent to logical <code>||</code>.
+ * A {@link Monoid} instance formed by <code>Boolean</code>. Equivalent to logical <code>||</code>, and likewise
+ * short-circuiting: left-to-right reductions stop at the first <code>true</code>.
  *
  * @see And
  * @see Monoid
@@ -21,6 +22,11 @@ public class Or implements Monoid<Boolean> {
         return false;
     }
 
+    @Override
+    public boolean isAbsorbing(Boolean a) {
+        return a;
+    }
+
     @Override
     public Boolean apply(Boolean x, Boolean y) {
         return x || y;
@@ -0,0 +1,76 @@
+package com.jnape.palatable.lambda.adt;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static com.jnape.palatable.lambda.adt.ConsList.consList;
+import static com.jnape.palatable.lambda.adt.ConsList.nil;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class ConsListTest {
+
+    @Test
+    public void nilIsEmpty() {
+        ConsList<Integer> nil = nil();
+        assertTrue(nil.isEmpty());
+        assertEquals(0, nil.size());
+        assertEquals(Optional.empty(), nil.head());
+        assertSame(nil, nil.tail());
+        assertThat(nil, iterates());
+    }
+
+    @Test
+    public void consPrependsAndSharesTail() {
+        ConsList<Integer> tail = consList(2, 3);
+        ConsList<Integer> list = tail.cons(1);
+
+        assertThat(list, iterates(1, 2, 3));
+        assertEquals(Optional.of(1), list.head());
+        assertSame(tail, list.tail());
+        assertEquals(3, list.size());
+        assertEquals(3, list.sizeIfKnown());
+    }
+
+    @Test
+    public void fmapPreservesOrder() {
+        assertThat(consList(1, 2, 3).fmap(x -> x * 10), iterates(10, 20, 30));
+    }
+
+    @Test
+    public void equalsAndHashCodeAreStructural() {
+        assertEquals(consList(1, 2, 3), nil().cons(3).cons(2).cons(1));
+        assertEquals(consList(1, 2, 3).hashCode(), nil().cons(3).cons(2).cons(1).hashCode());
+        assertNotEquals(consList(1, 2, 3), consList(1, 2));
+        assertNotEquals(consList(1, 2, 3), consList(1, 2, 4));
+    }
+
+    @Test
+    public void iteratesDeeplyConsedListsInConstantStack() {
+        ConsList<Integer> list = nil();
+        for (int i = 0; i < 1_000_000; i++)
+            list = list.cons(i);
+
+        int expected = 999_999;
+        for (Integer i : list)
+            assertEquals((Integer) expected--, i);
+        assertEquals(list, list.fmap(x -> x));
+    }
+
+    @Test
+    public void toStringListsElements() {
+        assertThat(consList(1, 2).toString(), is("ConsList{ 1 :: 2 }"));
+        assertThat(nil().toString(), is("ConsList{}"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void iteratorIsImmutable() {
+        consList(1).iterator().remove();
+    }
+}
@@ -15,6 +15,7 @@ import static com.jnape.palatable.lambda.adt.Either.right;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static testsupport.matchers.AllocationMatcher.allocatesAtMostAsMuchAs;
 
 public class EitherTest {
 
@@ -216,4 +217,11 @@ public class EitherTest {
         assertEquals("foo", stringRef.get());
         assertEquals(1, intRef.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void rightFmapAllocatesOnlyTheMappedEither() {
+        Either<String, Integer> right = right(1);
+        Object[] result = new Object[1];
+        assertThat(() -> result[0] = right.fmap(x -> x), allocatesAtMostAsMuchAs(() -> result[0] = right(1)));
+    }
+}
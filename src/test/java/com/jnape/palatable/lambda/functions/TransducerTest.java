@@ -0,0 +1,143 @@
+package com.jnape.palatable.lambda.functions;
+
+import com.jnape.palatable.lambda.functions.Transducer.Sink;
+import com.jnape.palatable.lambda.functions.specialized.Reducer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.jnape.palatable.lambda.functions.Transducer.dropping;
+import static com.jnape.palatable.lambda.functions.Transducer.filtering;
+import static com.jnape.palatable.lambda.functions.Transducer.inGroupsOf;
+import static com.jnape.palatable.lambda.functions.Transducer.mapping;
+import static com.jnape.palatable.lambda.functions.Transducer.scanning;
+import static com.jnape.palatable.lambda.functions.Transducer.taking;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TransducerTest {
+
+    private static final Reducer<Integer, Integer> SUM = (x, y) -> x + y;
+
+    @Test
+    public void identityPassesElementsThrough() {
+        assertEquals(asList(1, 2, 3), Transducer.<Integer>identity().into(ArrayList::new, asList(1, 2, 3)));
+    }
+
+    @Test
+    public void mappingAndFiltering() {
+        Transducer<Integer, String> transducer = Transducer.<Integer>filtering(x -> x % 2 == 0)
+                .andThen(mapping(Object::toString));
+        assertEquals(asList("2", "4"), transducer.into(ArrayList::new, asList(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void composeIsRightToLeft() {
+        Transducer<Integer, Integer> plusOne = mapping(x -> x + 1);
+        Transducer<Integer, Integer> timesTwo = mapping(x -> x * 2);
+        assertEquals(asList(4, 6), plusOne.andThen(timesTwo).into(ArrayList::new, asList(1, 2)));
+        assertEquals(asList(3, 5), plusOne.compose(timesTwo).into(ArrayList::new, asList(1, 2)));
+    }
+
+    @Test
+    public void takingStopsConsumingInfiniteSources() {
+        assertEquals((Integer) 30, Transducer.<Integer>taking(3).transduce(SUM, 0, repeat(10)));
+        assertEquals((Integer) 0, Transducer.<Integer>taking(0).transduce(SUM, 0, repeat(10)));
+    }
+
+    @Test
+    public void dropping() {
+        assertEquals(asList(3, 4), Transducer.<Integer>dropping(2).into(ArrayList::new, asList(1, 2, 3, 4)));
+        assertEquals(emptyList(), Transducer.<Integer>dropping(5).into(ArrayList::new, asList(1, 2, 3, 4)));
+    }
+
+    @Test
+    public void scanningPassesStartingAccumulationFirst() {
+        Transducer<Integer, Integer> runningSum = scanning((Integer acc, Integer x) -> acc + x, 0);
+        assertEquals(asList(0, 1, 3, 6), runningSum.into(ArrayList::new, asList(1, 2, 3)));
+        assertEquals(asList(0), runningSum.into(ArrayList::new, emptyList()));
+    }
+
+    @Test
+    public void inGroupsOfFlushesPartialGroupOnCompletion() {
+        assertEquals(asList(asList(1, 2), asList(3, 4), asList(5)),
+                     Transducer.<Integer>inGroupsOf(2).into(ArrayList::new, asList(1, 2, 3, 4, 5)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void inGroupsOfRequiresPositiveGroupSize() {
+        inGroupsOf(0);
+    }
+
+    @Test
+    public void statefulTransducersStartFreshForEachAccumulation() {
+        Transducer<Integer, Integer> transducer = Transducer.<Integer>dropping(1).andThen(taking(2));
+        assertEquals(asList(2, 3), transducer.into(ArrayList::new, asList(1, 2, 3, 4)));
+        assertEquals(asList(2, 3), transducer.into(ArrayList::new, asList(1, 2, 3, 4)));
+    }
+
+    @Test
+    public void transformedReducersCanBeGivenToFoldLeft() {
+        Reducer<Integer, Integer> reducer = Transducer.<Integer>filtering(x -> x % 2 == 1)
+                .andThen(mapping(x -> x * x))
+                .andThen(taking(3))
+                .apply(SUM);
+        assertEquals((Integer) 35, foldLeft(reducer, 0, iterate(x -> x + 1, 0)));
+    }
+
+    @Test
+    public void sinkReceivesPushedElements() {
+        List<Iterable<Integer>> received = new ArrayList<>();
+        Sink<Integer> sink = Transducer.<Integer>inGroupsOf(2).andThen(taking(2)).sink(received::add);
+
+        sink.accept(1);
+        sink.accept(2);
+        sink.accept(3);
+        assertFalse(sink.isDone());
+        sink.accept(4);
+        assertTrue(sink.isDone());
+        sink.accept(5);
+        sink.complete();
+
+        assertEquals(asList(asList(1, 2), asList(3, 4)), received);
+    }
+
+    @Test
+    public void sinkFlushesOnCompletion() {
+        List<Iterable<Integer>> received = new ArrayList<>();
+        Sink<Integer> sink = Transducer.<Integer>inGroupsOf(2).sink(received::add);
+        sink.accept(1);
+        sink.complete();
+        assertEquals(asList(asList(1)), received);
+        assertTrue(sink.isDone());
+    }
+
+    @Test
+    public void sinkCompletesOnlyOnce() {
+        List<Iterable<Integer>> received = new ArrayList<>();
+        Sink<Integer> sink = Transducer.<Integer>inGroupsOf(2).sink(received::add);
+        sink.accept(1);
+        sink.complete();
+        sink.complete();
+        assertEquals(asList(asList(1)), received);
+    }
+
+    @Test
+    public void sinkStillFlushesOnCompletionAfterUpstreamIsDone() {
+        List<Iterable<Integer>> received = new ArrayList<>();
+        Sink<Integer> sink = Transducer.<Integer>taking(3).andThen(inGroupsOf(2)).sink(received::add);
+        sink.accept(1);
+        sink.accept(2);
+        sink.accept(3);
+        assertTrue(sink.isDone());
+        sink.complete();
+        assertEquals(asList(asList(1, 2), asList(3)), received);
+    }
+}
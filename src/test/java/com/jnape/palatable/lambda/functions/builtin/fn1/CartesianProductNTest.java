@@ -0,0 +1,61 @@
+package com.jnape.palatable.lambda.functions.builtin.fn1;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.CartesianProductN.cartesianProductN;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+@SuppressWarnings("unchecked")
+public class CartesianProductNTest {
+
+    @Test
+    public void computesEveryCombinationWithLastDimensionVaryingFastest() {
+        List<List<Integer>> product = cartesianProductN(asList(asList(1, 2), asList(3, 4), asList(5)));
+        assertEquals(asList(asList(1, 3, 5), asList(1, 4, 5), asList(2, 3, 5), asList(2, 4, 5)), product);
+    }
+
+    @Test
+    public void addressesCombinationsByIndex() {
+        List<List<Integer>> digits = new ArrayList<>();
+        for (int i = 0; i < 6; i++)
+            digits.add(IntStream.range(0, 10).boxed().collect(toList()));
+
+        List<List<Integer>> product = cartesianProductN(digits);
+        assertEquals(1_000_000, product.size());
+        assertEquals(asList(1, 2, 3, 4, 5, 6), product.get(123_456));
+        assertEquals(asList(9, 9, 9, 9, 9, 9), product.get(999_999));
+    }
+
+    @Test
+    public void productWithAnEmptyDimensionIsEmpty() {
+        assertEquals(emptyList(), cartesianProductN(asList(asList(1, 2), emptyList())));
+    }
+
+    @Test
+    public void productOfNoDimensionsIsOneEmptyCombination() {
+        assertEquals(singletonList(emptyList()), cartesianProductN(emptyList()));
+    }
+
+    @Test
+    public void parallelEvaluationPreservesOrder() {
+        List<List<Integer>> product = cartesianProductN(asList(IntStream.range(0, 30).boxed().collect(toList()),
+                                                                IntStream.range(0, 20).boxed().collect(toList()),
+                                                                IntStream.range(0, 10).boxed().collect(toList())));
+
+        assertEquals(product.stream().map(c -> c.get(0) * 100 + c.get(1) * 10 + c.get(2)).collect(toList()),
+                     product.parallelStream().map(c -> c.get(0) * 100 + c.get(1) * 10 + c.get(2)).collect(toList()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void isUnmodifiable() {
+        cartesianProductN(asList(asList(1), asList(2))).get(0).set(0, 3);
+    }
+}
@@ -9,8 +9,13 @@ import testsupport.traits.InfiniteIteration;
 import testsupport.traits.Laziness;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Cycle.cycle;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.iterators.SizedIterable.sizeIfKnown;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.isEmpty;
 import static testsupport.matchers.IterableMatcher.iterates;
 
 @RunWith(Traits.class)
@@ -25,4 +30,19 @@ public class CycleTest {
     public void cyclesTheSameSequenceForever() {
         assertThat(take(9, cycle(1, 2, 3)), iterates(1, 2, 3, 1, 2, 3, 1, 2, 3));
     }
+
+    @Test
+    public void cyclingNothingIsEmpty() {
+        assertThat(cycle(emptyList()), isEmpty());
+    }
+
+    @Test
+    public void takingFromCycleOfKnownSizeHasKnownSize() {
+        assertThat(sizeIfKnown(take(1_000_000, cycle(1, 2, 3))), is(1_000_000L));
+    }
+
+    @Test
+    public void cyclingAnEmptyIterableThatIsNotACollectionIsEmpty() {
+        assertThat(cycle(map(x -> x, emptyList())), isEmpty());
+    }
 }
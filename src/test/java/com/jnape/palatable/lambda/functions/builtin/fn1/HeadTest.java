@@ -10,6 +10,7 @@ import static com.jnape.palatable.lambda.functions.builtin.fn1.Head.head;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertEquals;
+import static testsupport.Mocking.randomAccessListThatCannotBeIterated;
 
 @RunWith(Traits.class)
 public class HeadTest {
@@ -23,4 +24,10 @@ public class HeadTest {
     public void isEmptyForEmptyIterable() {
         assertEquals(Optional.empty(), head(emptyList()));
     }
+
+    @Test
+    public void readsRandomAccessListsByIndex() {
+        assertEquals(Optional.of(1), head(randomAccessListThatCannotBeIterated(1, 2, 3)));
+        assertEquals(Optional.empty(), head(randomAccessListThatCannotBeIterated()));
+    }
 }
\ No newline at end of file
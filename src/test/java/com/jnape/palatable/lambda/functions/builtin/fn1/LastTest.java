@@ -2,12 +2,14 @@ package com.jnape.palatable.lambda.functions.builtin.fn1;
 
 import org.junit.Test;
 
+import java.util.LinkedList;
 import java.util.Optional;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Last.last;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertEquals;
+import static testsupport.Mocking.randomAccessListThatCannotBeIterated;
 
 public class LastTest {
 
@@ -20,4 +22,17 @@ public class LastTest {
     public void emptyForEmpyIterables() {
         assertEquals(Optional.empty(), last(emptyList()));
     }
+
+    @Test
+    public void readsListsFromTheEnd() {
+        assertEquals(Optional.of(3), last(randomAccessListThatCannotBeIterated(1, 2, 3)));
+        assertEquals(Optional.of(3), last(new LinkedList<>(asList(1, 2, 3))));
+        assertEquals(Optional.empty(), last(randomAccessListThatCannotBeIterated()));
+    }
+
+    @Test
+    public void emptyForNonEmptyIterableEndingInNull() {
+        assertEquals(Optional.empty(), last(asList(1, null)));
+        assertEquals(Optional.empty(), last(() -> asList(1, null).iterator()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.jnape.palatable.lambda.functions.builtin.fn1;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Memoize.memoize;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class MemoizeTest {
+
+    @TestTraits({Laziness.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, InfiniteIterableSupport.class})
+    public Fn1<Iterable<Object>, Iterable<Object>> createTestSubject() {
+        return memoize();
+    }
+
+    @Test
+    public void mapsOnlyOnceAcrossRepeatedIteration() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        Iterable<Integer> memoized = memoize(map(x -> {
+            invocations.incrementAndGet();
+            return x * 2;
+        }, asList(1, 2, 3)));
+
+        assertThat(memoized, iterates(2, 4, 6));
+        assertThat(memoized, iterates(2, 4, 6));
+        assertThat(memoized, iterates(2, 4, 6));
+        assertEquals(3, invocations.get());
+    }
+}
@@ -18,6 +18,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static testsupport.Mocking.randomAccessListThatCannotBeIterated;
 import static testsupport.matchers.IterableMatcher.iterates;
 
 @RunWith(Traits.class)
@@ -36,6 +37,12 @@ public class ReverseTest {
         assertThat(reversed, iterates("Spain", "in", "rain", "the"));
     }
 
+    @Test
+    public void iteratesRandomAccessListsBackwardsByIndex() {
+        assertThat(reverse(randomAccessListThatCannotBeIterated(1, 2, 3)), iterates(3, 2, 1));
+        assertThat(reverse(randomAccessListThatCannotBeIterated()), iterates());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void doesNotBeginReversingUntilIterated() {
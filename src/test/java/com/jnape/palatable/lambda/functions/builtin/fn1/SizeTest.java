@@ -6,6 +6,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Size.size;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Zip.zip;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertEquals;
@@ -30,4 +34,12 @@ public class SizeTest {
         when(collection.iterator()).thenThrow(new IllegalStateException("should not be using the iterator"));
         assertEquals((Long) 3L, size(collection));
     }
+
+    @Test
+    public void optimizesForSizedIterables() {
+        Collection<Integer> collection = spy(new ArrayList<>(asList(1, 2, 3, 4)));
+        when(collection.iterator()).thenThrow(new IllegalStateException("should not be using the iterator"));
+        assertEquals((Long) 3L, size(take(3, map(x -> x + 1, collection))));
+        assertEquals((Long) 5L, size(cons(0, map(t -> t._1(), zip(collection, collection)))));
+    }
 }
\ No newline at end of file
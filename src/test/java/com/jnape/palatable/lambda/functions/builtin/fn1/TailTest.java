@@ -1,5 +1,6 @@
 package com.jnape.palatable.lambda.functions.builtin.fn1;
 
+import com.jnape.palatable.lambda.adt.ConsList;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.traitor.annotations.TestTraits;
 import com.jnape.palatable.traitor.runners.Traits;
@@ -10,10 +11,13 @@ import testsupport.traits.FiniteIteration;
 import testsupport.traits.ImmutableIteration;
 import testsupport.traits.Laziness;
 
+import static com.jnape.palatable.lambda.adt.ConsList.consList;
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Tail.tail;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static testsupport.Mocking.randomAccessListThatCannotBeIterated;
 import static testsupport.matchers.IterableMatcher.iterates;
 
 @RunWith(Traits.class)
@@ -33,4 +37,16 @@ public class TailTest {
     public void isEmptyIfEmptyIterable() {
         assertThat(tail(emptyList()), iterates());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void iteratesRandomAccessListsByIndex() {
+        assertThat(tail(randomAccessListThatCannotBeIterated(1, 2, 3)), iterates(2, 3));
+        assertThat(tail(tail(randomAccessListThatCannotBeIterated(1, 2, 3))), iterates(3));
+    }
+
+    @Test
+    public void tailOfConsListIsItsSharedTail() {
+        ConsList<Integer> list = consList(1, 2, 3);
+        assertSame(list.tail(), tail(list));
+    }
+}
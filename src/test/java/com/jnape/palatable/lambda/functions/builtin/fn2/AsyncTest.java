@@ -0,0 +1,83 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Async.async;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class AsyncTest {
+
+    @TestTraits({Laziness.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, InfiniteIterableSupport.class})
+    public Fn1<Iterable<Object>, Iterable<Object>> createTestSubject() {
+        return async(4);
+    }
+
+    @Test
+    public void iteratesElementsInOrder() {
+        assertThat(async(2, asList(1, 2, 3, 4, 5)), iterates(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void runsUpstreamStagesOnAProducerThread() {
+        Thread consumer = Thread.currentThread();
+        for (Thread stageThread : async(2, map(x -> Thread.currentThread(), asList(1, 2, 3))))
+            assertThat(stageThread, not(consumer));
+    }
+
+    @Test
+    public void producesAtMostBufferSizeElementsAheadOfTheConsumer() throws InterruptedException {
+        AtomicInteger produced = new AtomicInteger();
+        Iterator<Integer> iterator = async(2, map(x -> produced.incrementAndGet(), repeat(1))).iterator();
+
+        iterator.next();
+        Thread.sleep(50);
+        assertThat(produced.get() <= 4, is(true));
+    }
+
+    @Test
+    public void supportsNullElements() {
+        assertThat(async(1, asList(1, null, 3)), iterates(1, null, 3));
+    }
+
+    @Test
+    public void iteratesInfiniteIterables() {
+        assertThat(take(3, async(1, repeat(1))), iterates(1, 1, 1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rethrowsExceptionsThrownUpstream() {
+        Iterator<Integer> iterator = async(2, map(x -> {
+            if (x == 2)
+                throw new IllegalStateException("failed");
+            return x;
+        }, asList(1, 2, 3))).iterator();
+
+        assertThat(iterator.next(), is(1));
+        iterator.next();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bufferSizeMustBePositive() {
+        async(0, asList(1, 2, 3));
+    }
+}
@@ -11,9 +11,16 @@ import testsupport.traits.FiniteIteration;
 import testsupport.traits.ImmutableIteration;
 import testsupport.traits.Laziness;
 
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
 import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.CartesianProduct.cartesianProduct;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.StreamSupport.stream;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static testsupport.matchers.IterableMatcher.iterates;
 
@@ -64,4 +71,17 @@ public class CartesianProductTest {
                 )
         );
     }
+
+    @Test
+    public void splitsRandomAccessListsByIndexForParallelEvaluation() {
+        List<Integer> as = IntStream.range(0, 100).boxed().collect(toList());
+        List<Integer> bs = IntStream.range(0, 50).boxed().collect(toList());
+        Iterable<Tuple2<Integer, Integer>> product = cartesianProduct(as, bs);
+
+        Spliterator<Tuple2<Integer, Integer>> spliterator = product.spliterator();
+        assertEquals(5000, spliterator.getExactSizeIfKnown());
+        assertEquals(2500, spliterator.trySplit().getExactSizeIfKnown());
+        assertEquals(stream(product.spliterator(), false).collect(toList()),
+                     stream(product.spliterator(), true).collect(toList()));
+    }
 }
@@ -1,5 +1,6 @@
 package com.jnape.palatable.lambda.functions.builtin.fn2;
 
+import com.jnape.palatable.lambda.adt.ConsList;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.traitor.annotations.TestTraits;
 import com.jnape.palatable.traitor.runners.Traits;
@@ -10,9 +11,12 @@ import testsupport.traits.FiniteIteration;
 import testsupport.traits.ImmutableIteration;
 import testsupport.traits.Laziness;
 
+import static com.jnape.palatable.lambda.adt.ConsList.consList;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static testsupport.matchers.IterableMatcher.iterates;
 
@@ -33,4 +37,13 @@ public class ConsTest {
     public void consingToEmptyIterable() {
         assertThat(cons("foo", emptyList()), iterates("foo"));
     }
+
+    @Test
+    public void consingOntoConsListSharesIt() {
+        ConsList<Integer> tail = consList(1, 2);
+        Iterable<Integer> list = cons(0, tail);
+
+        assertEquals(consList(0, 1, 2), list);
+        assertSame(tail, ((ConsList<Integer>) list).tail());
+    }
 }
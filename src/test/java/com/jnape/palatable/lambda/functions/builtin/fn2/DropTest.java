@@ -13,6 +13,7 @@ import testsupport.traits.Laziness;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Drop.drop;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertThat;
+import static testsupport.Mocking.randomAccessListThatCannotBeIterated;
 import static testsupport.matchers.IterableMatcher.iterates;
 
 @RunWith(Traits.class)
@@ -27,4 +28,16 @@ public class DropTest {
     public void dropsElementsUpToLimit() {
         assertThat(drop(2, asList(1, 2, 3, 4)), iterates(3, 4));
     }
+
+    @Test
+    public void dropsRandomAccessListsByIndex() {
+        assertThat(drop(2, randomAccessListThatCannotBeIterated(1, 2, 3, 4)), iterates(3, 4));
+        assertThat(drop(5, randomAccessListThatCannotBeIterated(1, 2, 3, 4)), iterates());
+    }
+
+    @Test
+    public void consecutiveDropsAccumulate() {
+        assertThat(drop(1, drop(2, asList(1, 2, 3, 4))), iterates(4));
+        assertThat(drop(-1, drop(2, asList(1, 2, 3, 4))), iterates(3, 4));
+    }
 }
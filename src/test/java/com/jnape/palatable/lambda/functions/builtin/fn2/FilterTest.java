@@ -11,10 +11,17 @@ import testsupport.traits.FiniteIteration;
 import testsupport.traits.ImmutableIteration;
 import testsupport.traits.Laziness;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Constantly.constantly;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertThat;
+import static testsupport.matchers.AllocationMatcher.allocatesAtMost;
 import static testsupport.matchers.IterableMatcher.iterates;
 
 @RunWith(Traits.class)
@@ -33,4 +40,11 @@ public class FilterTest {
                 iterates(2, 4, 6)
         );
     }
+
+    @Test
+    public void iteratesWithoutAllocatingPerElement() {
+        List<Integer> ints = toCollection(ArrayList::new, take(1_000, iterate(x -> x + 1, 0)));
+        Object[] last = new Object[1];
+        assertThat(() -> filter(x -> x % 2 == 0, ints).forEach(x -> last[0] = x), allocatesAtMost(256));
+    }
 }
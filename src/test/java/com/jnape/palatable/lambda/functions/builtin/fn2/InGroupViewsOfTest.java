@@ -0,0 +1,66 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.Laziness;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.InGroupViewsOf.inGroupViewsOf;
+import static com.jnape.palatable.lambda.iterators.SizedIterable.sizeIfKnown;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.Mocking.randomAccessListThatCannotBeIterated;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@SuppressWarnings("unchecked")
+@RunWith(Traits.class)
+public class InGroupViewsOfTest {
+
+    @TestTraits({Laziness.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class})
+    public Fn1<Iterable<Object>, Iterable<Iterable<Object>>> createTestSubject() {
+        return inGroupViewsOf(2);
+    }
+
+    @Test
+    public void groupsRandomAccessListsAsViewsWithoutIteratingThem() {
+        List<Integer> oneThroughFive = randomAccessListThatCannotBeIterated(1, 2, 3, 4, 5);
+        Iterable<Iterable<Integer>> groups = inGroupViewsOf(2, oneThroughFive);
+        assertThat(groups, iterates(asList(1, 2), asList(3, 4), singletonList(5)));
+    }
+
+    @Test
+    public void viewGroupsReflectTheList() {
+        List<Integer> oneThroughThree = new ArrayList<>(asList(1, 2, 3));
+        Iterable<Integer> firstGroup = inGroupViewsOf(2, oneThroughThree).iterator().next();
+        oneThroughThree.set(0, 0);
+        assertEquals(asList(0, 2), firstGroup);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void viewGroupsAreUnmodifiable() {
+        ((List<Integer>) inGroupViewsOf(2, asList(1, 2, 3)).iterator().next()).set(0, 0);
+    }
+
+    @Test
+    public void groupsOtherIterablesByCopying() {
+        Iterable<Iterable<Integer>> groups = inGroupViewsOf(2, new LinkedList<>(asList(1, 2, 3)));
+        assertThat(groups, iterates(asList(1, 2), singletonList(3)));
+        assertEquals(asList(1, 2), groups.iterator().next());
+    }
+
+    @Test
+    public void knowsTheNumberOfGroups() {
+        assertEquals(3, sizeIfKnown(inGroupViewsOf(2, asList(1, 2, 3, 4, 5))));
+    }
+}
@@ -10,9 +10,13 @@ import testsupport.traits.FiniteIteration;
 import testsupport.traits.ImmutableIteration;
 import testsupport.traits.Laziness;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.jnape.palatable.lambda.functions.builtin.fn2.InGroupsOf.inGroupsOf;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static testsupport.matchers.IterableMatcher.iterates;
 
@@ -38,4 +42,12 @@ public class InGroupsOfTest {
         Iterable<Iterable<Integer>> groups = inGroupsOf(2, oneThroughFive);
         assertThat(groups, iterates(asList(1, 2), asList(3, 4), singletonList(5)));
     }
+
+    @Test
+    public void groupsRandomAccessListsByCopying() {
+        List<Integer> oneThroughThree = new ArrayList<>(asList(1, 2, 3));
+        Iterable<Integer> firstGroup = inGroupsOf(2, oneThroughThree).iterator().next();
+        oneThroughThree.set(0, 0);
+        assertEquals(asList(1, 2), firstGroup);
+    }
 }
@@ -0,0 +1,65 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.Laziness;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.InReusedGroupsOf.inReusedGroupsOf;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Traits.class)
+public class InReusedGroupsOfTest {
+
+    @TestTraits({Laziness.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class})
+    public Fn1<Iterable<Object>, Iterable<Iterable<Object>>> createTestSubject() {
+        return inReusedGroupsOf(2);
+    }
+
+    @Test
+    public void eachGroupHoldsTheNextElementsUntilTheIteratorAdvances() {
+        List<List<Integer>> copies = new ArrayList<>();
+        for (Iterable<Integer> group : inReusedGroupsOf(2, asList(1, 2, 3, 4, 5))) {
+            List<Integer> copy = new ArrayList<>();
+            group.forEach(copy::add);
+            copies.add(copy);
+        }
+
+        assertEquals(asList(asList(1, 2), asList(3, 4), asList(5)), copies);
+    }
+
+    @Test
+    public void reusesTheSameGroupInstance() {
+        Iterator<Iterable<Integer>> groups = inReusedGroupsOf(2, take(6, repeat(1))).iterator();
+        assertSame(groups.next(), groups.next());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void groupsAreUnmodifiable() {
+        ((List<Integer>) inReusedGroupsOf(2, asList(1, 2)).iterator().next()).add(3);
+    }
+
+    @Test
+    public void spliteratorNeverSplits() {
+        Spliterator<Iterable<Integer>> spliterator = inReusedGroupsOf(2, asList(1, 2, 3)).spliterator();
+        assertNull(spliterator.trySplit());
+        assertEquals(2, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.tryAdvance(group -> assertEquals(asList(1, 2), group)));
+    }
+}
@@ -10,9 +10,13 @@ import testsupport.traits.ImmutableIteration;
 import testsupport.traits.InfiniteIterableSupport;
 import testsupport.traits.Laziness;
 
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Size.size;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Intersperse.intersperse;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static testsupport.matchers.IterableMatcher.isEmpty;
 import static testsupport.matchers.IterableMatcher.iterates;
@@ -34,4 +38,18 @@ public class IntersperseTest {
     public void doesNotIntersperseEmptyIterable() {
         assertThat(intersperse(0, emptyList()), isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void iteratesTenMillionElementsWithoutGrowingTheStack() {
+        int n = 10_000_000;
+        long count = 0;
+        for (Integer ignored : intersperse(0, take(n, repeat(1))))
+            count++;
+        assertEquals(2L * n - 1, count);
+    }
+
+    @Test
+    public void sizeIsKnownIfSourceSizeIsKnown() {
+        assertEquals((Long) 5L, size(intersperse(0, asList(1, 2, 3))));
+    }
+}
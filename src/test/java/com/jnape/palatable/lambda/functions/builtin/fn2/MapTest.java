@@ -10,10 +10,17 @@ import testsupport.traits.FiniteIteration;
 import testsupport.traits.ImmutableIteration;
 import testsupport.traits.Laziness;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertThat;
+import static testsupport.matchers.AllocationMatcher.allocatesAtMost;
 import static testsupport.matchers.IterableMatcher.iterates;
 
 @RunWith(Traits.class)
@@ -32,4 +39,11 @@ public class MapTest {
                 iterates(3, 3, 5)
         );
     }
+
+    @Test
+    public void iteratesWithoutAllocatingPerElement() {
+        List<Integer> ints = toCollection(ArrayList::new, take(1_000, iterate(x -> x + 1, 0)));
+        Object[] last = new Object[1];
+        assertThat(() -> map(x -> x, ints).forEach(x -> last[0] = x), allocatesAtMost(256));
+    }
 }
@@ -0,0 +1,49 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.MemoizeUpTo.memoizeUpTo;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class MemoizeUpToTest {
+
+    @TestTraits({Laziness.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, InfiniteIterableSupport.class})
+    public Fn1<Iterable<Object>, Iterable<Object>> createTestSubject() {
+        return memoizeUpTo(2);
+    }
+
+    @Test
+    public void remembersOnlyUpToCap() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        Iterable<Integer> memoized = memoizeUpTo(2, map(x -> {
+            invocations.incrementAndGet();
+            return x * 2;
+        }, asList(1, 2, 3)));
+
+        assertThat(memoized, iterates(2, 4, 6));
+        assertEquals(3, invocations.get());
+        assertThat(memoized, iterates(2, 4, 6));
+        assertEquals(6, invocations.get());
+    }
+
+    @Test
+    public void zeroCapRemembersNothing() {
+        assertThat(memoizeUpTo(0, asList(1, 2, 3)), iterates(1, 2, 3));
+    }
+}
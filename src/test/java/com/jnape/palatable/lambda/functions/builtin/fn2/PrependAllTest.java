@@ -11,9 +11,13 @@ import testsupport.traits.ImmutableIteration;
 import testsupport.traits.InfiniteIterableSupport;
 import testsupport.traits.Laziness;
 
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Size.size;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.PrependAll.prependAll;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static testsupport.matchers.IterableMatcher.isEmpty;
 import static testsupport.matchers.IterableMatcher.iterates;
@@ -36,4 +40,18 @@ public class PrependAllTest {
     public void prependingToEmptyIterableIsStillEmpty() {
         assertThat(prependAll(0, emptyList()), isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void iteratesTenMillionElementsWithoutGrowingTheStack() {
+        int n = 10_000_000;
+        long count = 0;
+        for (Integer ignored : prependAll(0, take(n, repeat(1))))
+            count++;
+        assertEquals(2L * n, count);
+    }
+
+    @Test
+    public void sizeIsKnownIfSourceSizeIsKnown() {
+        assertEquals((Long) 6L, size(prependAll(0, asList(1, 2, 3))));
+    }
+}
@@ -4,7 +4,9 @@ import org.junit.Test;
 
 import java.util.Optional;
 
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Cycle.cycle;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.ReduceLeft.reduceLeft;
+import static com.jnape.palatable.lambda.functions.specialized.Reducer.reducer;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.hamcrest.core.Is.is;
@@ -28,4 +30,10 @@ public class ReduceLeftTest {
                 is(Optional.empty())
         );
     }
+
+    @Test
+    public void reduceLeftStopsAsSoonAsReducerIsDone() {
+        assertThat(reduceLeft(reducer((Integer x, Integer y) -> x * y, x -> x == 0), cycle(1, 2, 0, 3)),
+                   is(Optional.of(0)));
+    }
 }
@@ -0,0 +1,60 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import java.util.LinkedList;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Slide.slide;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertThat;
+import static testsupport.Mocking.randomAccessListThatCannotBeIterated;
+import static testsupport.matchers.IterableMatcher.isEmpty;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@SuppressWarnings("unchecked")
+@RunWith(Traits.class)
+public class SlideTest {
+
+    @TestTraits({Laziness.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, InfiniteIterableSupport.class})
+    public Fn1<Iterable<Object>, Iterable<Iterable<Object>>> createTestSubject() {
+        return slide(2);
+    }
+
+    @Test
+    public void producesEveryWindowOfConsecutiveElements() {
+        assertThat(slide(2, new LinkedList<>(asList(1, 2, 3, 4))),
+                   iterates(asList(1, 2), asList(2, 3), asList(3, 4)));
+    }
+
+    @Test
+    public void producesNoWindowsIfFewerElementsThanWindowSize() {
+        assertThat(slide(3, new LinkedList<>(asList(1, 2))), isEmpty());
+    }
+
+    @Test
+    public void slidesOverRandomAccessListsWithoutIteratingThem() {
+        assertThat(slide(3, randomAccessListThatCannotBeIterated(1, 2, 3, 4)),
+                   iterates(asList(1, 2, 3), asList(2, 3, 4)));
+    }
+
+    @Test
+    public void slidesOverInfiniteIterables() {
+        assertThat(take(2, slide(2, repeat(1))), iterates(asList(1, 1), asList(1, 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void windowSizeMustBePositive() {
+        slide(0, asList(1, 2, 3));
+    }
+}
@@ -14,6 +14,7 @@ import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertThat;
+import static testsupport.Mocking.randomAccessListThatCannotBeIterated;
 import static testsupport.matchers.IterableMatcher.iterates;
 
 @RunWith(Traits.class)
@@ -40,4 +41,10 @@ public class TakeTest {
     public void takesNothingFromEmptyIterable() {
         assertThat(take(1, emptyList()), iterates());
     }
+
+    @Test
+    public void takesFromRandomAccessListsByIndex() {
+        assertThat(take(2, randomAccessListThatCannotBeIterated(1, 2, 3)), iterates(1, 2));
+        assertThat(take(5, randomAccessListThatCannotBeIterated(1, 2, 3)), iterates(1, 2, 3));
+    }
 }
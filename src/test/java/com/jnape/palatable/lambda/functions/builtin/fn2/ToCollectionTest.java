@@ -1,11 +1,18 @@
 package com.jnape.palatable.lambda.functions.builtin.fn2;
 
+import com.jnape.palatable.lambda.functions.Transducer;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.function.Supplier;
 
+import static com.jnape.palatable.lambda.functions.Transducer.mapping;
+import static com.jnape.palatable.lambda.functions.Transducer.taking;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
@@ -17,4 +24,20 @@ public class ToCollectionTest {
         Supplier<Collection<Integer>> listFactory = ArrayList::new;
         assertEquals(asList(1, 2, 3), toCollection(listFactory, asList(1, 2, 3)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void convertsSizedIterablesToCollectionInstance() {
+        Supplier<Collection<Integer>> listFactory = ArrayList::new;
+        Supplier<Collection<Integer>> setFactory = HashSet::new;
+        assertEquals(asList(2, 3), toCollection(listFactory, take(2, map(x -> x + 1, asList(1, 2, 3)))));
+        assertEquals(new HashSet<>(asList(2, 3)), toCollection(setFactory, take(2, map(x -> x + 1, asList(1, 2, 3)))));
+    }
+
+    @Test
+    public void transducesIntoCollectionInstance() {
+        Transducer<Integer, String> transducer = Transducer.<Integer>filtering(x -> x % 2 == 1)
+                .andThen(mapping(Object::toString))
+                .andThen(taking(2));
+        assertEquals(asList("1", "3"), toCollection(transducer, ArrayList::new, iterate(x -> x + 1, 0)));
+    }
+}
@@ -4,8 +4,10 @@ import org.junit.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.ToMap.toMap;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
@@ -22,4 +24,17 @@ public class ToMapTest {
 
         assertEquals(expected, toMap().apply(HashMap::new, asList(tuple("foo", 1), tuple("bar", 2), tuple("baz", 3))));
     }
+
+    @Test
+    public void collectsSizedEntriesIntoMapWithLastValueForDuplicateKeys() {
+        Map<String, Integer> expected = new TreeMap<String, Integer>() {{
+            put("a", 1);
+            put("b", 4);
+        }};
+
+        assertEquals(expected, toMap(TreeMap::new, map(s -> tuple(s.substring(0, 1), s.length()),
+                                                     asList("a", "bb", "bbbb"))));
+        assertEquals(expected, toMap(HashMap::new, map(s -> tuple(s.substring(0, 1), s.length()),
+                                                     asList("a", "bb", "bbbb"))));
+    }
 }
\ No newline at end of file
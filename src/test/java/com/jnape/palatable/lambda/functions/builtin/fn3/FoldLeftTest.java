@@ -1,18 +1,32 @@
 package com.jnape.palatable.lambda.functions.builtin.fn3;
 
 import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Transducer;
+import com.jnape.palatable.lambda.functions.specialized.Reducer;
 import com.jnape.palatable.traitor.annotations.TestTraits;
 import com.jnape.palatable.traitor.runners.Traits;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import testsupport.traits.EmptyIterableSupport;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.jnape.palatable.lambda.functions.Transducer.taking;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
 import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
+import static com.jnape.palatable.lambda.functions.specialized.Reducer.reducer;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static testsupport.functions.ExplainFold.explainFold;
+import static testsupport.matchers.AllocationMatcher.allocatedPerRun;
+import static testsupport.matchers.AllocationMatcher.allocatesAtMost;
 
 @RunWith(Traits.class)
 public class FoldLeftTest {
@@ -29,4 +43,36 @@ public class FoldLeftTest {
                 is("((((1 + 2) + 3) + 4) + 5)")
         );
     }
+
+    @Test
+    public void foldLeftStopsAsSoonAsReducerIsDone() {
+        assertThat(foldLeft(reducer((Integer acc, Integer x) -> acc + x, acc -> acc >= 10), 0, repeat(3)), is(12));
+    }
+
+    @Test
+    public void foldLeftDoesNotConsumeAnythingIfReducerIsAlreadyDone() {
+        assertThat(foldLeft(reducer((Integer acc, Integer x) -> acc + x, acc -> true), 0, asList(1, 2, 3)), is(0));
+    }
+
+    @Test
+    public void allocatesNothingPerElementOverMapBeyondBoxing() {
+        int elements = 1_000;
+        Object[] box = new Object[1];
+        long boxedLongBytes = allocatedPerRun(() -> box[0] = Long.valueOf(elements));
+        long boxedIntegerBytes = allocatedPerRun(() -> box[0] = Integer.valueOf(elements));
+        List<Integer> ints = toCollection(ArrayList::new, take(elements, iterate(x -> x + 1, 0)));
+        Object[] result = new Object[1];
+        assertThat(() -> result[0] = foldLeft((Long acc, Integer x) -> acc + x, 0L, map(x -> x + 1, ints)),
+                   allocatesAtMost(elements * (boxedLongBytes + boxedIntegerBytes) + 256));
+    }
+
+    @Test
+    public void foldLeftThroughTransducerCompletesReducer() {
+        Reducer<Integer, Iterable<Integer>> countGroups = (acc, group) -> acc + 1;
+        assertThat(foldLeft(Transducer.<Integer>inGroupsOf(2), countGroups, 0, asList(1, 2, 3)), is(2));
+
+        Transducer<Integer, Integer> doubleTwo = Transducer.<Integer, Integer>mapping(x -> x * 2).andThen(taking(2));
+        Reducer<Integer, Integer> sum = Integer::sum;
+        assertThat(foldLeft(doubleTwo, sum, 0, repeat(1)), is(4));
+    }
 }
@@ -0,0 +1,113 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.MapAsync.mapAsync;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class MapAsyncTest {
+
+    @TestTraits({Laziness.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, InfiniteIterableSupport.class})
+    public Fn1<Iterable<Object>, Iterable<Object>> createTestSubject() {
+        return mapAsync(4, CompletableFuture::completedFuture);
+    }
+
+    @Test
+    public void yieldsResultsInSourceOrderRegardlessOfCompletionOrder() {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        Iterator<Integer> results = mapAsync(3, (Integer x) -> {
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        }, asList(1, 2, 3)).iterator();
+
+        assertThat(results.hasNext(), is(true));
+        futures.get(2).complete(30);
+        futures.get(1).complete(20);
+        futures.get(0).complete(10);
+
+        assertEquals((Integer) 10, results.next());
+        assertEquals((Integer) 20, results.next());
+        assertEquals((Integer) 30, results.next());
+        assertThat(results.hasNext(), is(false));
+    }
+
+    @Test
+    public void keepsAtMostMaxInFlightFuturesOutstanding() {
+        AtomicInteger launched = new AtomicInteger();
+        Iterator<Integer> results = mapAsync(2, (Integer x) -> {
+            launched.incrementAndGet();
+            return completedFuture(x);
+        }, asList(1, 2, 3, 4, 5)).iterator();
+
+        assertThat(launched.get(), is(0));
+        assertThat(results.hasNext(), is(true));
+        assertThat(launched.get(), is(2));
+        assertEquals((Integer) 1, results.next());
+        assertThat(launched.get(), is(3));
+    }
+
+    @Test
+    public void overlapsOutstandingFutures() {
+        CountDownLatch allOutstanding = new CountDownLatch(3);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Iterable<Boolean> overlapped = mapAsync(3, (Integer x) -> CompletableFuture.supplyAsync(() -> {
+                allOutstanding.countDown();
+                try {
+                    return allOutstanding.await(1, SECONDS);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }, executor), asList(1, 2, 3));
+
+            assertThat(overlapped, iterates(true, true, true));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void mapsInfiniteIterables() {
+        assertThat(take(3, mapAsync(2, CompletableFuture::completedFuture, repeat(1))), iterates(1, 1, 1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rethrowsTheCauseOfExceptionallyCompletedFutures() {
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("failed"));
+        mapAsync(1, (Integer x) -> failed, asList(1)).iterator().next();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxInFlightMustBePositive() {
+        mapAsync(0, CompletableFuture::completedFuture, asList(1, 2, 3));
+    }
+}
@@ -0,0 +1,87 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn3.MapAsyncUnordered.mapAsyncUnordered;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class MapAsyncUnorderedTest {
+
+    @TestTraits({Laziness.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, InfiniteIterableSupport.class})
+    public Fn1<Iterable<Object>, Iterable<Object>> createTestSubject() {
+        return mapAsyncUnordered(4, CompletableFuture::completedFuture);
+    }
+
+    @Test
+    public void yieldsResultsInCompletionOrder() {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        Iterator<Integer> results = mapAsyncUnordered(3, (Integer x) -> {
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        }, asList(1, 2, 3)).iterator();
+
+        assertThat(results.hasNext(), is(true));
+        futures.get(2).complete(30);
+        futures.get(0).complete(10);
+        futures.get(1).complete(20);
+
+        assertEquals((Integer) 30, results.next());
+        assertEquals((Integer) 10, results.next());
+        assertEquals((Integer) 20, results.next());
+        assertThat(results.hasNext(), is(false));
+    }
+
+    @Test
+    public void keepsAtMostMaxInFlightFuturesOutstanding() {
+        AtomicInteger launched = new AtomicInteger();
+        Iterator<Integer> results = mapAsyncUnordered(2, (Integer x) -> {
+            launched.incrementAndGet();
+            return completedFuture(x);
+        }, asList(1, 2, 3, 4, 5)).iterator();
+
+        assertThat(results.hasNext(), is(true));
+        assertThat(launched.get(), is(2));
+        results.next();
+        assertThat(launched.get(), is(3));
+    }
+
+    @Test
+    public void yieldsEveryResult() {
+        assertThat(mapAsyncUnordered(2, (Integer x) -> completedFuture(x * 10), asList(1, 2, 3)),
+                   iterates(10, 20, 30));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rethrowsTheCauseOfExceptionallyCompletedFutures() {
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("failed"));
+        mapAsyncUnordered(1, (Integer x) -> failed, asList(1)).iterator().next();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxInFlightMustBePositive() {
+        mapAsyncUnordered(0, CompletableFuture::completedFuture, asList(1, 2, 3));
+    }
+}
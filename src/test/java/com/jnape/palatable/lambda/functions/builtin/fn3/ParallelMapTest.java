@@ -0,0 +1,135 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Any.any;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.ParallelMap.parallelMap;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class ParallelMapTest {
+
+    @TestTraits({Laziness.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, InfiniteIterableSupport.class})
+    public Fn1<Iterable<Object>, Iterable<Object>> createTestSubject() {
+        return parallelMap(4, id());
+    }
+
+    @Test
+    public void yieldsResultsInSourceOrderRegardlessOfCompletionOrder() {
+        assertThat(parallelMap(3, (Integer x) -> {
+            sleep(30 - x * 10);
+            return x * 10;
+        }, asList(1, 2, 3)), iterates(10, 20, 30));
+    }
+
+    @Test
+    public void runsAtMostMaxInFlightApplicationsAtOnce() {
+        CyclicBarrier pairs = new CyclicBarrier(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Iterable<Integer> results = parallelMap(2, (Integer x) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                pairs.await(1, SECONDS);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            running.decrementAndGet();
+            return x;
+        }, asList(1, 2, 3, 4, 5, 6));
+
+        assertThat(results, iterates(1, 2, 3, 4, 5, 6));
+        assertThat(maxRunning.get(), is(2));
+    }
+
+    @Test
+    public void interruptsOutstandingApplicationsWhenAnyShortCircuits() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        boolean found = any(x -> x == 1, parallelMap(3, (Integer x) -> {
+            try {
+                if (x == 1) {
+                    started.await();
+                } else {
+                    started.countDown();
+                    new CountDownLatch(1).await();
+                }
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return x;
+        }, asList(1, 2, 3, 4)));
+
+        assertThat(found, is(true));
+        assertThat(interrupted.await(1, SECONDS), is(true));
+    }
+
+    @Test
+    public void interruptsOutstandingApplicationsOnceTakeHasTakenItsElements() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        Iterator<Integer> taken = take(1, parallelMap(3, (Integer x) -> {
+            try {
+                if (x == 1) {
+                    started.await();
+                } else {
+                    started.countDown();
+                    new CountDownLatch(1).await();
+                }
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return x;
+        }, asList(1, 2, 3))).iterator();
+
+        assertThat(taken.next(), is(1));
+        assertThat(interrupted.await(1, SECONDS), is(true));
+        assertThat(taken.hasNext(), is(false));
+    }
+
+    @Test
+    public void mapsInfiniteIterables() {
+        assertThat(take(3, parallelMap(2, (Integer x) -> x + 1, repeat(1))), iterates(2, 2, 2));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rethrowsExceptionsThrownByTheFunction() {
+        parallelMap(1, (Integer x) -> {
+            throw new IllegalStateException("failed");
+        }, asList(1)).iterator().next();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxInFlightMustBePositive() {
+        parallelMap(0, id(), asList(1, 2, 3));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn3.SlideBy.slideBy;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@SuppressWarnings("unchecked")
+@RunWith(Traits.class)
+public class SlideByTest {
+
+    @TestTraits({Laziness.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, InfiniteIterableSupport.class})
+    public Fn1<Iterable<Object>, Iterable<Iterable<Object>>> createTestSubject() {
+        return slideBy(2, 3);
+    }
+
+    @Test
+    public void advancesByStep() {
+        assertThat(slideBy(2, 3, new LinkedList<>(asList(1, 2, 3, 4, 5, 6))),
+                   iterates(asList(1, 2, 3), asList(3, 4, 5)));
+    }
+
+    @Test
+    public void skipsElementsBetweenWindowsIfStepExceedsWindowSize() {
+        assertThat(slideBy(3, 2, new LinkedList<>(asList(1, 2, 3, 4, 5, 6, 7, 8))),
+                   iterates(asList(1, 2), asList(4, 5), asList(7, 8)));
+    }
+
+    @Test
+    public void agreesWithSubListsForAllWindowSizesAndSteps() {
+        List<Integer> ints = new ArrayList<>();
+        for (int i = 0; i < 20; i++)
+            ints.add(i);
+
+        for (int k = 1; k <= 7; k++) {
+            for (int step = 1; step <= 9; step++) {
+                List<List<Integer>> expected = new ArrayList<>();
+                for (int from = 0; from + k <= ints.size(); from += step)
+                    expected.add(ints.subList(from, from + k));
+
+                assertEquals(expected, copies(slideBy(step, k, new LinkedList<>(ints))));
+                assertEquals(expected, copies(slideBy(step, k, ints)));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void stepMustBePositive() {
+        slideBy(0, 2, asList(1, 2, 3));
+    }
+
+    private static List<List<Integer>> copies(Iterable<Iterable<Integer>> windows) {
+        List<List<Integer>> copies = new ArrayList<>();
+        for (Iterable<Integer> window : windows) {
+            List<Integer> copy = new ArrayList<>();
+            window.forEach(copy::add);
+            copies.add(copy);
+        }
+        return copies;
+    }
+}
@@ -0,0 +1,24 @@
+package com.jnape.palatable.lambda.functions.specialized;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class IntFn1Test {
+
+    @Test
+    public void applyAsIntDelegatesToApply() {
+        IntFn1 inc = x -> x + 1;
+        assertEquals(2, inc.applyAsInt(1));
+    }
+
+    @Test
+    public void composition() {
+        IntFn1 inc = x -> x + 1;
+        IntFn1 dbl = x -> x * 2;
+
+        assertEquals(4, inc.then(dbl).apply(1));
+        assertEquals(4, inc.andThen(dbl).apply(1));
+        assertEquals(3, inc.compose(dbl).apply(1));
+    }
+}
@@ -0,0 +1,29 @@
+package com.jnape.palatable.lambda.functions.specialized;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntPredicateTest {
+
+    @Test
+    public void jufIntPredicateTest() {
+        IntPredicate even = x -> x % 2 == 0;
+
+        assertTrue(even.test(2));
+        assertFalse(even.test(1));
+    }
+
+    @Test
+    public void conjunctionDisjunctionAndNegation() {
+        IntPredicate even = x -> x % 2 == 0;
+        IntPredicate positive = x -> x > 0;
+
+        assertTrue(even.and(positive).apply(2));
+        assertFalse(even.and(positive).apply(-2));
+        assertTrue(even.or(positive).apply(-2));
+        assertFalse(even.or(positive).apply(-1));
+        assertTrue(even.negate().apply(1));
+    }
+}
@@ -0,0 +1,31 @@
+package com.jnape.palatable.lambda.functions.specialized;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.specialized.Reducer.reducer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ReducerTest {
+
+    @Test
+    public void isNeverDoneByDefault() {
+        Reducer<Integer, Integer> sum = (acc, x) -> acc + x;
+        assertFalse(sum.isDone(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void staticFactoryMethod() {
+        Reducer<Integer, Integer> sumTo10 = reducer((acc, x) -> acc + x, acc -> acc >= 10);
+        assertEquals((Integer) 3, sumTo10.apply(1, 2));
+        assertFalse(sumTo10.isDone(9));
+        assertTrue(sumTo10.isDone(10));
+    }
+
+    @Test
+    public void completesToSameAccumulationByDefault() {
+        Reducer<Integer, Integer> sum = (acc, x) -> acc + x;
+        assertEquals((Integer) 5, sum.complete(5));
+    }
+}
@@ -0,0 +1,108 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Any.any;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class AsyncIteratorTest {
+
+    @Test
+    public void closingInterruptsTheProducer() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        AsyncIterator<Integer> iterator = new AsyncIterator<>(1, repeat(1), runnable -> new Thread(() -> {
+            runnable.run();
+            finished.countDown();
+        }));
+
+        iterator.next();
+        iterator.close();
+
+        assertThat(finished.await(1, SECONDS), is(true));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void throwingOutOfAPushTraversalInterruptsTheProducer() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        AsyncIterator<Integer> iterator = new AsyncIterator<>(1, map(x -> x, repeat(1)), runnable -> new Thread(() -> {
+            runnable.run();
+            finished.countDown();
+        }));
+
+        try {
+            iterator.forEachRemaining(x -> {
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException expected) {
+            assertThat(finished.await(1, SECONDS), is(true));
+            return;
+        }
+        throw new AssertionError("expected traversal to throw");
+    }
+
+    @Test
+    public void doesNotStartTheProducerUntilAdvanced() {
+        new AsyncIterator<>(1, repeat(1), runnable -> {
+            throw new AssertionError("producer started");
+        });
+    }
+
+    @Test
+    public void shortCircuitingTerminalOperationsEndTheProducer() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        AsyncIterator<Integer> iterator = new AsyncIterator<>(1, repeat(1), runnable -> new Thread(() -> {
+            runnable.run();
+            finished.countDown();
+        }));
+
+        assertThat(any(x -> x == 1, () -> iterator), is(true));
+        assertThat(finished.await(1, SECONDS), is(true));
+    }
+
+    @Test
+    public void closingEndsAProducerWhoseSourceFailsOnInterrupt() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        Iterable<Integer> failingOnInterrupt = () -> new ImmutableIterator<Integer>() {
+            private boolean first = true;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                if (first) {
+                    first = false;
+                    return 1;
+                }
+                try {
+                    blocked.countDown();
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return 2;
+            }
+        };
+        AsyncIterator<Integer> iterator = new AsyncIterator<>(1, failingOnInterrupt, runnable -> new Thread(() -> {
+            runnable.run();
+            finished.countDown();
+        }));
+
+        iterator.next();
+        assertThat(blocked.await(1, SECONDS), is(true));
+        iterator.close();
+
+        assertThat(finished.await(1, SECONDS), is(true));
+        assertThat(iterator.hasNext(), is(false));
+    }
+}
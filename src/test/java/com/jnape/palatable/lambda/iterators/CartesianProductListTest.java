@@ -0,0 +1,32 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+@SuppressWarnings("unchecked")
+public class CartesianProductListTest {
+
+    @Test
+    public void combinationsAreViews() {
+        List<List<String>> product = new CartesianProductList<>(asList(asList("a", "b"), asList("c", "d", "e")));
+        assertEquals(6, product.size());
+        assertEquals(asList("b", "d"), product.get(4));
+        assertEquals(2, product.get(4).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsProductsLargerThanAList() {
+        List<Integer> big = Collections.nCopies(1 << 16, 0);
+        new CartesianProductList<>(asList(big, big));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void boundsChecksIndices() {
+        new CartesianProductList<>(asList(asList(1), asList(2))).get(1);
+    }
+}
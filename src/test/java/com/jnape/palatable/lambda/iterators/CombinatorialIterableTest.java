@@ -0,0 +1,27 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class CombinatorialIterableTest {
+
+    @Test
+    public void iteratesAllPairs() {
+        assertThat(new CombinatorialIterable<>(asList(1, 2), asList("a", "b")),
+                   iterates(tuple(1, "a"), tuple(1, "b"), tuple(2, "a"), tuple(2, "b")));
+    }
+
+    @Test
+    public void sizeIsProductOfSizes() {
+        assertEquals(6, new CombinatorialIterable<>(asList(1, 2), asList(1, 2, 3)).sizeIfKnown());
+        assertEquals(0, new CombinatorialIterable<>(emptyList(), repeat(1)).sizeIfKnown());
+        assertEquals(-1, new CombinatorialIterable<>(asList(1, 2), repeat(1)).sizeIfKnown());
+    }
+}
@@ -1,14 +1,19 @@
 package com.jnape.palatable.lambda.iterators;
 
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
 
 import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.Mockito.when;
@@ -61,4 +66,46 @@ public class CombinatorialIteratorTest {
         assertThat(combinatorialIterator.next(), is(tuple("a2", "b1")));
         assertThat(combinatorialIterator.next(), is(tuple("a2", "b2")));
     }
+
+    @Test
+    public void supportsNullElements() {
+        CombinatorialIterator<Integer, String> nulls = new CombinatorialIterator<>(asList(null, 1).iterator(),
+                                                                                   asList("a", null).iterator());
+        assertThat(nulls.next()._2(), is("a"));
+        assertThat(nulls.next()._1(), is((Integer) null));
+        assertThat(nulls.next(), is(tuple(1, "a")));
+        assertThat(nulls.next()._2(), is((String) null));
+        assertThat(nulls.hasNext(), is(false));
+    }
+
+    @Test
+    public void iteratesRightHandSideOnlyOnce() {
+        Iterator<String> bs = new LinkedList<>(asList("a", "b")).iterator();
+        CombinatorialIterator<Integer, String> pairs = new CombinatorialIterator<>(asList(1, 2, 3).iterator(), bs);
+        int count = 0;
+        while (pairs.hasNext()) {
+            pairs.next();
+            count++;
+        }
+        assertThat(count, is(6));
+    }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumed() {
+        CombinatorialIterator<Integer, String> it = new CombinatorialIterator<>(asList(1, 2).iterator(),
+                                                                                asList("a", "b").iterator());
+        List<Tuple2<Integer, String>> pushed = new ArrayList<>();
+        assertThat(it.forEachRemainingWhile(t -> pushed.add(t) && pushed.size() < 2), is(false));
+        assertThat(it.next(), is(tuple(2, "a")));
+        assertThat(it.forEachRemainingWhile(pushed::add), is(true));
+        assertThat(pushed, is(asList(tuple(1, "a"), tuple(1, "b"), tuple(2, "b"))));
+    }
+
+    @Test
+    public void forEachRemainingWhileDoesNotConsumeAsWhenThereAreNoBs() {
+        Iterator<Integer> ints = asList(1, 2).iterator();
+        CombinatorialIterator<Integer, String> it = new CombinatorialIterator<>(ints, new LinkedList<String>().iterator());
+        assertThat(it.forEachRemainingWhile(t -> true), is(true));
+        assertThat(ints.next(), is(1));
+    }
 }
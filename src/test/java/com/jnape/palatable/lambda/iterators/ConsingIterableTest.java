@@ -0,0 +1,29 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class ConsingIterableTest {
+
+    @Test
+    public void iteratesHeadThenTail() {
+        assertThat(new ConsingIterable<>(0, asList(1, 2)), iterates(0, 1, 2));
+    }
+
+    @Test
+    public void sizeIsOneMoreThanTailSize() {
+        assertEquals(3, new ConsingIterable<>(0, asList(1, 2)).sizeIfKnown());
+        assertEquals(1, new ConsingIterable<>(0, emptyList()).sizeIfKnown());
+    }
+
+    @Test
+    public void sizeIsUnknownIfTailSizeIsUnknown() {
+        assertEquals(-1, new ConsingIterable<>(0, repeat(1)).sizeIfKnown());
+    }
+}
@@ -3,7 +3,9 @@ package com.jnape.palatable.lambda.iterators;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Drop.drop;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
@@ -58,4 +60,25 @@ public class ConsingIteratorTest {
         assertEquals(stackBlowingNumber,
                      take(1, drop(stackBlowingNumber - 1, ints)).iterator().next());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void forEachRemainingPushesHeadThenTail() {
+        List<Integer> pushed = new ArrayList<>();
+        consingIterator.forEachRemaining(pushed::add);
+        assertEquals(asList(0, 1, 2, 3), pushed);
+    }
+
+    @Test
+    public void forEachRemainingIsStackSafe() {
+        Iterable<Integer> ints = Collections.emptyList();
+        for (int i = 0; i < 100_000; i++) {
+            Iterable<Integer> tail = ints;
+            int head = i;
+            ints = () -> new ConsingIterator<>(head, tail);
+        }
+
+        int[] count = {0};
+        ints.iterator().forEachRemaining(x -> count[0]++);
+        assertEquals(100_000, count[0]);
+    }
+}
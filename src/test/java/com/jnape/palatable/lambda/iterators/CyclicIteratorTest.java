@@ -2,7 +2,12 @@ package com.jnape.palatable.lambda.iterators;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyIterator;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -23,4 +28,38 @@ public class CyclicIteratorTest {
         strings.next();
         assertThat(strings.next(), is("bait"));
     }
+
+    @Test
+    public void keepsCyclingThroughCachedElements() {
+        CyclicIterator<Integer> ints = new CyclicIterator<>(asList(1, 2, 3).iterator());
+        for (int i = 0; i < 10; i++)
+            ints.next();
+        assertThat(ints.next(), is(2));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void cannotCycleNothing() {
+        new CyclicIterator<>(emptyIterator()).next();
+    }
+
+    @Test
+    public void hasNothingToCycleIfFirstPassFindsNothing() {
+        assertThat(new CyclicIterator<>(emptyIterator()).hasNext(), is(false));
+    }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumed() {
+        CyclicIterator<Integer> it = new CyclicIterator<>(asList(1, 2, 3).iterator());
+        List<Integer> pushed = new ArrayList<>();
+        assertThat(it.forEachRemainingWhile(x -> pushed.add(x) && x < 2), is(false));
+        assertThat(it.next(), is(3));
+        assertThat(it.forEachRemainingWhile(x -> pushed.add(x) && pushed.size() < 5), is(false));
+        assertThat(it.next(), is(1));
+        assertThat(pushed, is(asList(1, 2, 1, 2, 3)));
+    }
+
+    @Test
+    public void forEachRemainingWhileOverEmptyIteratorIsExhausted() {
+        assertThat(new CyclicIterator<>(emptyIterator()).forEachRemainingWhile(x -> true), is(true));
+    }
 }
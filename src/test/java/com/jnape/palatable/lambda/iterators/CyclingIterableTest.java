@@ -0,0 +1,54 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class CyclingIterableTest {
+
+    @Test
+    public void reiteratesCollections() {
+        CyclingIterable<Integer> cycling = new CyclingIterable<>(asList(1, 2, 3));
+        assertThat(cycling.iterator(), instanceOf(ReiteratingCyclicIterator.class));
+        assertThat(take(5, cycling), iterates(1, 2, 3, 1, 2));
+    }
+
+    @Test
+    public void cachesOtherIterables() {
+        CyclingIterable<Integer> cycling = new CyclingIterable<>(() -> asList(1, 2, 3).iterator());
+        assertThat(cycling.iterator(), instanceOf(CyclicIterator.class));
+        assertThat(take(5, cycling), iterates(1, 2, 3, 1, 2));
+    }
+
+    @Test
+    public void cyclingSomethingInfiniteIsJustIteratingIt() {
+        assertThat(take(3, new CyclingIterable<>(new CyclingIterable<>(asList(1, 2)))), iterates(1, 2, 1));
+    }
+
+    @Test
+    public void isInfiniteIfSourceIsKnownToBeNonEmpty() {
+        assertTrue(new CyclingIterable<>(asList(1, 2)).isInfinite());
+        assertEquals(-1, new CyclingIterable<>(asList(1, 2)).sizeIfKnown());
+    }
+
+    @Test
+    public void isEmptyIfSourceIsKnownToBeEmpty() {
+        assertFalse(new CyclingIterable<>(emptyList()).isInfinite());
+        assertEquals(0, new CyclingIterable<>(emptyList()).sizeIfKnown());
+    }
+
+    @Test
+    public void isNotKnownToBeInfiniteIfSourceSizeIsUnknown() {
+        assertFalse(new CyclingIterable<>(() -> asList(1, 2).iterator()).isInfinite());
+        assertFalse(new CyclingIterable<>(repeat(1)).isInfinite());
+    }
+}
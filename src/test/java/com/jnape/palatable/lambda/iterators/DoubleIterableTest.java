@@ -0,0 +1,59 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static com.jnape.palatable.lambda.iterators.DoubleIterable.doubles;
+import static java.util.Arrays.asList;
+import static java.util.stream.StreamSupport.doubleStream;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class DoubleIterableTest {
+
+    @Test
+    public void mapFilterTakeAndDrop() {
+        DoubleIterable doubles = doubles(0.5, 1.5, 2.5, 3.5, 4.5)
+                .filter(x -> x > 1)
+                .map(x -> x * 2)
+                .drop(1)
+                .take(2);
+
+        assertThat(doubles, iterates(5.0, 7.0));
+    }
+
+    @Test
+    public void foldLeft() {
+        assertEquals(3.0, doubles(0.5, 1.0, 1.5).foldLeft(0, (acc, x) -> acc + x), 0);
+    }
+
+    @Test
+    public void spliteratorSupportsDoubleStreams() {
+        assertArrayEquals(new double[]{1, 2}, doubleStream(doubles(1, 2).spliterator(), false).toArray(), 0);
+    }
+
+    @Test
+    public void mapToDoubleEntersFromObjectsAndMapToObjLeaves() {
+        DoubleIterable halves = DoubleIterable.mapToDouble(x -> x / 2.0, asList(1, 2, 3));
+
+        assertEquals(3.0, halves.foldLeft(0, (acc, x) -> acc + x), 0);
+        assertThat(halves.map(x -> x * 2).mapToObj(Double::toString), iterates("1.0", "2.0", "3.0"));
+    }
+
+    @Test
+    public void takingForEachRemainingStopsAtTheLimitWithoutDrainingTheSource() {
+        PrimitiveIterator.OfDouble source = doubles(1d, 2d, 3d).iterator();
+        PrimitiveIterator.OfDouble taken = new DoubleTakingIterator(2, source);
+        List<Double> pushed = new ArrayList<>();
+        taken.forEachRemaining((double x) -> pushed.add(x));
+        assertEquals(asList(1d, 2d), pushed);
+        assertFalse(taken.hasNext());
+        assertEquals(3d, source.nextDouble(), 0d);
+    }
+}
@@ -0,0 +1,28 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class DroppingIterableTest {
+
+    @Test
+    public void iteratesAfterN() {
+        assertThat(new DroppingIterable<>(2, asList(1, 2, 3)), iterates(3));
+    }
+
+    @Test
+    public void sizeIsSourceSizeLessNButNeverNegative() {
+        assertEquals(1, new DroppingIterable<>(2, asList(1, 2, 3)).sizeIfKnown());
+        assertEquals(0, new DroppingIterable<>(5, asList(1, 2, 3)).sizeIfKnown());
+    }
+
+    @Test
+    public void sizeIsUnknownIfSourceSizeIsUnknown() {
+        assertEquals(-1, new DroppingIterable<>(5, repeat(1)).sizeIfKnown());
+    }
+}
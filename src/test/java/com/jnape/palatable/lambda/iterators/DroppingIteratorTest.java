@@ -7,10 +7,14 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static testsupport.Mocking.iteratorThatCanOnlyPush;
 import static testsupport.Mocking.mockIteratorToHaveValues;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -42,4 +46,11 @@ public class DroppingIteratorTest {
         mockIteratorToHaveValues(iterator, 1, 2, 3, 4, 5, 6);
         assertThat(droppingIterator.next(), Is.<Object>is(6));
     }
+
+    @Test
+    public void forEachRemainingPushesElementsAfterDroppedOnes() {
+        List<Integer> pushed = new ArrayList<>();
+        new DroppingIterator<>(2, iteratorThatCanOnlyPush(1, 2, 3, 4)).forEachRemaining(pushed::add);
+        assertThat(pushed, is(asList(3, 4)));
+    }
 }
@@ -0,0 +1,50 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class FilteringIterableTest {
+
+    @Test
+    public void fusesNestedFiltersIntoConjunction() {
+        FilteringIterable<Integer> evens = new FilteringIterable<>(x -> x % 2 == 0, asList(1, 2, 3, 4, 5, 6, 7, 8));
+        FilteringIterable<Integer> evensAboveThree = new FilteringIterable<>(x -> x > 3, evens);
+
+        assertThat(evensAboveThree, iterates(4, 6, 8));
+    }
+
+    @Test
+    public void appliesPredicatesInStageOrder() {
+        List<String> invocations = new ArrayList<>();
+        FilteringIterable<Integer> first = new FilteringIterable<>(x -> invocations.add("first:" + x) && x > 1,
+                                                                   asList(1, 2));
+        FilteringIterable<Integer> second = new FilteringIterable<>(x -> invocations.add("second:" + x), first);
+        second.forEach(x -> {
+        });
+
+        assertThat(invocations, iterates("first:1", "first:2", "second:2"));
+    }
+
+    @Test
+    public void fusedStagesDoNotAffectUpstream() {
+        FilteringIterable<Integer> evens = new FilteringIterable<>(x -> x % 2 == 0, asList(1, 2, 3, 4));
+        new FilteringIterable<>(x -> x > 2, evens);
+
+        assertThat(evens, iterates(2, 4));
+    }
+
+    @Test
+    public void deeplyNestedFiltersIterateWithoutGrowingTheStack() {
+        Iterable<Integer> filtered = asList(1, 2, 3);
+        for (int i = 0; i < 100_000; i++)
+            filtered = new FilteringIterable<>(x -> x != 2, filtered);
+
+        assertThat(filtered, iterates(1, 3));
+    }
+}
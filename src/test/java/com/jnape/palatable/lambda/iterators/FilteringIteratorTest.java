@@ -2,10 +2,15 @@ package com.jnape.palatable.lambda.iterators;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static java.lang.Character.toUpperCase;
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static testsupport.Mocking.iteratorThatCanOnlyPush;
 
 public class FilteringIteratorTest {
 
@@ -38,4 +43,54 @@ public class FilteringIteratorTest {
 
         assertThat(fiveThroughTen.hasNext(), is(false));
     }
+
+    @Test
+    public void supportsNullElements() {
+        FilteringIterator<Integer> nonZero = new FilteringIterator<>(
+                x -> x == null || x != 0,
+                asList(0, null, 1).iterator()
+        );
+
+        assertThat(nonZero.next(), is((Integer) null));
+        assertThat(nonZero.next(), is(1));
+        assertThat(nonZero.hasNext(), is(false));
+    }
+
+    @Test
+    public void appliesPredicateOncePerElement() {
+        AtomicInteger calls = new AtomicInteger();
+        FilteringIterator<Integer> evens = new FilteringIterator<>(
+                x -> calls.incrementAndGet() > 0 && x % 2 == 0,
+                asList(1, 2, 3, 4).iterator()
+        );
+
+        while (evens.hasNext() && evens.hasNext())
+            evens.next();
+        assertThat(calls.get(), is(4));
+    }
+
+    @Test
+    public void forEachRemainingPushesMatchingElementsFromSource() {
+        List<Integer> pushed = new ArrayList<>();
+        new FilteringIterator<>(x -> x % 2 == 0, iteratorThatCanOnlyPush(1, 2, 3, 4)).forEachRemaining(pushed::add);
+        assertThat(pushed, is(asList(2, 4)));
+    }
+
+    @Test
+    public void forEachRemainingPushesBufferedElementFirst() {
+        FilteringIterator<Integer> filteringIterator = new FilteringIterator<>(x -> x > 1, asList(1, 2, 3).iterator());
+        assertThat(filteringIterator.hasNext(), is(true));
+
+        List<Integer> pushed = new ArrayList<>();
+        filteringIterator.forEachRemaining(pushed::add);
+        assertThat(pushed, is(asList(2, 3)));
+    }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumed() {
+        FilteringIterator<Integer> filteringIterator =
+                new FilteringIterator<>(x -> x > 1, asList(1, 2, 3, 4).iterator());
+        assertThat(filteringIterator.forEachRemainingWhile(x -> x < 3), is(false));
+        assertThat(filteringIterator.next(), is(4));
+    }
 }
@@ -0,0 +1,50 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import static java.util.Arrays.asList;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterator.SIZED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class FilteringSpliteratorTest {
+
+    @Test
+    public void advancesOnlyOverMatchingElements() {
+        FilteringSpliterator<Integer> spliterator = new FilteringSpliterator<>(x -> x % 2 == 0,
+                                                                               asList(1, 2, 3, 4, 5).spliterator());
+        List<Integer> results = new ArrayList<>();
+        assertTrue(spliterator.tryAdvance(results::add));
+        spliterator.forEachRemaining(results::add);
+        assertFalse(spliterator.tryAdvance(results::add));
+
+        assertEquals(asList(2, 4), results);
+    }
+
+    @Test
+    public void splitsWhenSourceSplits() {
+        FilteringSpliterator<Integer> spliterator = new FilteringSpliterator<>(x -> x != 3,
+                                                                               new ArrayList<>(asList(1, 2, 3, 4)).spliterator());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+
+        List<Integer> results = new ArrayList<>();
+        prefix.forEachRemaining(results::add);
+        spliterator.forEachRemaining(results::add);
+        assertEquals(asList(1, 2, 4), results);
+    }
+
+    @Test
+    public void isNeverSized() {
+        FilteringSpliterator<Integer> spliterator = new FilteringSpliterator<>(x -> true, asList(1, 2).spliterator());
+        assertFalse(spliterator.hasCharacteristics(SIZED));
+        assertTrue(spliterator.hasCharacteristics(ORDERED));
+    }
+}
@@ -0,0 +1,26 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class GroupingIterableTest {
+
+    @Test
+    public void iteratesGroups() {
+        assertThat(new GroupingIterable<>(2, asList(1, 2, 3)), iterates(asList(1, 2), asList(3)));
+    }
+
+    @Test
+    public void sizeIsNumberOfGroups() {
+        assertEquals(2, new GroupingIterable<>(2, asList(1, 2, 3)).sizeIfKnown());
+        assertEquals(2, new GroupingIterable<>(2, asList(1, 2, 3, 4)).sizeIfKnown());
+        assertEquals(0, new GroupingIterable<>(2, emptyList()).sizeIfKnown());
+        assertEquals(-1, new GroupingIterable<>(2, repeat(1)).sizeIfKnown());
+    }
+}
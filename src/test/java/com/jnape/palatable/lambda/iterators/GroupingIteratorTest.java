@@ -6,8 +6,12 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static testsupport.Mocking.mockIteratorToHaveValues;
@@ -48,4 +52,14 @@ public class GroupingIteratorTest {
         assertThat(groupingIterator.next(), iterates(1, 2));
         assertThat(groupingIterator.next(), iterates(3, 4));
     }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumed() {
+        GroupingIterator<Integer> it = new GroupingIterator<>(2, asList(1, 2, 3, 4, 5, 6, 7).iterator());
+        List<Iterable<Integer>> pushed = new ArrayList<>();
+        assertThat(it.forEachRemainingWhile(group -> pushed.add(group) && pushed.size() < 1), is(false));
+        assertThat(it.next(), iterates(3, 4));
+        assertThat(it.forEachRemainingWhile(pushed::add), is(true));
+        assertThat(pushed, is(asList(asList(1, 2), asList(5, 6), singletonList(7))));
+    }
 }
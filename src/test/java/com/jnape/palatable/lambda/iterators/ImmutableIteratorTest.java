@@ -3,6 +3,15 @@ package com.jnape.palatable.lambda.iterators;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static testsupport.Mocking.iteratorThatCanOnlyPush;
 import static testsupport.exceptions.OutOfScopeException.outOfScope;
 
 public class ImmutableIteratorTest {
@@ -28,4 +37,32 @@ public class ImmutableIteratorTest {
     public void doesNotSupportRemove() {
         immutableIterator.remove();
     }
+
+    @Test
+    public void forEachRemainingWhileStopsAtFirstDeclinedElement() {
+        List<Integer> pushed = new ArrayList<>();
+        Iterator<Integer> iterator = asList(1, 2, 3, 4).iterator();
+        assertFalse(ImmutableIterator.forEachRemainingWhile(iterator, x -> pushed.add(x) && x < 2));
+        assertEquals(asList(1, 2), pushed);
+        assertEquals((Integer) 3, iterator.next());
+    }
+
+    @Test
+    public void forEachRemainingWhileReportsExhaustion() {
+        assertTrue(ImmutableIterator.forEachRemainingWhile(asList(1, 2).iterator(), x -> true));
+    }
+
+    @Test
+    public void forEachRemainingWhilePushesThroughImmutableIterators() {
+        List<Integer> pushed = new ArrayList<>();
+        ImmutableIterator.forEachRemainingWhile(iteratorThatCanOnlyPush(1, 2, 3), pushed::add);
+        assertEquals(asList(1, 2, 3), pushed);
+    }
+
+    @Test
+    public void forEachRemainingPushesEveryElement() {
+        List<Integer> pushed = new ArrayList<>();
+        iteratorThatCanOnlyPush(1, 2, 3).forEachRemaining(pushed::add);
+        assertEquals(asList(1, 2, 3), pushed);
+    }
 }
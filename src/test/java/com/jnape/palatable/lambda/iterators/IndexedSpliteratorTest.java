@@ -0,0 +1,38 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class IndexedSpliteratorTest {
+
+    @Test
+    public void advancesThroughIndices() {
+        IndexedSpliterator<Long> spliterator = new IndexedSpliterator<>(i -> i * 10, 1, 4);
+        List<Long> results = new ArrayList<>();
+        assertTrue(spliterator.tryAdvance(results::add));
+        spliterator.forEachRemaining(results::add);
+        assertFalse(spliterator.tryAdvance(results::add));
+
+        assertEquals(asList(10L, 20L, 30L), results);
+    }
+
+    @Test
+    public void splitsInHalf() {
+        IndexedSpliterator<Long> spliterator = new IndexedSpliterator<>(i -> i, 0, 10);
+        Spliterator<Long> prefix = spliterator.trySplit();
+
+        assertEquals(5, prefix.getExactSizeIfKnown());
+        assertEquals(5, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertNull(new IndexedSpliterator<>(i -> i, 0, 1).trySplit());
+    }
+}
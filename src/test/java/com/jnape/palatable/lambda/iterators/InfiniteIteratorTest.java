@@ -3,6 +3,10 @@ package com.jnape.palatable.lambda.iterators;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static testsupport.exceptions.OutOfScopeException.outOfScope;
@@ -30,4 +34,20 @@ public class InfiniteIteratorTest {
     public void doesNotSupportRemove() {
         infiniteIterator.remove();
     }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumed() {
+        int[] counter = {0};
+        InfiniteIterator<Integer> naturals = new InfiniteIterator<Integer>() {
+            @Override
+            public Integer next() {
+                return counter[0]++;
+            }
+        };
+        List<Integer> pushed = new ArrayList<>();
+        assertThat(naturals.forEachRemainingWhile(x -> pushed.add(x) && x < 2), is(false));
+        assertThat(naturals.next(), is(3));
+        assertThat(naturals.forEachRemainingWhile(x -> pushed.add(x) && x < 5), is(false));
+        assertThat(pushed, is(asList(0, 1, 2, 4, 5)));
+    }
 }
@@ -0,0 +1,38 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static com.jnape.palatable.lambda.iterators.IntIterable.ints;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntFilteringIteratorTest {
+
+    @Test
+    public void hasNextIsIdempotent() {
+        IntFilteringIterator iterator = new IntFilteringIterator(x -> x > 1, ints(1, 2, 3).iterator());
+        assertTrue(iterator.hasNext());
+        assertTrue(iterator.hasNext());
+        assertEquals(2, iterator.nextInt());
+        assertEquals(3, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void throwsWhenNoMatchingElementsRemain() {
+        new IntFilteringIterator(x -> false, ints(1, 2).iterator()).nextInt();
+    }
+
+    @Test
+    public void forEachRemainingPushesBufferedThenMatchingElements() {
+        IntFilteringIterator iterator = new IntFilteringIterator(x -> x % 2 == 0, ints(1, 2, 3, 4, 5, 6).iterator());
+        assertTrue(iterator.hasNext());
+
+        int[] sum = {0};
+        iterator.forEachRemaining((int x) -> sum[0] += x);
+        assertEquals(12, sum[0]);
+    }
+}
@@ -0,0 +1,83 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.iterators.IntIterable.ints;
+import static com.jnape.palatable.lambda.iterators.IntIterable.range;
+import static java.util.Arrays.asList;
+import static java.util.stream.StreamSupport.intStream;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class IntIterableTest {
+
+    @Test
+    public void iteratesElementsUnboxed() {
+        PrimitiveIterator.OfInt iterator = ints(1, 2).iterator();
+        assertEquals(1, iterator.nextInt());
+        assertEquals(2, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void rangeIsExclusiveOfUpperBound() {
+        assertThat(range(0, 3), iterates(0, 1, 2));
+        assertThat(range(3, 0), iterates());
+    }
+
+    @Test
+    public void mapFilterTakeAndDropAreLazyAndComposable() {
+        IntIterable evensSquared = range(0, Integer.MAX_VALUE)
+                .filter(x -> x % 2 == 0)
+                .map(x -> x * x)
+                .drop(1)
+                .take(3);
+
+        assertThat(evensSquared, iterates(4, 16, 36));
+    }
+
+    @Test
+    public void foldLeft() {
+        assertEquals(4950, range(0, 100).foldLeft(0, (acc, x) -> acc + x));
+        assertEquals(-1, ints().foldLeft(-1, (acc, x) -> acc + x));
+    }
+
+    @Test
+    public void spliteratorSupportsIntStreams() {
+        assertArrayEquals(new int[]{1, 2, 3}, intStream(ints(1, 2, 3).spliterator(), false).toArray());
+        assertEquals(range(0, 10_000).map(x -> x * 2).foldLeft(0, (acc, x) -> acc + x),
+                     intStream(range(0, 10_000).map(x -> x * 2).spliterator(), true).sum());
+    }
+
+    @Test
+    public void worksWithBoxedBuiltins() {
+        assertThat(map(x -> x + 1, ints(1, 2)), iterates(2, 3));
+    }
+
+    @Test
+    public void mapToIntEntersFromObjectsAndMapToObjLeaves() {
+        IntIterable lengths = IntIterable.mapToInt(String::length, asList("a", "bb", "ccc"));
+
+        assertEquals(6, lengths.foldLeft(0, (acc, x) -> acc + x));
+        assertThat(lengths.map(x -> x * 2).mapToObj(Integer::toString), iterates("2", "4", "6"));
+    }
+
+    @Test
+    public void takingForEachRemainingStopsAtTheLimitWithoutDrainingTheSource() {
+        PrimitiveIterator.OfInt source = ints(1, 2, 3).iterator();
+        PrimitiveIterator.OfInt taken = new IntTakingIterator(2, source);
+        List<Integer> pushed = new ArrayList<>();
+        taken.forEachRemaining((int x) -> pushed.add(x));
+        assertEquals(asList(1, 2), pushed);
+        assertFalse(taken.hasNext());
+        assertEquals(3, source.nextInt());
+    }
+}
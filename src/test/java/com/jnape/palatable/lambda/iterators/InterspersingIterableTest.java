@@ -0,0 +1,19 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+
+public class InterspersingIterableTest {
+
+    @Test
+    public void sizeIsOneLessThanTwiceSourceSize() {
+        assertEquals(5, new InterspersingIterable<>(0, asList(1, 2, 3)).sizeIfKnown());
+        assertEquals(1, new InterspersingIterable<>(0, asList(1)).sizeIfKnown());
+        assertEquals(0, new InterspersingIterable<>(0, emptyList()).sizeIfKnown());
+        assertEquals(-1, new InterspersingIterable<>(0, repeat(1)).sizeIfKnown());
+    }
+}
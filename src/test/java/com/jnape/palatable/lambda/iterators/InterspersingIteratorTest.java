@@ -0,0 +1,49 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyIterator;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class InterspersingIteratorTest {
+
+    @Test
+    public void interspersesBetweenElements() {
+        InterspersingIterator<Integer> iterator = new InterspersingIterator<>(0, asList(1, 2).iterator());
+        assertEquals((Integer) 1, iterator.next());
+        assertTrue(iterator.hasNext());
+        assertEquals((Integer) 0, iterator.next());
+        assertEquals((Integer) 2, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void singleElementIsUntouched() {
+        InterspersingIterator<Integer> iterator = new InterspersingIterator<>(0, asList(1).iterator());
+        assertEquals((Integer) 1, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void throwsWhenExhausted() {
+        new InterspersingIterator<>(0, emptyIterator()).next();
+    }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumedAfterDecliningTheSeparator() {
+        InterspersingIterator<Integer> iterator = new InterspersingIterator<>(0, asList(1, 2, 3).iterator());
+        List<Integer> pushed = new ArrayList<>();
+        assertFalse(iterator.forEachRemainingWhile(x -> pushed.add(x) && x != 0));
+        assertEquals(2, (int) iterator.next());
+        assertTrue(iterator.forEachRemainingWhile(pushed::add));
+        assertEquals(asList(1, 0, 0, 3), pushed);
+        assertFalse(iterator.hasNext());
+    }
+}
@@ -0,0 +1,59 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static java.util.Arrays.asList;
+import static java.util.Spliterator.IMMUTABLE;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterator.SIZED;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.StreamSupport.stream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static testsupport.Mocking.iteratorThatCanOnlyPush;
+
+public class LambdaIterableTest {
+
+    @Test
+    public void spliteratorIsOrderedButNeitherImmutableNorSized() {
+        LambdaIterable<Integer> iterable = () -> asList(1, 2, 3).iterator();
+        Spliterator<Integer> spliterator = iterable.spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(ORDERED));
+        assertFalse(spliterator.hasCharacteristics(IMMUTABLE));
+        assertFalse(spliterator.hasCharacteristics(SIZED));
+    }
+
+    @Test
+    public void spliteratorBindsToAnIteratorWhenFirstTraversed() {
+        List<Integer> ints = new ArrayList<>(asList(1, 2, 3));
+        LambdaIterable<Integer> iterable = ints::iterator;
+        Spliterator<Integer> spliterator = iterable.spliterator();
+        ints.add(4);
+
+        assertEquals(asList(1, 2, 3, 4), stream(spliterator, false).collect(toList()));
+    }
+
+    @Test
+    public void spliteratorPreservesEncounterOrderInParallel() {
+        LambdaIterable<Integer> iterable = () -> new UnfoldingIterator<Integer, Integer>(
+                x -> x < 10_000 ? Optional.of(tuple(x, x + 1)) : Optional.empty(), 0);
+
+        assertEquals(stream(iterable.spliterator(), false).collect(toList()),
+                     stream(iterable.spliterator(), true).collect(toList()));
+    }
+
+    @Test
+    public void forEachPushesThroughForEachRemaining() {
+        List<Integer> pushed = new ArrayList<>();
+        ((LambdaIterable<Integer>) () -> iteratorThatCanOnlyPush(1, 2, 3)).forEach(pushed::add);
+        assertEquals(asList(1, 2, 3), pushed);
+    }
+}
@@ -0,0 +1,60 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static com.jnape.palatable.lambda.iterators.LongIterable.longs;
+import static com.jnape.palatable.lambda.iterators.LongIterable.range;
+import static java.util.Arrays.asList;
+import static java.util.stream.StreamSupport.longStream;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class LongIterableTest {
+
+    @Test
+    public void mapFilterTakeAndDrop() {
+        LongIterable longs = range(Integer.MAX_VALUE, Long.MAX_VALUE)
+                .filter(x -> x % 2 == 0)
+                .map(x -> x - Integer.MAX_VALUE)
+                .drop(1)
+                .take(2);
+
+        assertThat(longs, iterates(3L, 5L));
+    }
+
+    @Test
+    public void foldLeft() {
+        assertEquals(6L, longs(1, 2, 3).foldLeft(0, (acc, x) -> acc + x));
+    }
+
+    @Test
+    public void spliteratorSupportsLongStreams() {
+        assertArrayEquals(new long[]{1, 2, 3}, longStream(longs(1, 2, 3).spliterator(), false).toArray());
+    }
+
+    @Test
+    public void mapToLongEntersFromObjectsAndMapToObjLeaves() {
+        LongIterable lengths = LongIterable.mapToLong(String::length, asList("a", "bb", "ccc"));
+
+        assertEquals(6L, lengths.foldLeft(0, (acc, x) -> acc + x));
+        assertThat(lengths.map(x -> x * 2).mapToObj(Long::toString), iterates("2", "4", "6"));
+    }
+
+    @Test
+    public void takingForEachRemainingStopsAtTheLimitWithoutDrainingTheSource() {
+        PrimitiveIterator.OfLong source = longs(1L, 2L, 3L).iterator();
+        PrimitiveIterator.OfLong taken = new LongTakingIterator(2, source);
+        List<Long> pushed = new ArrayList<>();
+        taken.forEachRemaining((long x) -> pushed.add(x));
+        assertEquals(asList(1L, 2L), pushed);
+        assertFalse(taken.hasNext());
+        assertEquals(3L, source.nextLong());
+    }
+}
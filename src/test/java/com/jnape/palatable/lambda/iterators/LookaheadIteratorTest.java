@@ -0,0 +1,78 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LookaheadIteratorTest {
+
+    @Test
+    public void buffersAtMostOneElementPerHasNext() {
+        CountingLookahead iterator = new CountingLookahead(2);
+
+        assertTrue(iterator.hasNext());
+        assertTrue(iterator.hasNext());
+        assertEquals(1, iterator.calls);
+        assertEquals((Integer) 0, iterator.next());
+        assertEquals((Integer) 1, iterator.next());
+        assertEquals(2, iterator.calls);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void supportsNullElements() {
+        LookaheadIterator<Object> nulls = new LookaheadIterator<Object>() {
+            private boolean done = false;
+
+            @Override
+            protected boolean bufferNext() {
+                if (done)
+                    return false;
+                done = true;
+                return buffer(null);
+            }
+        };
+
+        assertTrue(nulls.hasNext());
+        assertNull(nulls.next());
+        assertFalse(nulls.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void nextThrowsWhenNothingCanBeBuffered() {
+        new CountingLookahead(0).next();
+    }
+
+    private static final class CountingLookahead extends LookaheadIterator<Integer> {
+        private final int limit;
+        private       int calls = 0;
+
+        private CountingLookahead(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        protected boolean bufferNext() {
+            return calls < limit && buffer(calls++);
+        }
+    }
+
+    @Test
+    public void forEachRemainingWhilePushesBufferedElementFirst() {
+        CountingLookahead iterator = new CountingLookahead(3);
+        assertTrue(iterator.hasNext());
+
+        List<Integer> pushed = new ArrayList<>();
+        assertTrue(iterator.forEachRemainingWhile(pushed::add));
+        assertEquals(asList(0, 1, 2), pushed);
+        assertFalse(iterator.hasNext());
+    }
+}
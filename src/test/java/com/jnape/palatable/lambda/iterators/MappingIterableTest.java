@@ -0,0 +1,68 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.StreamSupport.stream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class MappingIterableTest {
+
+    @Test
+    public void fusesNestedMappingsInOrder() {
+        MappingIterable<Integer, Integer> plusOne = new MappingIterable<>(x -> x + 1, asList(1, 2, 3));
+        MappingIterable<Integer, String> plusOneTimesTwo = new MappingIterable<>(x -> x * 2 + "", plusOne);
+
+        assertThat(plusOneTimesTwo, iterates("4", "6", "8"));
+    }
+
+    @Test
+    public void fusedStagesDoNotAffectUpstream() {
+        MappingIterable<Integer, Integer> plusOne = new MappingIterable<>(x -> x + 1, asList(1, 2, 3));
+        new MappingIterable<>(x -> x * 2, plusOne);
+
+        assertThat(plusOne, iterates(2, 3, 4));
+    }
+
+    @Test
+    public void reflectsChangesToSourceBetweenIterations() {
+        List<Integer> source = new ArrayList<>(asList(1, 2));
+        MappingIterable<Integer, Integer> mapped = new MappingIterable<>(x -> -x, new MappingIterable<>(x -> x, source));
+        source.add(3);
+
+        assertThat(mapped, iterates(-1, -2, -3));
+    }
+
+    @Test
+    public void deeplyNestedMappingsIterateWithoutGrowingTheStack() {
+        Iterable<Integer> mapped = asList(0);
+        for (int i = 0; i < 100_000; i++)
+            mapped = new MappingIterable<>(x -> x + 1, mapped);
+
+        assertThat(mapped, iterates(100_000));
+    }
+
+    @Test
+    public void sizeIsSourceSize() {
+        assertEquals(3, new MappingIterable<>(x -> x, new MappingIterable<>(x -> x, asList(1, 2, 3))).sizeIfKnown());
+        assertEquals(-1, new MappingIterable<>(x -> x, repeat(1)).sizeIfKnown());
+    }
+
+    @Test
+    public void spliteratorSplitsLikeSourceForParallelStreams() {
+        List<Integer> source = IntStream.range(0, 10_000).boxed().collect(toList());
+        MappingIterable<Integer, Integer> mapped = new MappingIterable<>(x -> x * 2, new MappingIterable<>(x -> x + 1, source));
+
+        assertEquals(stream(mapped.spliterator(), false).collect(toList()),
+                     stream(mapped.spliterator(), true).collect(toList()));
+        assertEquals(source.spliterator().trySplit().estimateSize(), mapped.spliterator().trySplit().estimateSize());
+    }
+}
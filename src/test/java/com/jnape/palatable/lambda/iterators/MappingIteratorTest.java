@@ -3,11 +3,13 @@ package com.jnape.palatable.lambda.iterators;
 import com.jnape.palatable.lambda.functions.Fn1;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static testsupport.Mocking.iteratorThatCanOnlyPush;
 
 public class MappingIteratorTest {
 
@@ -19,4 +21,21 @@ public class MappingIteratorTest {
 
         assertThat(mappingIterator.next(), is(3));
     }
+
+    @Test
+    public void forEachRemainingPushesMappedElementsFromSource() {
+        List<Integer> pushed = new ArrayList<>();
+        new MappingIterator<>(String::length, iteratorThatCanOnlyPush("a", "bb", "ccc")).forEachRemaining(pushed::add);
+        assertThat(pushed, is(asList(1, 2, 3)));
+    }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumed() {
+        MappingIterator<Integer, Integer> mappingIterator =
+                new MappingIterator<>(x -> x * 10, asList(1, 2, 3).iterator());
+        List<Integer> pushed = new ArrayList<>();
+        assertThat(mappingIterator.forEachRemainingWhile(x -> pushed.add(x) && x < 20), is(false));
+        assertThat(mappingIterator.next(), is(30));
+        assertThat(pushed, is(asList(10, 20)));
+    }
 }
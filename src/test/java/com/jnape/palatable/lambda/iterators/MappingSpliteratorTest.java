@@ -0,0 +1,52 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.TreeSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Spliterator.SIZED;
+import static java.util.Spliterator.SORTED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class MappingSpliteratorTest {
+
+    @Test
+    public void advancesWithMappedElements() {
+        MappingSpliterator<Integer, Integer> spliterator = new MappingSpliterator<>(x -> x * 10,
+                                                                                    asList(1, 2).spliterator());
+        List<Integer> results = new ArrayList<>();
+        assertTrue(spliterator.tryAdvance(results::add));
+        spliterator.forEachRemaining(results::add);
+
+        assertEquals(asList(10, 20), results);
+    }
+
+    @Test
+    public void splitsWhenSourceSplits() {
+        MappingSpliterator<Integer, Integer> spliterator = new MappingSpliterator<>(x -> x * 10,
+                                                                                    new ArrayList<>(asList(1, 2, 3, 4)).spliterator());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+
+        List<Integer> results = new ArrayList<>();
+        prefix.forEachRemaining(results::add);
+        spliterator.forEachRemaining(results::add);
+        assertEquals(asList(10, 20, 30, 40), results);
+    }
+
+    @Test
+    public void preservesSizeButNotOrdering() {
+        MappingSpliterator<Integer, Integer> spliterator = new MappingSpliterator<>(x -> -x,
+                                                                                    new TreeSet<>(asList(1, 2, 3)).spliterator());
+        assertTrue(spliterator.hasCharacteristics(SIZED));
+        assertFalse(spliterator.hasCharacteristics(SORTED));
+        assertEquals(3, spliterator.getExactSizeIfKnown());
+    }
+}
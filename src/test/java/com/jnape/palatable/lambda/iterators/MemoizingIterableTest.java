@@ -0,0 +1,119 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class MemoizingIterableTest {
+
+    @Test
+    public void iteratesSourceAtMostOnce() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        Iterable<Integer> source = new MappingIterable<>(counting(invocations), asList(1, 2, 3));
+        MemoizingIterable<Integer> memoized = new MemoizingIterable<>(Integer.MAX_VALUE, source);
+
+        assertThat(memoized, iterates(1, 2, 3));
+        assertThat(memoized, iterates(1, 2, 3));
+        assertEquals(3, invocations.get());
+    }
+
+    @Test
+    public void advancesSourceOnlyAsFarAsFurthestConsumer() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        MemoizingIterable<Integer> memoized =
+                new MemoizingIterable<>(Integer.MAX_VALUE, new MappingIterable<>(counting(invocations), repeat(1)));
+
+        Iterator<Integer> first = memoized.iterator();
+        Iterator<Integer> second = memoized.iterator();
+        first.next();
+        first.next();
+        second.next();
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void recomputesElementsPastCap() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        MemoizingIterable<Integer> memoized =
+                new MemoizingIterable<>(2, new MappingIterable<>(counting(invocations), asList(1, 2, 3, 4)));
+
+        assertThat(memoized, iterates(1, 2, 3, 4));
+        assertEquals(4, invocations.get());
+
+        assertThat(memoized, iterates(1, 2, 3, 4));
+        assertEquals(8, invocations.get());
+    }
+
+    @Test
+    public void sizeIsKnownOnceSourceIsExhausted() {
+        MemoizingIterable<Integer> memoized =
+                new MemoizingIterable<>(Integer.MAX_VALUE, () -> asList(1, 2, 3).iterator());
+        assertEquals(-1, memoized.sizeIfKnown());
+        memoized.forEach(x -> {});
+        assertEquals(3, memoized.sizeIfKnown());
+    }
+
+    @Test
+    public void sizeIsSourceSizeIfKnown() {
+        assertEquals(3, new MemoizingIterable<>(Integer.MAX_VALUE, asList(1, 2, 3)).sizeIfKnown());
+        assertTrue(new MemoizingIterable<>(2, new CyclingIterable<>(asList(1, 2))).isInfinite());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capMustNotBeNegative() {
+        new MemoizingIterable<>(-1, asList(1, 2, 3));
+    }
+
+    @Test
+    public void concurrentConsumersSeeEveryElementAndShareEvaluation() throws Exception {
+        int elements = 100_000;
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < elements; i++)
+            source.add(i);
+
+        AtomicInteger invocations = new AtomicInteger(0);
+        MemoizingIterable<Integer> memoized =
+                new MemoizingIterable<>(Integer.MAX_VALUE, new MappingIterable<>(counting(invocations), source));
+
+        Callable<List<Integer>> consume = () -> {
+            List<Integer> consumed = new ArrayList<>();
+            memoized.forEach(consumed::add);
+            return consumed;
+        };
+
+        ExecutorService executor = newFixedThreadPool(4);
+        try {
+            List<Future<List<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++)
+                futures.add(executor.submit(consume));
+            for (Future<List<Integer>> future : futures)
+                assertThat(future.get(), is(source));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(elements, invocations.get());
+    }
+
+    private static <A> Function<A, A> counting(AtomicInteger invocations) {
+        return a -> {
+            invocations.incrementAndGet();
+            return a;
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class ParallelMappingIteratorTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void resumesAfterTraversalStopsEarlyWithoutReapplyingFn() {
+        AtomicInteger applications = new AtomicInteger();
+        ParallelMappingIterator<Integer, Integer> iterator = new ParallelMappingIterator<>(2, x -> {
+            applications.incrementAndGet();
+            return x * 10;
+        }, asList(1, 2, 3, 4).iterator(), executor);
+
+        assertThat(iterator.forEachRemainingWhile(x -> x < 10), is(false));
+
+        List<Integer> rest = new ArrayList<>();
+        iterator.forEachRemaining(rest::add);
+        assertEquals(asList(20, 30, 40), rest);
+        assertThat(applications.get(), is(4));
+    }
+
+    @Test
+    public void closingCancelsOutstandingApplicationsAndEndsIteration() {
+        AtomicInteger applications = new AtomicInteger();
+        ParallelMappingIterator<Integer, Integer> iterator = new ParallelMappingIterator<>(
+                2, x -> applications.incrementAndGet(), asList(1, 2, 3, 4).iterator(), executor);
+
+        iterator.next();
+        iterator.close();
+
+        assertThat(iterator.hasNext(), is(false));
+        assertThat(applications.get() <= 3, is(true));
+    }
+}
@@ -7,11 +7,15 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static testsupport.Mocking.iteratorThatCanOnlyPush;
 import static testsupport.Mocking.mockIteratorToHaveValues;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -63,4 +67,22 @@ public class PredicatedDroppingIteratorTest {
         assertThat(predicatedDroppingIterator.next(), is(4));
         assertThat(predicatedDroppingIterator.next(), is(6));
     }
+
+    @Test
+    public void supportsNullElements() {
+        PredicatedDroppingIterator<Integer> iterator = new PredicatedDroppingIterator<>(
+                x -> x != null, asList(1, null, 2).iterator());
+
+        assertThat(iterator.next(), is((Integer) null));
+        assertThat(iterator.next(), is(2));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void forEachRemainingPushesEverythingFromFirstPredicateFailure() {
+        List<Integer> pushed = new ArrayList<>();
+        new PredicatedDroppingIterator<Integer>(x -> x < 3, iteratorThatCanOnlyPush(1, 2, 3, 1))
+                .forEachRemaining(pushed::add);
+        assertThat(pushed, is(asList(3, 1)));
+    }
 }
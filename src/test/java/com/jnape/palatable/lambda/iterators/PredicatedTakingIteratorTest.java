@@ -3,11 +3,15 @@ package com.jnape.palatable.lambda.iterators;
 import com.jnape.palatable.lambda.functions.specialized.Predicate;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static testsupport.Mocking.iteratorThatCanOnlyPush;
 
 public class PredicatedTakingIteratorTest {
 
@@ -59,4 +63,28 @@ public class PredicatedTakingIteratorTest {
         assertThat(predicatedTakingIterator.next(), is("yeah"));
         assertThat(predicatedTakingIterator.hasNext(), is(false));
     }
+
+    @Test
+    public void supportsNullElements() {
+        PredicatedTakingIterator<String> iterator = new PredicatedTakingIterator<>(s -> s == null || s.length() == 4,
+                                                                                   asList("four", null, "five", "six").iterator());
+
+        assertThat(iterator.next(), is("four"));
+        assertThat(iterator.next(), is((String) null));
+        assertThat(iterator.next(), is("five"));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void forEachRemainingStopsPullingFromSourceAtFirstPredicateFailure() {
+        Iterator<Integer> source = iteratorThatCanOnlyPush(1, 2, 3, 4);
+        List<Integer> pushed = new ArrayList<>();
+        PredicatedTakingIterator<Integer> takingIterator = new PredicatedTakingIterator<>(x -> x < 3, source);
+        assertThat(takingIterator.forEachRemainingWhile(pushed::add), is(true));
+        assertThat(pushed, is(asList(1, 2)));
+
+        List<Integer> rest = new ArrayList<>();
+        source.forEachRemaining(rest::add);
+        assertThat(rest, is(asList(4)));
+    }
 }
@@ -0,0 +1,18 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+
+public class PrependingIterableTest {
+
+    @Test
+    public void sizeIsTwiceSourceSize() {
+        assertEquals(6, new PrependingIterable<>(0, asList(1, 2, 3)).sizeIfKnown());
+        assertEquals(0, new PrependingIterable<>(0, emptyList()).sizeIfKnown());
+        assertEquals(-1, new PrependingIterable<>(0, repeat(1)).sizeIfKnown());
+    }
+}
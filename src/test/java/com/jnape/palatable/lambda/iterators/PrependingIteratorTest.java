@@ -0,0 +1,48 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyIterator;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PrependingIteratorTest {
+
+    @Test
+    public void prependsBeforeEachElement() {
+        PrependingIterator<Integer> iterator = new PrependingIterator<>(0, asList(1, 2).iterator());
+        assertEquals((Integer) 0, iterator.next());
+        assertEquals((Integer) 1, iterator.next());
+        assertTrue(iterator.hasNext());
+        assertEquals((Integer) 0, iterator.next());
+        assertEquals((Integer) 2, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void hasNoElementsIfSourceHasNone() {
+        assertFalse(new PrependingIterator<>(0, emptyIterator()).hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void throwsWhenExhausted() {
+        new PrependingIterator<>(0, emptyIterator()).next();
+    }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumedAfterDecliningThePrefix() {
+        PrependingIterator<Integer> iterator = new PrependingIterator<>(0, asList(1, 2).iterator());
+        List<Integer> pushed = new ArrayList<>();
+        assertFalse(iterator.forEachRemainingWhile(x -> pushed.add(x) && x != 0));
+        assertEquals(1, (int) iterator.next());
+        assertTrue(iterator.forEachRemainingWhile(pushed::add));
+        assertEquals(asList(0, 0, 2), pushed);
+        assertFalse(iterator.hasNext());
+    }
+}
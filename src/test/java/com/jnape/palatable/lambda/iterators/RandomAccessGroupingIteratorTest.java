@@ -0,0 +1,36 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static testsupport.Mocking.randomAccessListThatCannotBeIterated;
+
+public class RandomAccessGroupingIteratorTest {
+
+    @Test
+    public void producesSubListViews() {
+        RandomAccessGroupingIterator<Integer> iterator =
+                new RandomAccessGroupingIterator<>(2, randomAccessListThatCannotBeIterated(1, 2, 3));
+        assertEquals(asList(1, 2), iterator.next());
+        assertEquals(asList(3), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void doesNotOverflowForLargeGroupSizes() {
+        RandomAccessGroupingIterator<Integer> iterator =
+                new RandomAccessGroupingIterator<>(Integer.MAX_VALUE, asList(1, 2, 3));
+        assertEquals(asList(1, 2, 3), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void throwsWhenExhausted() {
+        new RandomAccessGroupingIterator<>(2, emptyList()).next();
+    }
+}
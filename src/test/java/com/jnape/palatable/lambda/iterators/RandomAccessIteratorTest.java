@@ -0,0 +1,53 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class RandomAccessIteratorTest {
+
+    @Test
+    public void iteratesFromIndexUpToLimit() {
+        RandomAccessIterator<Integer> iterator = new RandomAccessIterator<>(asList(1, 2, 3, 4), 1, 3);
+        assertThat(iterator.next(), is(2));
+        assertThat(iterator.next(), is(3));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void stopsAtEndOfListIfLimitIsLarger() {
+        RandomAccessIterator<Integer> iterator = new RandomAccessIterator<>(asList(1, 2), 1, Integer.MAX_VALUE);
+        assertThat(iterator.next(), is(2));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void observesElementsAddedBeforeReachingThem() {
+        List<Integer> list = new ArrayList<>(asList(1));
+        RandomAccessIterator<Integer> iterator = new RandomAccessIterator<>(list, 0, Integer.MAX_VALUE);
+        iterator.next();
+        list.add(2);
+        assertThat(iterator.next(), is(2));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void throwsWhenExhausted() {
+        new RandomAccessIterator<>(asList(1), 1, 2).next();
+    }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumed() {
+        RandomAccessIterator<Integer> iterator = new RandomAccessIterator<>(asList(1, 2, 3, 4), 1, 4);
+        List<Integer> pushed = new ArrayList<>();
+        assertThat(iterator.forEachRemainingWhile(x -> pushed.add(x) && x < 3), is(false));
+        assertThat(pushed, is(asList(2, 3)));
+        assertThat(iterator.next(), is(4));
+        assertThat(iterator.forEachRemainingWhile(x -> false), is(true));
+    }
+}
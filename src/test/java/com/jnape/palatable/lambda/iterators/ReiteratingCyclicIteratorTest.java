@@ -0,0 +1,50 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ReiteratingCyclicIteratorTest {
+
+    @Test
+    public void restartsIterationWhenSourceRunsOut() {
+        ReiteratingCyclicIterator<Integer> ints = new ReiteratingCyclicIterator<>(asList(1, 2));
+        assertThat(ints.next(), is(1));
+        assertThat(ints.next(), is(2));
+        assertTrue(ints.hasNext());
+        assertThat(ints.next(), is(1));
+    }
+
+    @Test
+    public void hasNoElementsIfSourceIsEmpty() {
+        assertFalse(new ReiteratingCyclicIterator<>(emptyList()).hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void cannotCycleNothing() {
+        new ReiteratingCyclicIterator<>(emptyList()).next();
+    }
+
+    @Test
+    public void forEachRemainingWhileRestartsSource() {
+        ReiteratingCyclicIterator<Integer> ints = new ReiteratingCyclicIterator<>(asList(1, 2));
+        List<Integer> pushed = new ArrayList<>();
+        assertFalse(ints.forEachRemainingWhile(x -> pushed.add(x) && pushed.size() < 5));
+        assertThat(pushed, is(asList(1, 2, 1, 2, 1)));
+        assertThat(ints.next(), is(2));
+    }
+
+    @Test
+    public void forEachRemainingWhileOverEmptySourceIsExhausted() {
+        assertTrue(new ReiteratingCyclicIterator<>(emptyList()).forEachRemainingWhile(x -> true));
+    }
+}
@@ -28,4 +28,11 @@ public class RepetitiousIteratorTest {
         assertThat(repetitiousIterator.next(), is(1));
         assertThat(repetitiousIterator.next(), is(1));
     }
+
+    @Test
+    public void forEachRemainingWhilePushesUntilDeclined() {
+        int[] pushed = {0};
+        assertThat(repetitiousIterator.forEachRemainingWhile(x -> ++pushed[0] < 5), is(false));
+        assertThat(pushed[0], is(5));
+    }
 }
@@ -0,0 +1,31 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyIterator;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class ReusingGroupingIteratorTest {
+
+    @Test
+    public void refillsTheSameBufferOnEachNext() {
+        ReusingGroupingIterator<Integer> iterator = new ReusingGroupingIterator<>(2, asList(1, 2, 3).iterator());
+        Iterable<Integer> first = iterator.next();
+        assertEquals(asList(1, 2), first);
+
+        Iterable<Integer> second = iterator.next();
+        assertSame(first, second);
+        assertEquals(asList(3), second);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void throwsWhenExhausted() {
+        new ReusingGroupingIterator<>(2, emptyIterator()).next();
+    }
+}
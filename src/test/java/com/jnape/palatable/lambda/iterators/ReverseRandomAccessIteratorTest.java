@@ -0,0 +1,36 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class ReverseRandomAccessIteratorTest {
+
+    @Test
+    public void iteratesFromLastIndexToFirst() {
+        ReverseRandomAccessIterator<Integer> iterator = new ReverseRandomAccessIterator<>(asList(1, 2, 3));
+        assertThat(iterator.next(), is(3));
+        assertThat(iterator.next(), is(2));
+        assertThat(iterator.next(), is(1));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void throwsWhenExhausted() {
+        new ReverseRandomAccessIterator<>(emptyList()).next();
+    }
+
+    @Test
+    public void forEachRemainingPushesFromLastIndexToFirst() {
+        List<Integer> pushed = new ArrayList<>();
+        new ReverseRandomAccessIterator<>(asList(1, 2, 3)).forEachRemaining(pushed::add);
+        assertThat(pushed, is(asList(3, 2, 1)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class ReversingIterableTest {
+
+    @Test
+    public void iteratesInReverse() {
+        assertThat(new ReversingIterable<>(asList(1, 2, 3)), iterates(3, 2, 1));
+    }
+
+    @Test
+    public void sizeIsSourceSize() {
+        assertEquals(3, new ReversingIterable<>(asList(1, 2, 3)).sizeIfKnown());
+        assertEquals(-1, new ReversingIterable<>(repeat(1)).sizeIfKnown());
+    }
+}
@@ -7,8 +7,11 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.never;
@@ -73,4 +76,14 @@ public class ReversingIteratorTest {
         reversingIterator.next();
         verifyNoMoreInteractions(iterator);
     }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumed() {
+        ReversingIterator<Integer> it = new ReversingIterator<>(asList(1, 2, 3, 4).iterator());
+        List<Integer> pushed = new ArrayList<>();
+        assertThat(it.forEachRemainingWhile(x -> pushed.add(x) && x > 3), is(false));
+        assertThat(it.next(), is(2));
+        assertThat(it.forEachRemainingWhile(pushed::add), is(true));
+        assertThat(pushed, is(asList(4, 3, 1)));
+    }
 }
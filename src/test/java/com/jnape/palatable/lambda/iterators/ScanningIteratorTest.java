@@ -2,6 +2,8 @@ package com.jnape.palatable.lambda.iterators;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.BiFunction;
 
@@ -9,6 +11,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyIterator;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static testsupport.Mocking.iteratorThatCanOnlyPush;
 
 public class ScanningIteratorTest {
 
@@ -41,4 +44,21 @@ public class ScanningIteratorTest {
         scanningIterator.next();
         scanningIterator.next();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void forEachRemainingPushesEveryAccumulation() {
+        List<Integer> pushed = new ArrayList<>();
+        new ScanningIterator<>(ADD, 0, iteratorThatCanOnlyPush(1, 2, 3)).forEachRemaining(pushed::add);
+        assertThat(pushed, is(asList(0, 1, 3, 6)));
+    }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumed() {
+        ScanningIterator<Integer, Integer> scanningIterator =
+                new ScanningIterator<>(ADD, 0, asList(1, 2, 3).iterator());
+        assertThat(scanningIterator.forEachRemainingWhile(x -> x < 1), is(false));
+        assertThat(scanningIterator.next(), is(3));
+        assertThat(scanningIterator.forEachRemainingWhile(x -> x < 6), is(false));
+        assertThat(scanningIterator.hasNext(), is(false));
+    }
+}
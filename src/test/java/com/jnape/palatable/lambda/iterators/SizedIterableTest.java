@@ -0,0 +1,59 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static java.util.Spliterator.IMMUTABLE;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterator.SIZED;
+import static java.util.Spliterator.SUBSIZED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SizedIterableTest {
+
+    @Test
+    public void sizeIfKnownForCollectionsAndSizedIterables() {
+        assertEquals(3, SizedIterable.sizeIfKnown(asList(1, 2, 3)));
+        assertEquals(2, SizedIterable.sizeIfKnown(sized(2)));
+        assertEquals(-1, SizedIterable.sizeIfKnown(repeat(1)));
+    }
+
+    @Test
+    public void spliteratorIsSizedIfSizeIsKnown() {
+        Spliterator<Integer> spliterator = sized(3).spliterator();
+
+        assertEquals(3, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(ORDERED | SIZED | SUBSIZED));
+        assertFalse(spliterator.hasCharacteristics(IMMUTABLE));
+    }
+
+    @Test
+    public void spliteratorIsUnsizedIfSizeIsUnknown() {
+        Spliterator<Integer> spliterator = sized(-1).spliterator();
+
+        assertEquals(-1, spliterator.getExactSizeIfKnown());
+        assertFalse(spliterator.hasCharacteristics(SIZED));
+        assertFalse(spliterator.hasCharacteristics(IMMUTABLE));
+        assertTrue(spliterator.hasCharacteristics(ORDERED));
+    }
+
+    private static SizedIterable<Integer> sized(long size) {
+        return new SizedIterable<Integer>() {
+            @Override
+            public long sizeIfKnown() {
+                return size;
+            }
+
+            @Override
+            public Iterator<Integer> iterator() {
+                return asList(1, 2, 3).subList(0, (int) Math.max(0, size)).iterator();
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SlidingIterableTest {
+
+    @Test
+    public void sizeIsNumberOfFullWindows() {
+        assertEquals(3, new SlidingIterable<>(2, 1, asList(1, 2, 3, 4)).sizeIfKnown());
+        assertEquals(2, new SlidingIterable<>(2, 2, asList(1, 2, 3, 4, 5)).sizeIfKnown());
+        assertEquals(0, new SlidingIterable<>(3, 1, asList(1, 2)).sizeIfKnown());
+        assertEquals(0, new SlidingIterable<>(1, 1, emptyList()).sizeIfKnown());
+        assertEquals(-1, new SlidingIterable<>(2, 1, repeat(1)).sizeIfKnown());
+    }
+
+    @Test
+    public void randomAccessForEachRemainingWhileCanBeResumed() {
+        RandomAccessSlidingIterator<Integer> it = new RandomAccessSlidingIterator<>(2, 2, asList(1, 2, 3, 4, 5, 6));
+        List<Iterable<Integer>> pushed = new ArrayList<>();
+        assertFalse(it.forEachRemainingWhile(window -> pushed.add(window) && pushed.size() < 1));
+        assertEquals(asList(3, 4), it.next());
+        assertTrue(it.forEachRemainingWhile(pushed::add));
+        assertEquals(asList(asList(1, 2), asList(5, 6)), pushed);
+    }
+}
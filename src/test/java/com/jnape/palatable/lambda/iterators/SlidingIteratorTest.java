@@ -0,0 +1,67 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SlidingIteratorTest {
+
+    @Test
+    public void currentWindowSurvivesLookahead() {
+        SlidingIterator<Integer> iterator = new SlidingIterator<>(3, 1, asList(1, 2, 3, 4, 5).iterator());
+        Iterable<Integer> window = iterator.next();
+
+        assertTrue(iterator.hasNext());
+        assertEquals(asList(1, 2, 3), window);
+        assertEquals(asList(2, 3, 4), iterator.next());
+    }
+
+    @Test
+    public void windowsAreRandomAccessViews() {
+        List<Integer> window = (List<Integer>) new SlidingIterator<>(2, 1, asList(1, 2).iterator()).next();
+        assertEquals((Integer) 2, window.get(1));
+        assertEquals(2, window.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void windowsCannotBeModified() {
+        ((List<Integer>) new SlidingIterator<>(2, 1, asList(1, 2).iterator()).next()).set(0, 0);
+    }
+
+    @Test
+    public void discardsTrailingPartialWindow() {
+        SlidingIterator<Integer> iterator = new SlidingIterator<>(2, 2, asList(1, 2, 3).iterator());
+        iterator.next();
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void throwsWhenExhausted() {
+        new SlidingIterator<>(2, 1, asList(1).iterator()).next();
+    }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumed() {
+        SlidingIterator<Integer> it = new SlidingIterator<>(3, 2, asList(1, 2, 3, 4, 5, 6, 7, 8).iterator());
+        List<Iterable<Integer>> pushed = new ArrayList<>();
+        assertFalse(it.forEachRemainingWhile(window -> pushed.add(new ArrayList<>((List<Integer>) window)) && pushed.size() < 1));
+        assertEquals(asList(3, 4, 5), it.next());
+        assertTrue(it.forEachRemainingWhile(window -> pushed.add(new ArrayList<>((List<Integer>) window))));
+        assertEquals(asList(asList(1, 2, 3), asList(5, 6, 7)), pushed);
+    }
+
+    @Test
+    public void forEachRemainingWhileSkipsElementsBetweenWindows() {
+        SlidingIterator<Integer> it = new SlidingIterator<>(2, 3, asList(1, 2, 3, 4, 5, 6, 7, 8).iterator());
+        List<Iterable<Integer>> pushed = new ArrayList<>();
+        assertTrue(it.forEachRemainingWhile(window -> pushed.add(new ArrayList<>((List<Integer>) window))));
+        assertEquals(asList(asList(1, 2), asList(4, 5), asList(7, 8)), pushed);
+    }
+}
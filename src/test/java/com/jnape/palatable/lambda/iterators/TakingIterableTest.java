@@ -0,0 +1,39 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Cycle.cycle;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class TakingIterableTest {
+
+    @Test
+    public void iteratesUpToN() {
+        assertThat(new TakingIterable<>(2, asList(1, 2, 3)), iterates(1, 2));
+    }
+
+    @Test
+    public void sizeIsSmallerOfNAndSourceSize() {
+        assertEquals(2, new TakingIterable<>(2, asList(1, 2, 3)).sizeIfKnown());
+        assertEquals(3, new TakingIterable<>(5, asList(1, 2, 3)).sizeIfKnown());
+    }
+
+    @Test
+    public void sizeIsUnknownIfSourceSizeIsUnknown() {
+        assertEquals(-1, new TakingIterable<>(5, repeat(1)).sizeIfKnown());
+    }
+
+    @Test
+    public void takingNothingIsAlwaysEmpty() {
+        assertEquals(0, new TakingIterable<>(0, repeat(1)).sizeIfKnown());
+    }
+
+    @Test
+    public void sizeIsNIfSourceIsKnownToBeInfinite() {
+        assertEquals(5, new TakingIterable<>(5, cycle(1, 2)).sizeIfKnown());
+    }
+}
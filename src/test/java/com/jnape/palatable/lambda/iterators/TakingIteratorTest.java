@@ -2,12 +2,15 @@ package com.jnape.palatable.lambda.iterators;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static testsupport.Mocking.iteratorThatCanOnlyPush;
 
 public class TakingIteratorTest {
 
@@ -43,4 +46,70 @@ public class TakingIteratorTest {
         TakingIterator<Object> takingIterator = new TakingIterator<>(3, emptyList().iterator());
         assertThat(takingIterator.hasNext(), is(false));
     }
+
+    @Test
+    public void forEachRemainingPushesOnlyNElementsFromSource() {
+        Iterator<Integer> source = iteratorThatCanOnlyPush(1, 2, 3, 4);
+        List<Integer> pushed = new ArrayList<>();
+        new TakingIterator<>(2, source).forEachRemaining(pushed::add);
+        assertThat(pushed, is(asList(1, 2)));
+
+        List<Integer> rest = new ArrayList<>();
+        source.forEachRemaining(rest::add);
+        assertThat(rest, is(asList(3, 4)));
+    }
+
+    @Test
+    public void forEachRemainingWhileDistinguishesDeclinedFromTakenEnough() {
+        assertThat(new TakingIterator<>(2, asList(1, 2, 3).iterator()).forEachRemainingWhile(x -> true), is(true));
+        assertThat(new TakingIterator<>(2, asList(1, 2, 3).iterator()).forEachRemainingWhile(x -> x < 2), is(false));
+    }
+
+    @Test
+    public void closesCloseableIteratorOnceTakenEnoughElements() {
+        CloseableIterator<Integer> source = new CloseableIterator<>(asList(1, 2, 3).iterator());
+        TakingIterator<Integer> takingIterator = new TakingIterator<>(2, source);
+        takingIterator.next();
+        assertThat(source.closed, is(false));
+        takingIterator.next();
+        assertThat(source.closed, is(true));
+    }
+
+    @Test
+    public void closesCloseableIteratorOnceTakenEnoughElementsByPushing() {
+        CloseableIterator<Integer> source = new CloseableIterator<>(asList(1, 2, 3).iterator());
+        new TakingIterator<>(2, source).forEachRemaining(x -> {});
+        assertThat(source.closed, is(true));
+    }
+
+    @Test
+    public void doesNotCloseCloseableIteratorThatRunsOutFirst() {
+        CloseableIterator<Integer> source = new CloseableIterator<>(asList(1, 2).iterator());
+        new TakingIterator<>(3, source).forEachRemaining(x -> {});
+        assertThat(source.closed, is(false));
+    }
+
+    private static final class CloseableIterator<A> extends ImmutableIterator<A> implements AutoCloseable {
+        private final Iterator<A> iterator;
+        private       boolean     closed = false;
+
+        private CloseableIterator(Iterator<A> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public A next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
 }
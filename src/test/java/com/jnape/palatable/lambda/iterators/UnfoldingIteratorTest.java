@@ -4,9 +4,12 @@ import com.jnape.palatable.lambda.adt.hlist.Tuple2;
 import com.jnape.palatable.lambda.functions.Fn1;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 
@@ -25,4 +28,15 @@ public class UnfoldingIteratorTest {
         UnfoldingIterator<String, Integer> unfoldingIterator = new UnfoldingIterator<>(x -> Optional.<Tuple2<String, Integer>>empty(), 0);
         assertThat(unfoldingIterator.hasNext(), is(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void forEachRemainingWhileCanBeResumed() {
+        UnfoldingIterator<String, Integer> it = new UnfoldingIterator<>(
+                x -> x < 4 ? STRINGIFY.apply(x) : Optional.empty(), 0);
+        List<String> pushed = new ArrayList<>();
+        assertThat(it.forEachRemainingWhile(x -> pushed.add(x) && !x.equals("1")), is(false));
+        assertThat(it.next(), is("2"));
+        assertThat(it.forEachRemainingWhile(pushed::add), is(true));
+        assertThat(pushed, is(asList("0", "1", "3")));
+    }
+}
@@ -0,0 +1,49 @@
+package com.jnape.palatable.lambda.iterators;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Cycle.cycle;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class ZippingIterableTest {
+
+    @Test
+    public void zipsElementsPairwise() {
+        assertThat(new ZippingIterable<>((x, y) -> x + y, asList(1, 2, 3), asList(10, 20)), iterates(11, 22));
+    }
+
+    @Test
+    public void sizeIsSmallerOfBothSizes() {
+        assertEquals(2, new ZippingIterable<>((x, y) -> x, asList(1, 2, 3), asList(1, 2)).sizeIfKnown());
+    }
+
+    @Test
+    public void sizeIsUnknownIfEitherSizeIsUnknown() {
+        assertEquals(-1, new ZippingIterable<>((x, y) -> x, asList(1, 2, 3), repeat(1)).sizeIfKnown());
+        assertEquals(-1, new ZippingIterable<>((x, y) -> x, repeat(1), asList(1, 2, 3)).sizeIfKnown());
+    }
+
+    @Test
+    public void sizeIsZeroIfEitherIsKnownToBeEmpty() {
+        assertEquals(0, new ZippingIterable<>((x, y) -> x, emptyList(), repeat(1)).sizeIfKnown());
+    }
+
+    @Test
+    public void sizeIsOtherSizeIfOneIsKnownToBeInfinite() {
+        assertEquals(3, new ZippingIterable<>((x, y) -> x, asList(1, 2, 3), cycle(1, 2)).sizeIfKnown());
+        assertEquals(3, new ZippingIterable<>((x, y) -> x, cycle(1, 2), asList(1, 2, 3)).sizeIfKnown());
+    }
+
+    @Test
+    public void isInfiniteIfBothAreKnownToBeInfinite() {
+        assertTrue(new ZippingIterable<>((x, y) -> x, cycle(1), cycle(2)).isInfinite());
+        assertFalse(new ZippingIterable<>((x, y) -> x, cycle(1), asList(1, 2)).isInfinite());
+    }
+}
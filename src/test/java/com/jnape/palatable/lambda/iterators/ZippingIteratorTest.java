@@ -6,9 +6,12 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.BiFunction;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.verify;
@@ -61,4 +64,16 @@ public class ZippingIteratorTest {
 
         verify(zipper).apply(1, 2);
     }
+
+    @Test
+    public void forEachRemainingWhileCanBeResumed() {
+        ZippingIterator<Integer, Integer, Integer> it = new ZippingIterator<>(
+                (a, b) -> a * b, asList(1, 2, 3, 4).iterator(), asList(10, 20, 30).iterator());
+        List<Integer> pushed = new ArrayList<>();
+        assertThat(it.forEachRemainingWhile(x -> pushed.add(x) && x < 40), is(false));
+        assertThat(it.next(), is(90));
+        assertThat(it.forEachRemainingWhile(pushed::add), is(true));
+        assertThat(pushed, is(asList(10, 40)));
+        assertThat(it.hasNext(), is(false));
+    }
 }
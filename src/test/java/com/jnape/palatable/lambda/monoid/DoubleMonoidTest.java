@@ -0,0 +1,81 @@
+package com.jnape.palatable.lambda.monoid;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.iterators.DoubleIterable.doubles;
+import static com.jnape.palatable.lambda.monoid.builtin.DoubleMax.doubleMax;
+import static com.jnape.palatable.lambda.monoid.builtin.DoubleMin.doubleMin;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+
+public class DoubleMonoidTest {
+
+    private static final DoubleMonoid SUM = new DoubleMonoid() {
+        @Override
+        public double identityAsDouble() {
+            return 0d;
+        }
+
+        @Override
+        public double applyAsDouble(double x, double y) {
+            return x + y;
+        }
+    };
+
+    @Test
+    public void boxedMethodsDelegateToPrimitiveMethods() {
+        assertEquals((Double) 0d, SUM.identity());
+        assertEquals((Double) 3d, SUM.apply(1d, 2d));
+        assertEquals((Double) 3d, SUM.apply(1d).apply(2d));
+    }
+
+    @Test
+    public void reduceLeftAndFoldMap() {
+        assertEquals((Double) 6d, SUM.reduceLeft(asList(1d, 2d, 3d)));
+        assertEquals((Double) 0d, SUM.reduceLeft(emptyList()));
+        assertEquals((Double) 6d, SUM.foldMap(s -> (double) s.length(), asList("a", "bb", "ccc")));
+        assertEquals((Double) 0d, SUM.foldMap((String s) -> (double) s.length(), emptyList()));
+    }
+
+    @Test
+    public void primitiveReductions() {
+        assertEquals(6d, SUM.reduceLeftAsDouble(doubles(1d, 2d, 3d)), 0d);
+        assertEquals(0d, SUM.reduceLeftAsDouble(doubles()), 0d);
+        assertEquals(6d, SUM.foldMapAsDouble(String::length, asList("a", "bb", "ccc")), 0d);
+        assertEquals(0d, SUM.foldMapAsDouble(String::length, emptyList()), 0d);
+    }
+
+    @Test
+    public void minAndMaxPropagateNaNThroughEveryReduction() {
+        for (DoubleMonoid monoid : asList(doubleMin(), doubleMax())) {
+            assertEquals((Double) Double.NaN, monoid.reduceLeft(asList(1d, Double.NaN, 2d)));
+            assertEquals((Double) Double.NaN, monoid.foldMap(Double::parseDouble, asList("1", "NaN", "2")));
+            assertEquals((Double) Double.NaN, (Double) monoid.reduceLeftAsDouble(doubles(1d, Double.NaN, 2d)));
+            assertEquals((Double) Double.NaN,
+                         (Double) monoid.foldMapAsDouble(Double::parseDouble, asList("1", "NaN", "2")));
+        }
+    }
+
+    @Test
+    public void minPrefersNegativeZero() {
+        assertEquals((Double) (-0d), doubleMin().reduceLeft(asList(0d, -0d)));
+        assertEquals((Double) (-0d), doubleMin().foldMap(x -> -x, asList(-0d, 0d)));
+        assertEquals((Double) (-0d), (Double) doubleMin().reduceLeftAsDouble(doubles(0d, -0d)));
+        assertEquals((Double) (-0d), (Double) doubleMin().foldMapAsDouble(x -> x, asList(-0d, 0d)));
+    }
+
+    @Test
+    public void maxPrefersPositiveZero() {
+        assertEquals((Double) 0d, doubleMax().reduceLeft(asList(-0d, 0d)));
+        assertEquals((Double) 0d, doubleMax().foldMap(x -> -x, asList(0d, -0d)));
+        assertEquals((Double) 0d, (Double) doubleMax().reduceLeftAsDouble(doubles(-0d, 0d)));
+        assertEquals((Double) 0d, (Double) doubleMax().foldMapAsDouble(x -> x, asList(0d, -0d)));
+    }
+
+    @Test
+    public void usableAsBoxedMonoid() {
+        Monoid<Double> monoid = SUM;
+        assertEquals((Double) 6d, monoid.parallelReduce(asList(1d, 2d, 3d)));
+    }
+}
@@ -0,0 +1,81 @@
+package com.jnape.palatable.lambda.monoid;
+
+import com.jnape.palatable.lambda.iterators.IntIterable;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.iterators.IntIterable.ints;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IntMonoidTest {
+
+    private static final IntMonoid SUM = new IntMonoid() {
+        @Override
+        public int identityAsInt() {
+            return 0;
+        }
+
+        @Override
+        public int applyAsInt(int x, int y) {
+            return x + y;
+        }
+    };
+
+    @Test
+    public void boxedMethodsDelegateToPrimitiveMethods() {
+        assertEquals((Integer) 0, SUM.identity());
+        assertEquals((Integer) 3, SUM.apply(1, 2));
+        assertEquals((Integer) 3, SUM.apply(1).apply(2));
+    }
+
+    @Test
+    public void reduceLeftAndFoldMap() {
+        assertEquals((Integer) 6, SUM.reduceLeft(asList(1, 2, 3)));
+        assertEquals((Integer) 0, SUM.reduceLeft(emptyList()));
+        assertEquals((Integer) 6, SUM.foldMap(String::length, asList("a", "bb", "ccc")));
+    }
+
+    @Test
+    public void primitiveReductions() {
+        assertEquals(6, SUM.reduceLeftAsInt(ints(1, 2, 3)));
+        assertEquals(6, SUM.foldMapAsInt(String::length, asList("a", "bb", "ccc")));
+    }
+
+    @Test
+    public void usableAsBoxedMonoid() {
+        Monoid<Integer> monoid = SUM;
+        assertEquals((Integer) 6, monoid.parallelReduce(asList(1, 2, 3)));
+    }
+
+    @Test
+    public void reductionsStopOnceAbsorbing() {
+        IntMonoid product = new IntMonoid() {
+            @Override
+            public int identityAsInt() {
+                return 1;
+            }
+
+            @Override
+            public boolean isAbsorbingAsInt(int a) {
+                return a == 0;
+            }
+
+            @Override
+            public int applyAsInt(int x, int y) {
+                return x * y;
+            }
+        };
+        IntIterable countdown = () -> IntStream.iterate(3, x -> x - 1).iterator();
+
+        assertTrue(product.isAbsorbing(0));
+        assertEquals(0, product.reduceLeftAsInt(countdown));
+        assertEquals(0, product.foldMapAsInt(x -> x, countdown));
+        assertEquals((Integer) 0, product.reduceLeft(countdown));
+        assertEquals((Integer) 0, product.foldMap(x -> x - 3, repeat(3)));
+    }
+}
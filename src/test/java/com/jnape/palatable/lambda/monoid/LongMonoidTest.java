@@ -0,0 +1,91 @@
+package com.jnape.palatable.lambda.monoid;
+
+import com.jnape.palatable.lambda.iterators.LongIterable;
+import org.junit.Test;
+
+import java.util.stream.LongStream;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.iterators.LongIterable.longs;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LongMonoidTest {
+
+    private static final LongMonoid SUM = new LongMonoid() {
+        @Override
+        public long identityAsLong() {
+            return 0L;
+        }
+
+        @Override
+        public long applyAsLong(long x, long y) {
+            return x + y;
+        }
+    };
+
+    @Test
+    public void boxedMethodsDelegateToPrimitiveMethods() {
+        assertEquals((Long) 0L, SUM.identity());
+        assertEquals((Long) 3L, SUM.apply(1L, 2L));
+        assertEquals((Long) 3L, SUM.apply(1L).apply(2L));
+    }
+
+    @Test
+    public void reduceLeftAndFoldMap() {
+        assertEquals((Long) 6L, SUM.reduceLeft(asList(1L, 2L, 3L)));
+        assertEquals((Long) 0L, SUM.reduceLeft(emptyList()));
+        assertEquals((Long) 6L, SUM.foldMap(s -> (long) s.length(), asList("a", "bb", "ccc")));
+        assertEquals((Long) 0L, SUM.foldMap((String s) -> (long) s.length(), emptyList()));
+    }
+
+    @Test
+    public void primitiveReductions() {
+        assertEquals(6L, SUM.reduceLeftAsLong(longs(1L, 2L, 3L)));
+        assertEquals(0L, SUM.reduceLeftAsLong(longs()));
+        assertEquals(6L, SUM.foldMapAsLong(String::length, asList("a", "bb", "ccc")));
+        assertEquals(0L, SUM.foldMapAsLong(String::length, emptyList()));
+    }
+
+    @Test
+    public void primitiveReductionsDoNotOverflowIntoInt() {
+        long big = Integer.MAX_VALUE + 1L;
+        assertEquals(2 * big, SUM.reduceLeftAsLong(longs(big, big)));
+        assertEquals(2 * big, SUM.foldMapAsLong(x -> big, asList("a", "b")));
+    }
+
+    @Test
+    public void reductionsStopOnceAbsorbing() {
+        LongMonoid product = new LongMonoid() {
+            @Override
+            public long identityAsLong() {
+                return 1L;
+            }
+
+            @Override
+            public boolean isAbsorbingAsLong(long a) {
+                return a == 0L;
+            }
+
+            @Override
+            public long applyAsLong(long x, long y) {
+                return x * y;
+            }
+        };
+        LongIterable countdown = () -> LongStream.iterate(3L, x -> x - 1L).iterator();
+
+        assertTrue(product.isAbsorbing(0L));
+        assertEquals(0L, product.reduceLeftAsLong(countdown));
+        assertEquals(0L, product.foldMapAsLong(x -> x, countdown));
+        assertEquals((Long) 0L, product.reduceLeft(countdown));
+        assertEquals((Long) 0L, product.foldMap(x -> x - 3L, repeat(3L)));
+    }
+
+    @Test
+    public void usableAsBoxedMonoid() {
+        Monoid<Long> monoid = SUM;
+        assertEquals((Long) 6L, monoid.parallelReduce(asList(1L, 2L, 3L)));
+    }
+}
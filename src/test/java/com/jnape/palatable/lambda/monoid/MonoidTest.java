@@ -1,17 +1,37 @@
 package com.jnape.palatable.lambda.monoid;
 
 import com.jnape.palatable.lambda.monoid.Monoid;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
 import static com.jnape.palatable.lambda.monoid.Monoid.monoid;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 
 public class MonoidTest {
 
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
     @Test
     public void reduceLeft() {
         Monoid<Integer> sum = monoid((x, y) -> x + y, 0);
@@ -30,4 +50,52 @@ public class MonoidTest {
         List<Optional<Integer>> optionalInts = asList(Optional.of(1), Optional.of(2), Optional.empty(), Optional.of(3), Optional.empty());
         assertEquals((Integer) 6, sum.foldMap(optX -> optX.orElse(0), optionalInts));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parallelReduce() {
+        Monoid<Integer> sum = monoid((x, y) -> x + y, 0);
+        assertEquals((Integer) 6, sum.parallelReduce(asList(1, 2, 3)));
+        assertEquals((Integer) 0, sum.parallelReduce(emptyList()));
+    }
+
+    @Test
+    public void parallelFoldMap() {
+        Monoid<Integer> sum = monoid((x, y) -> x + y, 0);
+        List<Optional<Integer>> optionalInts = asList(Optional.of(1), Optional.of(2), Optional.empty(), Optional.of(3), Optional.empty());
+        assertEquals((Integer) 6, sum.parallelFoldMap(optX -> optX.orElse(0), optionalInts));
+    }
+
+    @Test
+    public void parallelFoldMapPreservesOrderForNonCommutativeMonoids() {
+        Monoid<String> concat = monoid((x, y) -> x + y, "");
+        List<Integer> ints = IntStream.range(0, 10_000).boxed().collect(toList());
+
+        assertEquals(concat.foldMap(Object::toString, ints),
+                     concat.parallelFoldMap(Object::toString, ints, pool, 7));
+    }
+
+    @Test
+    public void parallelFoldMapFoldsASingleChunkSequentially() {
+        Monoid<String> concat = monoid((x, y) -> x + y, "");
+        assertEquals("123", concat.parallelFoldMap(Object::toString, asList(1, 2, 3), pool, 3));
+    }
+
+    @Test
+    public void parallelFoldMapCombinesSingleElementChunksInEncounterOrder() {
+        Monoid<String> concat = monoid((x, y) -> x + y, "");
+        List<Integer> ints = IntStream.range(0, 1000).boxed().collect(toList());
+
+        assertEquals(concat.foldMap(Object::toString, ints), concat.parallelFoldMap(Object::toString, ints, pool, 1));
+    }
+
+    @Test
+    public void parallelFoldMapCopiesNonRandomAccessIterables() {
+        Monoid<Integer> sum = monoid((x, y) -> x + y, 0);
+        assertEquals((Integer) 100, sum.parallelFoldMap(x -> x, take(100, repeat(1)), pool, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelFoldMapRejectsNegativeGrain() {
+        monoid((Integer x, Integer y) -> x + y, 0).parallelFoldMap(x -> x, asList(1, 2, 3), pool, -1);
+    }
+}
@@ -2,6 +2,8 @@ package com.jnape.palatable.lambda.monoid.builtin;
 
 import org.junit.Test;
 
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Cycle.cycle;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
 import static com.jnape.palatable.lambda.monoid.builtin.And.and;
 import static org.junit.Assert.assertEquals;
 
@@ -20,4 +22,10 @@ public class AndTest {
         assertEquals(false, and.apply(true, false));
         assertEquals(false, and.apply(false, false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void reductionStopsAtFirstFalse() {
+        assertEquals(false, and().reduceLeft(cycle(true, false)));
+        assertEquals(false, and().foldMap(x -> x < 3, iterate(x -> x + 1, 0)));
+    }
+}
@@ -0,0 +1,40 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
+import static com.jnape.palatable.lambda.iterators.DoubleIterable.doubles;
+import static com.jnape.palatable.lambda.monoid.builtin.DoubleMax.doubleMax;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DoubleMaxTest {
+
+    @Test
+    public void identity() {
+        assertEquals(Double.NEGATIVE_INFINITY, doubleMax().identityAsDouble(), 0);
+    }
+
+    @Test
+    public void monoid() {
+        assertEquals(2.0, doubleMax(1.0, 2.0), 0);
+        assertEquals(2.0, doubleMax(2.0, 1.0), 0);
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(3.0, doubleMax().foldMapAsDouble(String::length, asList("a", "bb", "ccc")), 0);
+        assertEquals(3.0, doubleMax().reduceLeftAsDouble(doubles(1.0, 2.0, 3.0)), 0);
+        assertEquals((Double) 3.0, doubleMax().reduceLeft(asList(1.0, 2.0, 3.0)));
+    }
+
+    @Test
+    public void stopsAtAbsorbingElement() {
+        assertTrue(doubleMax().isAbsorbing(Double.NaN));
+        assertFalse(doubleMax().isAbsorbing(Double.POSITIVE_INFINITY));
+        assertEquals((Double) Double.NaN, doubleMax().reduceLeft(cons(1d, repeat(Double.NaN))));
+    }
+}
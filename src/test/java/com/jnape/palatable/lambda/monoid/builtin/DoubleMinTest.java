@@ -0,0 +1,40 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
+import static com.jnape.palatable.lambda.iterators.DoubleIterable.doubles;
+import static com.jnape.palatable.lambda.monoid.builtin.DoubleMin.doubleMin;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DoubleMinTest {
+
+    @Test
+    public void identity() {
+        assertEquals(Double.POSITIVE_INFINITY, doubleMin().identityAsDouble(), 0);
+    }
+
+    @Test
+    public void monoid() {
+        assertEquals(1.0, doubleMin(1.0, 2.0), 0);
+        assertEquals(1.0, doubleMin(2.0, 1.0), 0);
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(1.0, doubleMin().foldMapAsDouble(String::length, asList("a", "bb", "ccc")), 0);
+        assertEquals(1.0, doubleMin().reduceLeftAsDouble(doubles(1.0, 2.0, 3.0)), 0);
+        assertEquals((Double) 1.0, doubleMin().reduceLeft(asList(1.0, 2.0, 3.0)));
+    }
+
+    @Test
+    public void stopsAtAbsorbingElement() {
+        assertTrue(doubleMin().isAbsorbing(Double.NaN));
+        assertFalse(doubleMin().isAbsorbing(Double.NEGATIVE_INFINITY));
+        assertEquals((Double) Double.NaN, doubleMin().reduceLeft(cons(1d, repeat(Double.NaN))));
+    }
+}
@@ -0,0 +1,28 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.iterators.DoubleIterable.doubles;
+import static com.jnape.palatable.lambda.monoid.builtin.DoubleProduct.doubleProduct;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class DoubleProductTest {
+
+    @Test
+    public void identity() {
+        assertEquals(1.0, doubleProduct().identityAsDouble(), 0);
+    }
+
+    @Test
+    public void monoid() {
+        assertEquals(6.0, doubleProduct(2.0, 3.0), 0);
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(6.0, doubleProduct().foldMapAsDouble(String::length, asList("a", "bb", "ccc")), 0);
+        assertEquals(6.0, doubleProduct().reduceLeftAsDouble(doubles(1.0, 2.0, 3.0)), 0);
+        assertEquals((Double) 6.0, doubleProduct().reduceLeft(asList(1.0, 2.0, 3.0)));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.Test;
 
 import java.util.Optional;
 
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
 import static com.jnape.palatable.lambda.monoid.builtin.First.first;
 import static org.junit.Assert.assertEquals;
 
@@ -22,4 +23,10 @@ public class FirstTest {
         assertEquals(Optional.of(2), first.apply(Optional.empty(), Optional.of(2)));
         assertEquals(Optional.empty(), first.apply(Optional.empty(), Optional.empty()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void reductionStopsAtFirstPresentValue() {
+        assertEquals(Optional.of(3), First.<Integer>first().foldMap(x -> x > 2 ? Optional.of(x) : Optional.empty(),
+                                                                   iterate(x -> x + 1, 0)));
+    }
+}
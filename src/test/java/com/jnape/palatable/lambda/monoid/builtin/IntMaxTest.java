@@ -0,0 +1,40 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
+import static com.jnape.palatable.lambda.iterators.IntIterable.ints;
+import static com.jnape.palatable.lambda.monoid.builtin.IntMax.intMax;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntMaxTest {
+
+    @Test
+    public void identity() {
+        assertEquals(Integer.MIN_VALUE, intMax().identityAsInt());
+    }
+
+    @Test
+    public void monoid() {
+        assertEquals(2, intMax(1, 2));
+        assertEquals(2, intMax(2, 1));
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(3, intMax().foldMapAsInt(String::length, asList("a", "bb", "ccc")));
+        assertEquals(3, intMax().reduceLeftAsInt(ints(1, 2, 3)));
+        assertEquals((Integer) 3, intMax().reduceLeft(asList(1, 2, 3)));
+    }
+
+    @Test
+    public void stopsAtAbsorbingElement() {
+        assertTrue(intMax().isAbsorbing(Integer.MAX_VALUE));
+        assertFalse(intMax().isAbsorbing(0));
+        assertEquals((Integer) Integer.MAX_VALUE, intMax().reduceLeft(cons(1, repeat(Integer.MAX_VALUE))));
+    }
+}
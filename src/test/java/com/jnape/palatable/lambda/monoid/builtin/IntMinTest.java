@@ -0,0 +1,40 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
+import static com.jnape.palatable.lambda.iterators.IntIterable.ints;
+import static com.jnape.palatable.lambda.monoid.builtin.IntMin.intMin;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntMinTest {
+
+    @Test
+    public void identity() {
+        assertEquals(Integer.MAX_VALUE, intMin().identityAsInt());
+    }
+
+    @Test
+    public void monoid() {
+        assertEquals(1, intMin(1, 2));
+        assertEquals(1, intMin(2, 1));
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(1, intMin().foldMapAsInt(String::length, asList("a", "bb", "ccc")));
+        assertEquals(1, intMin().reduceLeftAsInt(ints(1, 2, 3)));
+        assertEquals((Integer) 1, intMin().reduceLeft(asList(1, 2, 3)));
+    }
+
+    @Test
+    public void stopsAtAbsorbingElement() {
+        assertTrue(intMin().isAbsorbing(Integer.MIN_VALUE));
+        assertFalse(intMin().isAbsorbing(0));
+        assertEquals((Integer) Integer.MIN_VALUE, intMin().reduceLeft(cons(1, repeat(Integer.MIN_VALUE))));
+    }
+}
@@ -0,0 +1,39 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
+import static com.jnape.palatable.lambda.iterators.IntIterable.ints;
+import static com.jnape.palatable.lambda.monoid.builtin.IntProduct.intProduct;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntProductTest {
+
+    @Test
+    public void identity() {
+        assertEquals(1, intProduct().identityAsInt());
+    }
+
+    @Test
+    public void monoid() {
+        assertEquals(6, intProduct(2, 3));
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(6, intProduct().foldMapAsInt(String::length, asList("a", "bb", "ccc")));
+        assertEquals(6, intProduct().reduceLeftAsInt(ints(1, 2, 3)));
+        assertEquals((Integer) 6, intProduct().reduceLeft(asList(1, 2, 3)));
+    }
+
+    @Test
+    public void stopsAtAbsorbingElement() {
+        assertTrue(intProduct().isAbsorbing(0));
+        assertFalse(intProduct().isAbsorbing(1));
+        assertEquals((Integer) 0, intProduct().reduceLeft(cons(2, repeat(0))));
+    }
+}
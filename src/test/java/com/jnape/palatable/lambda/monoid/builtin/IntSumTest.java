@@ -0,0 +1,28 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.iterators.IntIterable.ints;
+import static com.jnape.palatable.lambda.monoid.builtin.IntSum.intSum;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class IntSumTest {
+
+    @Test
+    public void identity() {
+        assertEquals(0, intSum().identityAsInt());
+    }
+
+    @Test
+    public void monoid() {
+        assertEquals(3, intSum(1, 2));
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(6, intSum().foldMapAsInt(String::length, asList("a", "bb", "ccc")));
+        assertEquals(6, intSum().reduceLeftAsInt(ints(1, 2, 3)));
+        assertEquals((Integer) 6, intSum().reduceLeft(asList(1, 2, 3)));
+    }
+}
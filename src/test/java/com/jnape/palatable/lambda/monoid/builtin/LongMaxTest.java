@@ -0,0 +1,40 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
+import static com.jnape.palatable.lambda.iterators.LongIterable.longs;
+import static com.jnape.palatable.lambda.monoid.builtin.LongMax.longMax;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LongMaxTest {
+
+    @Test
+    public void identity() {
+        assertEquals(Long.MIN_VALUE, longMax().identityAsLong());
+    }
+
+    @Test
+    public void monoid() {
+        assertEquals(2L, longMax(1L, 2L));
+        assertEquals(2L, longMax(2L, 1L));
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(3L, longMax().foldMapAsLong(String::length, asList("a", "bb", "ccc")));
+        assertEquals(3L, longMax().reduceLeftAsLong(longs(1L, 2L, 3L)));
+        assertEquals((Long) 3L, longMax().reduceLeft(asList(1L, 2L, 3L)));
+    }
+
+    @Test
+    public void stopsAtAbsorbingElement() {
+        assertTrue(longMax().isAbsorbing(Long.MAX_VALUE));
+        assertFalse(longMax().isAbsorbing(0L));
+        assertEquals((Long) Long.MAX_VALUE, longMax().reduceLeft(cons(1L, repeat(Long.MAX_VALUE))));
+    }
+}
@@ -0,0 +1,40 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
+import static com.jnape.palatable.lambda.iterators.LongIterable.longs;
+import static com.jnape.palatable.lambda.monoid.builtin.LongMin.longMin;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LongMinTest {
+
+    @Test
+    public void identity() {
+        assertEquals(Long.MAX_VALUE, longMin().identityAsLong());
+    }
+
+    @Test
+    public void monoid() {
+        assertEquals(1L, longMin(1L, 2L));
+        assertEquals(1L, longMin(2L, 1L));
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(1L, longMin().foldMapAsLong(String::length, asList("a", "bb", "ccc")));
+        assertEquals(1L, longMin().reduceLeftAsLong(longs(1L, 2L, 3L)));
+        assertEquals((Long) 1L, longMin().reduceLeft(asList(1L, 2L, 3L)));
+    }
+
+    @Test
+    public void stopsAtAbsorbingElement() {
+        assertTrue(longMin().isAbsorbing(Long.MIN_VALUE));
+        assertFalse(longMin().isAbsorbing(0L));
+        assertEquals((Long) Long.MIN_VALUE, longMin().reduceLeft(cons(1L, repeat(Long.MIN_VALUE))));
+    }
+}
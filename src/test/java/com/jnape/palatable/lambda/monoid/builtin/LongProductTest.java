@@ -0,0 +1,39 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
+import static com.jnape.palatable.lambda.iterators.LongIterable.longs;
+import static com.jnape.palatable.lambda.monoid.builtin.LongProduct.longProduct;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LongProductTest {
+
+    @Test
+    public void identity() {
+        assertEquals(1L, longProduct().identityAsLong());
+    }
+
+    @Test
+    public void monoid() {
+        assertEquals(6L, longProduct(2L, 3L));
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(6L, longProduct().foldMapAsLong(String::length, asList("a", "bb", "ccc")));
+        assertEquals(6L, longProduct().reduceLeftAsLong(longs(1L, 2L, 3L)));
+        assertEquals((Long) 6L, longProduct().reduceLeft(asList(1L, 2L, 3L)));
+    }
+
+    @Test
+    public void stopsAtAbsorbingElement() {
+        assertTrue(longProduct().isAbsorbing(0L));
+        assertFalse(longProduct().isAbsorbing(1L));
+        assertEquals((Long) 0L, longProduct().reduceLeft(cons(2L, repeat(0L))));
+    }
+}
@@ -0,0 +1,28 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.iterators.LongIterable.longs;
+import static com.jnape.palatable.lambda.monoid.builtin.LongSum.longSum;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class LongSumTest {
+
+    @Test
+    public void identity() {
+        assertEquals(0L, longSum().identityAsLong());
+    }
+
+    @Test
+    public void monoid() {
+        assertEquals(3L, longSum(1L, 2L));
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(6L, longSum().foldMapAsLong(String::length, asList("a", "bb", "ccc")));
+        assertEquals(6L, longSum().reduceLeftAsLong(longs(1L, 2L, 3L)));
+        assertEquals((Long) 6L, longSum().reduceLeft(asList(1L, 2L, 3L)));
+    }
+}
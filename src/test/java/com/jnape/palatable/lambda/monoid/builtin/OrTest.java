@@ -2,6 +2,8 @@ package com.jnape.palatable.lambda.monoid.builtin;
 
 import org.junit.Test;
 
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Cycle.cycle;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
 import static com.jnape.palatable.lambda.monoid.builtin.Or.or;
 import static org.junit.Assert.assertEquals;
 
@@ -20,4 +22,10 @@ public class OrTest {
         assertEquals(true, or.apply(false, true));
         assertEquals(false, or.apply(false, false));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void reductionStopsAtFirstTrue() {
+        assertEquals(true, or().reduceLeft(cycle(false, true)));
+        assertEquals(true, or().foldMap(x -> x > 3, iterate(x -> x + 1, 0)));
+    }
+}
@@ -1,11 +1,16 @@
 package testsupport;
 
+import com.jnape.palatable.lambda.iterators.ImmutableIterator;
 import org.mockito.stubbing.Answer;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
 
 import static java.util.Arrays.asList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 public class Mocking {
@@ -17,6 +22,38 @@ public class Mocking {
         return iterable;
     }
 
+    @SafeVarargs
+    public static <A> List<A> randomAccessListThatCannotBeIterated(A... as) {
+        List<A> list = spy(new ArrayList<>(asList(as)));
+        when(list.iterator()).thenThrow(new IllegalStateException("should not be using the iterator"));
+        return list;
+    }
+
+    @SafeVarargs
+    public static <A> ImmutableIterator<A> iteratorThatCanOnlyPush(A... as) {
+        return new ImmutableIterator<A>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                throw new IllegalStateException("should not be pulling from the iterator");
+            }
+
+            @Override
+            public A next() {
+                throw new IllegalStateException("should not be pulling from the iterator");
+            }
+
+            @Override
+            public boolean forEachRemainingWhile(Function<? super A, Boolean> action) {
+                while (index < as.length)
+                    if (!action.apply(as[index++]))
+                        return false;
+                return true;
+            }
+        };
+    }
+
     @SafeVarargs
     public static <T> void mockIteratorToHaveValues(Iterator iterator, T... values) {
         Iterator real = asList(values).iterator();
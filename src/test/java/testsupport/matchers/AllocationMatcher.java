@@ -0,0 +1,81 @@
+package testsupport.matchers;
+
+import com.sun.management.ThreadMXBean;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assume.assumeTrue;
+
+public class AllocationMatcher extends BaseMatcher<Runnable> {
+
+    private static final int WARMUP_RUNS     = 20_000;
+    private static final int MEASURED_RUNS   = 2_000;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private final long budget;
+    private       long allocated;
+
+    public AllocationMatcher(long budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    public boolean matches(Object item) {
+        if (!(item instanceof Runnable))
+            return false;
+
+        allocated = allocatedPerRun((Runnable) item);
+        return allocated <= budget;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("at most ").appendValue(budget).appendText(" bytes allocated per run");
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        description.appendText("allocated ").appendValue(allocated).appendText(" bytes per run");
+    }
+
+    public static long allocatedPerRun(Runnable runnable) {
+        ThreadMXBean threads = threadMXBean();
+        assumeTrue("thread allocation measurement is unsupported", threads != null);
+
+        for (int i = 0; i < WARMUP_RUNS; i++)
+            runnable.run();
+
+        long allocated = Long.MAX_VALUE;
+        long threadId = Thread.currentThread().getId();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_RUNS; i++)
+                runnable.run();
+            long after = threads.getThreadAllocatedBytes(threadId);
+            allocated = Math.min(allocated, (after - before) / MEASURED_RUNS);
+        }
+        return allocated;
+    }
+
+    private static ThreadMXBean threadMXBean() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof ThreadMXBean))
+            return null;
+
+        ThreadMXBean allocationTracking = (ThreadMXBean) threads;
+        if (!allocationTracking.isThreadAllocatedMemorySupported())
+            return null;
+        allocationTracking.setThreadAllocatedMemoryEnabled(true);
+        return allocationTracking;
+    }
+
+    public static AllocationMatcher allocatesAtMost(long bytesPerRun) {
+        return new AllocationMatcher(bytesPerRun);
+    }
+
+    public static AllocationMatcher allocatesAtMostAsMuchAs(Runnable reference) {
+        return new AllocationMatcher(allocatedPerRun(reference));
+    }
+}